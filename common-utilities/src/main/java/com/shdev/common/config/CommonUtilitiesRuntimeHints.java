@@ -0,0 +1,27 @@
+package com.shdev.common.config;
+
+import com.shdev.common.dto.ErrorResponseDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM native-image and Spring AOT runtime hints for common-utilities.
+ * <p>
+ * Registers Jackson binding hints for {@link ErrorResponseDto} (including its nested
+ * {@link ErrorResponseDto.ValidationError}) which is serialized by the global exception handler
+ * and the security error handlers. Contributed through {@code META-INF/spring/aot.factories},
+ * since this module has no auto-configuration of its own.
+ *
+ * @author Shailesh Halor
+ */
+public class CommonUtilitiesRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                ErrorResponseDto.class, ErrorResponseDto.ValidationError.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.shdev.common.config;
+
+import com.shdev.common.exception.ErrorFingerprintAggregator;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Provides the {@link ErrorFingerprintAggregator} shared by {@link com.shdev.common.exception.GlobalExceptionHandler}
+ * and any other component that logs through it. Registered as an auto-configuration, so it does not
+ * depend on the host scanning this package. Register your own bean to change the interval or bound.
+ *
+ * @author Shailesh Halor
+ */
+@AutoConfiguration
+public class ErrorAggregationConfiguration {
+
+    /**
+     * Provides the error aggregator with the default interval and bound if not already present,
+     * flushing closed intervals on its own daemon thread.
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public ErrorFingerprintAggregator errorFingerprintAggregator() {
+        return new ErrorFingerprintAggregator();
+    }
+}
@@ -5,6 +5,11 @@ import org.springframework.http.HttpStatus;
 
 /**
  * Base exception for all business exceptions in the application.
+ * <p>
+ * Expected business outcomes that are thrown at high rates can be created through the
+ * {@code lightweight} factories (here and on the subclasses). Those instances skip
+ * {@link Throwable#fillInStackTrace()} and carry an empty stack trace, which removes the
+ * dominant cost of throwing them.
  *
  * @author Shailesh Halor
  */
@@ -37,5 +42,41 @@ public class BusinessException extends RuntimeException {
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
     }
-}
 
+    /**
+     * Constructor for subclasses that control stack trace capture.
+     *
+     * @param errorCode          the error code
+     * @param message            the error message
+     * @param httpStatus         the HTTP status to respond with
+     * @param cause              the cause (may be null)
+     * @param writableStackTrace false to skip stack trace capture for expected errors
+     */
+    protected BusinessException(String errorCode, String message, HttpStatus httpStatus, Throwable cause,
+                                boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+    }
+
+    /**
+     * Create a business exception without a stack trace, for expected high-rate outcomes.
+     *
+     * @param errorCode  the error code
+     * @param message    the error message
+     * @param httpStatus the HTTP status to respond with
+     * @return a lightweight business exception
+     */
+    public static BusinessException lightweight(String errorCode, String message, HttpStatus httpStatus) {
+        return new BusinessException(errorCode, message, httpStatus, null, false);
+    }
+
+    /**
+     * Whether this instance was created without a stack trace.
+     *
+     * @return true if no stack trace was captured
+     */
+    public boolean isLightweight() {
+        return getStackTrace().length == 0;
+    }
+}
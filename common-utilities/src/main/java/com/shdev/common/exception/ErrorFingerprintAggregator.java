@@ -0,0 +1,254 @@
+package com.shdev.common.exception;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregates repeated errors by fingerprint so that only the first occurrence per interval
+ * is logged in full and repeats are summarized with a count.
+ * <p>
+ * A fingerprint is built from the exception class, the optional error code and the top stack
+ * frame. Messages are deliberately excluded because they usually carry request-specific ids.
+ * The number of tracked fingerprints is bounded; once the bound is reached, unknown fingerprints
+ * are always reported as {@link Decision#LOG_FULL}.
+ * <p>
+ * {@link #flush()} closes elapsed intervals without waiting for the next occurrence: repeats of a
+ * burst that has stopped are returned as a {@link Summary}, and fingerprints without repeats in
+ * the elapsed interval are evicted so that their slot is free again. {@link #start()} runs it once
+ * per interval on a daemon thread and logs the summaries; {@link #close()} stops it. A repeat
+ * recorded while its idle fingerprint is being evicted may go unreported.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+public class ErrorFingerprintAggregator implements AutoCloseable {
+
+    /**
+     * Default summary interval.
+     */
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * Default maximum number of tracked fingerprints.
+     */
+    public static final int DEFAULT_MAX_FINGERPRINTS = 1000;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final long intervalMillis;
+    private final int maxFingerprints;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public ErrorFingerprintAggregator() {
+        this(DEFAULT_INTERVAL, DEFAULT_MAX_FINGERPRINTS);
+    }
+
+    public ErrorFingerprintAggregator(Duration interval, int maxFingerprints) {
+        this(interval, maxFingerprints, Clock.systemUTC());
+    }
+
+    ErrorFingerprintAggregator(Duration interval, int maxFingerprints, Clock clock) {
+        this.intervalMillis = interval.toMillis();
+        this.maxFingerprints = maxFingerprints;
+        this.clock = clock;
+    }
+
+    /**
+     * Record an occurrence of the given exception.
+     *
+     * @param ex the exception
+     * @return the logging decision for this occurrence
+     */
+    public Decision record(Throwable ex) {
+        return record(fingerprint(ex));
+    }
+
+    /**
+     * Record an occurrence of the given fingerprint.
+     *
+     * @param fingerprint the error fingerprint
+     * @return the logging decision for this occurrence
+     */
+    public Decision record(String fingerprint) {
+        long now = clock.millis();
+        Window window = windows.get(fingerprint);
+        if (window == null) {
+            if (windows.size() >= maxFingerprints) {
+                return Decision.LOG_FULL;
+            }
+            Window existing = windows.putIfAbsent(fingerprint, new Window(now));
+            if (existing == null) {
+                return Decision.LOG_FULL;
+            }
+            window = existing;
+        }
+        return window.next(now, intervalMillis);
+    }
+
+    /**
+     * Build the fingerprint for an exception: class name, error code (for business exceptions)
+     * and the top stack frame when available.
+     *
+     * @param ex the exception
+     * @return the fingerprint
+     */
+    public static String fingerprint(Throwable ex) {
+        StringBuilder sb = new StringBuilder(ex.getClass().getName());
+        if (ex instanceof BusinessException be && be.getErrorCode() != null) {
+            sb.append('#').append(be.getErrorCode());
+        }
+        StackTraceElement[] trace = ex.getStackTrace();
+        if (trace.length > 0) {
+            sb.append('@').append(trace[0].getClassName())
+                    .append('.').append(trace[0].getMethodName())
+                    .append(':').append(trace[0].getLineNumber());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Close every elapsed interval: collect the repeats suppressed in it and evict fingerprints
+     * that did not repeat.
+     *
+     * @return summaries of the closed intervals with suppressed repeats
+     */
+    public List<Summary> flush() {
+        long now = clock.millis();
+        List<Summary> summaries = new ArrayList<>();
+        for (Map.Entry<String, Window> entry : windows.entrySet()) {
+            long repeats = entry.getValue().close(now, intervalMillis);
+            if (repeats > 0) {
+                summaries.add(new Summary(entry.getKey(), repeats));
+            } else if (repeats == 0) {
+                windows.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Flush and log summaries once per interval on a daemon thread.
+     */
+    public synchronized void start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "error-fingerprint-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::flushAndLog, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop the flush thread started by {@link #start()}.
+     */
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Number of tracked fingerprints.
+     *
+     * @return tracked fingerprint count
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    private void flushAndLog() {
+        try {
+            for (Summary summary : flush()) {
+                log.warn("Error {} repeated {} times in last interval", summary.fingerprint(), summary.suppressed());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Error fingerprint flush failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * Logging decision for a single occurrence.
+     *
+     * @param logFull    whether the occurrence should be logged in full (with stack trace)
+     * @param suppressed number of repeats suppressed in the interval that just closed; a positive
+     *                   value means a summary line should be logged
+     */
+    public record Decision(boolean logFull, long suppressed) {
+
+        /**
+         * First occurrence of a fingerprint: log in full.
+         */
+        public static final Decision LOG_FULL = new Decision(true, 0);
+
+        /**
+         * Repeat within the current interval: do not log.
+         */
+        public static final Decision SUPPRESS = new Decision(false, 0);
+
+        /**
+         * Whether a summary line should be logged for the closed interval.
+         *
+         * @return true if repeats were suppressed
+         */
+        public boolean logSummary() {
+            return suppressed > 0;
+        }
+    }
+
+    /**
+     * Repeats of a fingerprint suppressed in an interval closed by {@link #flush()}.
+     *
+     * @param fingerprint the error fingerprint
+     * @param suppressed  number of suppressed repeats
+     */
+    public record Summary(String fingerprint, long suppressed) {
+    }
+
+    /**
+     * Per-fingerprint interval state.
+     */
+    private static final class Window {
+
+        private final AtomicLong start;
+        private final AtomicLong repeats = new AtomicLong();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+
+        private Decision next(long now, long intervalMillis) {
+            long windowStart = start.get();
+            if (now - windowStart >= intervalMillis && start.compareAndSet(windowStart, now)) {
+                return new Decision(false, repeats.getAndSet(0) + 1);
+            }
+            repeats.incrementAndGet();
+            return Decision.SUPPRESS;
+        }
+
+        /**
+         * @return repeats of the closed interval, or -1 when the interval has not elapsed
+         */
+        private long close(long now, long intervalMillis) {
+            long windowStart = start.get();
+            if (now - windowStart >= intervalMillis && start.compareAndSet(windowStart, now)) {
+                return repeats.getAndSet(0);
+            }
+            return -1;
+        }
+    }
+}
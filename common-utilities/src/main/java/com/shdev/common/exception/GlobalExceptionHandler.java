@@ -3,6 +3,9 @@ package com.shdev.common.exception;
 import com.shdev.common.dto.ErrorResponseDto;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -18,19 +21,63 @@ import java.util.stream.Collectors;
 /**
  * Global exception handler for all REST controllers.
  * Converts exceptions into standardized error responses.
+ * <p>
+ * Logging goes through an {@link ErrorFingerprintAggregator}: the first occurrence of an error
+ * fingerprint is logged in full, repeats within the interval are counted and summarized once
+ * the interval closes. The aggregator is the shared bean from {@link com.shdev.common.config.ErrorAggregationConfiguration}
+ * when one exists; otherwise the handler starts its own default aggregator and stops it on shutdown.
  *
  * @author Shailesh Halor
  */
 @Slf4j
 @RestControllerAdvice
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler implements DisposableBean {
+
+    private final ErrorFingerprintAggregator errorAggregator;
+    private final ErrorFingerprintAggregator ownedAggregator;
+
+    public GlobalExceptionHandler() {
+        this(startDefaultAggregator(), true);
+    }
+
+    @Autowired
+    public GlobalExceptionHandler(ObjectProvider<ErrorFingerprintAggregator> errorAggregator) {
+        ErrorFingerprintAggregator shared = errorAggregator.getIfAvailable();
+        this.errorAggregator = shared != null ? shared : startDefaultAggregator();
+        this.ownedAggregator = shared != null ? null : this.errorAggregator;
+    }
+
+    public GlobalExceptionHandler(ErrorFingerprintAggregator errorAggregator) {
+        this(errorAggregator, false);
+    }
+
+    private GlobalExceptionHandler(ErrorFingerprintAggregator errorAggregator, boolean owned) {
+        this.errorAggregator = errorAggregator;
+        this.ownedAggregator = owned ? errorAggregator : null;
+    }
+
+    /**
+     * Stop the default aggregator started by this handler; a shared aggregator is left to its owner.
+     */
+    @Override
+    public void destroy() {
+        if (ownedAggregator != null) {
+            ownedAggregator.close();
+        }
+    }
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponseDto> handleBusinessException(
             BusinessException ex,
             WebRequest request) {
 
-        log.warn("Business exception: {} - {}", ex.getErrorCode(), ex.getMessage());
+        ErrorFingerprintAggregator.Decision decision = errorAggregator.record(ex);
+        if (decision.logFull()) {
+            log.warn("Business exception: {} - {}", ex.getErrorCode(), ex.getMessage());
+        } else if (decision.logSummary()) {
+            log.warn("Business exception: {} - {} (repeated {} times in last interval)",
+                    ex.getErrorCode(), ex.getMessage(), decision.suppressed());
+        }
 
         ErrorResponseDto errorResponse = ErrorResponseDto.builder()
                 .timestamp(Instant.now())
@@ -79,7 +126,13 @@ public class GlobalExceptionHandler {
             Exception ex,
             WebRequest request) {
 
-        log.error("Unexpected exception occurred", ex);
+        ErrorFingerprintAggregator.Decision decision = errorAggregator.record(ex);
+        if (decision.logFull()) {
+            log.error("Unexpected exception occurred", ex);
+        } else if (decision.logSummary()) {
+            log.error("Unexpected exception occurred: {} (repeated {} times in last interval, fingerprint {})",
+                    ex.toString(), decision.suppressed(), ErrorFingerprintAggregator.fingerprint(ex));
+        }
 
         ErrorResponseDto errorResponse = ErrorResponseDto.builder()
                 .timestamp(Instant.now())
@@ -93,6 +146,12 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    private static ErrorFingerprintAggregator startDefaultAggregator() {
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator();
+        aggregator.start();
+        return aggregator;
+    }
+
     private String getRequestPath(WebRequest request) {
         if (request instanceof ServletWebRequest) {
             HttpServletRequest httpRequest = ((ServletWebRequest) request).getRequest();
@@ -16,5 +16,19 @@ public class ResourceNotFoundException extends BusinessException {
     public ResourceNotFoundException(String errorCode, String message, Throwable cause) {
         super(errorCode, message, HttpStatus.NOT_FOUND, cause);
     }
-}
 
+    private ResourceNotFoundException(String errorCode, String message, boolean writableStackTrace) {
+        super(errorCode, message, HttpStatus.NOT_FOUND, null, writableStackTrace);
+    }
+
+    /**
+     * Create a not-found exception without a stack trace, for expected high-rate outcomes.
+     *
+     * @param errorCode the error code
+     * @param message   the error message
+     * @return a lightweight not-found exception
+     */
+    public static ResourceNotFoundException lightweight(String errorCode, String message) {
+        return new ResourceNotFoundException(errorCode, message, false);
+    }
+}
@@ -16,5 +16,19 @@ public class ValidationException extends BusinessException {
     public ValidationException(String errorCode, String message, Throwable cause) {
         super(errorCode, message, HttpStatus.BAD_REQUEST, cause);
     }
-}
 
+    private ValidationException(String errorCode, String message, boolean writableStackTrace) {
+        super(errorCode, message, HttpStatus.BAD_REQUEST, null, writableStackTrace);
+    }
+
+    /**
+     * Create a validation exception without a stack trace, for expected high-rate outcomes.
+     *
+     * @param errorCode the error code
+     * @param message   the error message
+     * @return a lightweight validation exception
+     */
+    public static ValidationException lightweight(String errorCode, String message) {
+        return new ValidationException(errorCode, message, false);
+    }
+}
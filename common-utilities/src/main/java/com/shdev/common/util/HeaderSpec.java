@@ -0,0 +1,195 @@
+package com.shdev.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable header requirement specification, compiled once from configuration and validated
+ * directly against an {@link HttpServletRequest} in a single pass.
+ * <p>
+ * Each header rule declares whether the header is required, an optional maximum length and an
+ * optional allowed pattern. When all rules pass, {@link #validate(HttpServletRequest)} returns the
+ * shared {@link Result#VALID} instance and allocates nothing (unless a pattern rule is configured,
+ * which needs a {@link java.util.regex.Matcher} per check).
+ *
+ * <pre>
+ *     HeaderSpec spec = HeaderSpec.builder()
+ *             .required(HeaderConstants.ATRADIUS_ORIGIN_SERVICE)
+ *             .header(HeaderConstants.ATRADIUS_ORIGIN_USER, true, 20, "[A-Za-z0-9._-]+")
+ *             .optional(HeaderConstants.OAUTH_IDENTITY_DOMAIN_NAME)
+ *             .build();
+ *
+ *     HeaderSpec.Result result = spec.validate(request);
+ *     if (!result.isValid()) { ... result.missing() ... result.invalid() ... }
+ * </pre>
+ *
+ * @author Shailesh Halor
+ */
+public final class HeaderSpec {
+
+    private final Rule[] rules;
+
+    private HeaderSpec(List<Rule> rules) {
+        this.rules = rules.toArray(new Rule[0]);
+    }
+
+    /**
+     * Create a new builder.
+     *
+     * @return a new header spec builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validate all header rules against the request in one pass.
+     *
+     * @param request the HTTP request
+     * @return {@link Result#VALID} when all rules pass, otherwise a result listing the failures
+     */
+    public Result validate(HttpServletRequest request) {
+        List<String> missing = null;
+        List<String> invalid = null;
+        for (Rule rule : rules) {
+            String value = request.getHeader(rule.name());
+            if (!StringUtils.hasText(value)) {
+                if (rule.required()) {
+                    if (missing == null) {
+                        missing = new ArrayList<>(rules.length);
+                    }
+                    missing.add(rule.name());
+                }
+                continue;
+            }
+            if (!rule.accepts(value)) {
+                if (invalid == null) {
+                    invalid = new ArrayList<>(rules.length);
+                }
+                invalid.add(rule.name());
+            }
+        }
+        if (missing == null && invalid == null) {
+            return Result.VALID;
+        }
+        return new Result(
+                missing == null ? List.of() : List.copyOf(missing),
+                invalid == null ? List.of() : List.copyOf(invalid));
+    }
+
+    /**
+     * Names of all headers covered by this spec, in declaration order.
+     *
+     * @return header names
+     */
+    public List<String> headerNames() {
+        List<String> names = new ArrayList<>(rules.length);
+        for (Rule rule : rules) {
+            names.add(rule.name());
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Outcome of a header validation.
+     *
+     * @param missing names of required headers that are absent or blank
+     * @param invalid names of present headers that exceed the max length or do not match the pattern
+     */
+    public record Result(List<String> missing, List<String> invalid) {
+
+        /**
+         * Shared result returned when all rules pass.
+         */
+        public static final Result VALID = new Result(List.of(), List.of());
+
+        /**
+         * Whether all rules passed.
+         *
+         * @return true if no header is missing or invalid
+         */
+        public boolean isValid() {
+            return missing.isEmpty() && invalid.isEmpty();
+        }
+    }
+
+    /**
+     * Compiled rule for a single header.
+     *
+     * @param name      the header name
+     * @param required  whether the header must be present and non-blank
+     * @param maxLength the maximum accepted length, or 0 for no limit
+     * @param pattern   the allowed value pattern, or null for any value
+     */
+    private record Rule(String name, boolean required, int maxLength, Pattern pattern) {
+
+        private boolean accepts(String value) {
+            if (maxLength > 0 && value.length() > maxLength) {
+                return false;
+            }
+            return pattern == null || pattern.matcher(value).matches();
+        }
+    }
+
+    /**
+     * Builder collecting header rules; the resulting spec is immutable and thread-safe.
+     */
+    public static final class Builder {
+
+        private final List<Rule> rules = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a required header without length or pattern constraints.
+         *
+         * @param name the header name
+         * @return this builder
+         */
+        public Builder required(String name) {
+            return header(name, true, 0, null);
+        }
+
+        /**
+         * Add an optional header without length or pattern constraints.
+         *
+         * @param name the header name
+         * @return this builder
+         */
+        public Builder optional(String name) {
+            return header(name, false, 0, null);
+        }
+
+        /**
+         * Add a header rule.
+         *
+         * @param name      the header name
+         * @param required  whether the header must be present and non-blank
+         * @param maxLength the maximum accepted length, or 0 for no limit
+         * @param pattern   the allowed value regular expression, or null/blank for any value
+         * @return this builder
+         */
+        public Builder header(String name, boolean required, int maxLength, String pattern) {
+            if (!StringUtils.hasText(name)) {
+                throw new IllegalArgumentException("Header name must not be blank");
+            }
+            Pattern compiled = StringUtils.hasText(pattern) ? Pattern.compile(pattern) : null;
+            rules.add(new Rule(name, required, Math.max(0, maxLength), compiled));
+            return this;
+        }
+
+        /**
+         * Build the immutable spec.
+         *
+         * @return the compiled header spec
+         */
+        public HeaderSpec build() {
+            return new HeaderSpec(rules);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.shdev.common.util;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Utility class for validating HTTP headers.
@@ -35,20 +37,37 @@ public final class HeaderValidator {
 
     /**
      * Validate multiple required headers.
+     * Prefer {@link #validate(HttpServletRequest, HeaderSpec)} on hot paths, which avoids
+     * building the header map.
      *
      * @param headers map of header names to values
-     * @return list of missing header names (empty if all valid)
+     * @return mutable list of missing header names (empty if all valid)
      */
-    public static List<String> validateRequired(java.util.Map<String, String> headers) {
-        List<String> missing = new ArrayList<>();
-        headers.forEach((name, value) -> {
-            if (!StringUtils.hasText(value)) {
-                missing.add(name);
+    public static List<String> validateRequired(Map<String, String> headers) {
+        List<String> missing = new ArrayList<>(0);
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (!StringUtils.hasText(header.getValue())) {
+                missing.add(header.getKey());
             }
-        });
+        }
         return missing;
     }
 
+    /**
+     * Validate request headers against a precompiled spec in one pass.
+     *
+     * @param request the HTTP request
+     * @param spec    the compiled header spec
+     * @return the shared valid result, or a result listing missing and invalid headers
+     */
+    public static HeaderSpec.Result validate(HttpServletRequest request, HeaderSpec spec) {
+        HeaderSpec.Result result = spec.validate(request);
+        if (!result.isValid()) {
+            log.debug("Header validation failed: missing={}, invalid={}", result.missing(), result.invalid());
+        }
+        return result;
+    }
+
     /**
      * Extract Bearer token from Authorization header.
      *
@@ -2,11 +2,18 @@ package com.shdev.common.util;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * Utility class for type conversions and safe casting.
+ * <p>
+ * Numeric parsing works directly on {@link CharSequence} and never throws: invalid input yields an
+ * empty optional or the caller-supplied default. Conversion failures are logged at debug level without
+ * stack traces, so malformed input costs nothing unless debug logging is enabled.
  *
  * @author Shailesh Halor
  */
@@ -30,12 +37,13 @@ public final class TypeConversionUtil {
         if (obj instanceof Number) {
             return ((Number) obj).longValue();
         }
-        try {
-            return Long.parseLong(obj.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Failed to convert {} to Long", obj, e);
+        CharSequence text = obj instanceof CharSequence cs ? cs : obj.toString();
+        long value = parse(text, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && !isParsable(text, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            logConversionFailure("Long", obj);
             return null;
         }
+        return value;
     }
 
     /**
@@ -51,12 +59,142 @@ public final class TypeConversionUtil {
         if (obj instanceof Number) {
             return ((Number) obj).intValue();
         }
-        try {
-            return Integer.parseInt(obj.toString());
-        } catch (NumberFormatException e) {
-            log.warn("Failed to convert {} to Integer", obj, e);
+        CharSequence text = obj instanceof CharSequence cs ? cs : obj.toString();
+        long value = parse(text, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE) {
+            logConversionFailure("Integer", obj);
             return null;
         }
+        return (int) value;
+    }
+
+    /**
+     * Parse a decimal long without throwing.
+     *
+     * @param text the characters to parse (optional leading sign, decimal digits only)
+     * @return the parsed value, or empty if the input is null, malformed or out of range
+     */
+    public static OptionalLong parseLong(CharSequence text) {
+        long value = parse(text, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+        if (value == Long.MIN_VALUE && !isParsable(text, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(value);
+    }
+
+    /**
+     * Parse a decimal long without throwing or allocating.
+     *
+     * @param text         the characters to parse (optional leading sign, decimal digits only)
+     * @param defaultValue the value returned when the input is null, malformed or out of range
+     * @return the parsed value or {@code defaultValue}
+     */
+    public static long parseLong(CharSequence text, long defaultValue) {
+        return parse(text, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parse a decimal int without throwing.
+     *
+     * @param text the characters to parse (optional leading sign, decimal digits only)
+     * @return the parsed value, or empty if the input is null, malformed or out of range
+     */
+    public static OptionalInt parseInt(CharSequence text) {
+        long value = parse(text, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+        return value == Long.MIN_VALUE ? OptionalInt.empty() : OptionalInt.of((int) value);
+    }
+
+    /**
+     * Parse a decimal int without throwing or allocating.
+     *
+     * @param text         the characters to parse (optional leading sign, decimal digits only)
+     * @param defaultValue the value returned when the input is null, malformed or out of range
+     * @return the parsed value or {@code defaultValue}
+     */
+    public static int parseInt(CharSequence text, int defaultValue) {
+        long value = parse(text, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+        return value == Long.MIN_VALUE ? defaultValue : (int) value;
+    }
+
+    /**
+     * Convert a column of loosely typed values to a primitive long array.
+     * Numbers are narrowed with {@link Number#longValue()}, other values are parsed from their text.
+     *
+     * @param values       the values to convert (null treated as empty)
+     * @param missingValue the value stored for null or unconvertible elements
+     * @return a new array with one element per input value
+     */
+    public static long[] toLongArray(List<?> values, long missingValue) {
+        if (values == null) {
+            return new long[0];
+        }
+        long[] result = new long[values.size()];
+        int failures = 0;
+        int i = 0;
+        for (Object value : values) {
+            result[i] = toLongElement(value, missingValue);
+            if (result[i] == missingValue && value != null && isUnconvertible(value, Long.MIN_VALUE, Long.MAX_VALUE)) {
+                failures++;
+            }
+            i++;
+        }
+        logBulkConversionFailures("long[]", failures);
+        return result;
+    }
+
+    /**
+     * Convert a column of loosely typed values to a primitive long array.
+     *
+     * @param values       the values to convert (null treated as empty)
+     * @param missingValue the value stored for null or unconvertible elements
+     * @return a new array with one element per input value
+     * @see #toLongArray(List, long)
+     */
+    public static long[] toLongArray(Object[] values, long missingValue) {
+        return values == null ? new long[0] : toLongArray(Arrays.asList(values), missingValue);
+    }
+
+    /**
+     * Convert a column of loosely typed values to a primitive int array.
+     * Numbers are narrowed with {@link Number#intValue()}, other values are parsed from their text.
+     *
+     * @param values       the values to convert (null treated as empty)
+     * @param missingValue the value stored for null or unconvertible elements
+     * @return a new array with one element per input value
+     */
+    public static int[] toIntArray(List<?> values, int missingValue) {
+        if (values == null) {
+            return new int[0];
+        }
+        int[] result = new int[values.size()];
+        int failures = 0;
+        int i = 0;
+        for (Object value : values) {
+            long converted = toIntElement(value);
+            if (converted == Long.MIN_VALUE) {
+                result[i] = missingValue;
+                if (value != null) {
+                    failures++;
+                }
+            } else {
+                result[i] = (int) converted;
+            }
+            i++;
+        }
+        logBulkConversionFailures("int[]", failures);
+        return result;
+    }
+
+    /**
+     * Convert a column of loosely typed values to a primitive int array.
+     *
+     * @param values       the values to convert (null treated as empty)
+     * @param missingValue the value stored for null or unconvertible elements
+     * @return a new array with one element per input value
+     * @see #toIntArray(List, int)
+     */
+    public static int[] toIntArray(Object[] values, int missingValue) {
+        return values == null ? new int[0] : toIntArray(Arrays.asList(values), missingValue);
     }
 
     /**
@@ -103,5 +241,98 @@ public final class TypeConversionUtil {
         log.warn("Failed to convert {} to Map", obj.getClass());
         return Map.of();
     }
-}
 
+    private static long toLongElement(Object value, long missingValue) {
+        if (value == null) {
+            return missingValue;
+        }
+        if (value instanceof Number n) {
+            return n.longValue();
+        }
+        return parse(value instanceof CharSequence cs ? cs : value.toString(), Long.MIN_VALUE, Long.MAX_VALUE, missingValue);
+    }
+
+    /**
+     * Convert one element to an int, returning {@link Long#MIN_VALUE} when missing or unconvertible.
+     */
+    private static long toIntElement(Object value) {
+        if (value == null) {
+            return Long.MIN_VALUE;
+        }
+        if (value instanceof Number n) {
+            return n.intValue();
+        }
+        return parse(value instanceof CharSequence cs ? cs : value.toString(), Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+    }
+
+    private static boolean isUnconvertible(Object value, long min, long max) {
+        return !(value instanceof Number) && !isParsable(value instanceof CharSequence cs ? cs : value.toString(), min, max);
+    }
+
+    /**
+     * Distinguish a parsed value that equals the failure sentinel from a real failure:
+     * an unparsable input returns the supplied default for both probes.
+     */
+    private static boolean isParsable(CharSequence text, long min, long max) {
+        return parse(text, min, max, 0L) != 0L || parse(text, min, max, 1L) != 1L;
+    }
+
+    /**
+     * Exception-free decimal parser with the same accepted syntax as {@link Long#parseLong(String)}:
+     * an optional leading sign followed by at least one digit, with overflow checked against the bounds.
+     * Accumulates negatively so that {@code min} can be represented.
+     *
+     * @param text         the characters to parse
+     * @param min          the smallest accepted value
+     * @param max          the largest accepted value
+     * @param defaultValue the value returned on any failure
+     * @return the parsed value or {@code defaultValue}
+     */
+    private static long parse(CharSequence text, long min, long max, long defaultValue) {
+        if (text == null) {
+            return defaultValue;
+        }
+        int length = text.length();
+        if (length == 0) {
+            return defaultValue;
+        }
+        int i = 0;
+        boolean negative = false;
+        long limit = -max;
+        char first = text.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return defaultValue;
+            }
+            if (first == '-') {
+                negative = true;
+                limit = min;
+            }
+            i = 1;
+        }
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(text.charAt(i), 10);
+            if (digit < 0 || result < multiplyMin) {
+                return defaultValue;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static void logConversionFailure(String targetType, Object value) {
+        log.debug("Failed to convert {} to {}", value, targetType);
+    }
+
+    private static void logBulkConversionFailures(String targetType, int failures) {
+        if (failures > 0) {
+            log.debug("Failed to convert {} values to {}", failures, targetType);
+        }
+    }
+}
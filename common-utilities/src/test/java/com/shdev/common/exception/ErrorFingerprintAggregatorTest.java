@@ -0,0 +1,183 @@
+package com.shdev.common.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ErrorFingerprintAggregator} and the lightweight business exception factories.
+ */
+@DisplayName("ErrorFingerprintAggregator unit tests")
+class ErrorFingerprintAggregatorTest {
+
+    /**
+     * Test: first occurrence is logged in full, repeats are suppressed
+     * Given: A fresh aggregator
+     * When: The same fingerprint is recorded three times within one interval
+     * Then: First decision is LOG_FULL, the others are SUPPRESS
+     */
+    @Test
+    @DisplayName("record: logs first occurrence in full and suppresses repeats")
+    void record_firstFull_repeatsSuppressed() {
+        MutableClock clock = new MutableClock();
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofSeconds(60), 10, clock);
+
+        assertThat(aggregator.record("fp")).isEqualTo(ErrorFingerprintAggregator.Decision.LOG_FULL);
+        assertThat(aggregator.record("fp")).isEqualTo(ErrorFingerprintAggregator.Decision.SUPPRESS);
+        assertThat(aggregator.record("fp")).isEqualTo(ErrorFingerprintAggregator.Decision.SUPPRESS);
+    }
+
+    /**
+     * Test: repeats are summarized when the interval closes
+     * Given: A fingerprint with two suppressed repeats
+     * When: The interval elapses and the fingerprint occurs again
+     * Then: The decision carries a summary count including the current occurrence
+     */
+    @Test
+    @DisplayName("record: summarizes repeat count when the interval closes")
+    void record_intervalElapsed_returnsSummary() {
+        MutableClock clock = new MutableClock();
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofSeconds(60), 10, clock);
+        aggregator.record("fp");
+        aggregator.record("fp");
+        aggregator.record("fp");
+
+        clock.advance(Duration.ofSeconds(61));
+        ErrorFingerprintAggregator.Decision decision = aggregator.record("fp");
+
+        assertThat(decision.logFull()).isFalse();
+        assertThat(decision.logSummary()).isTrue();
+        assertThat(decision.suppressed()).isEqualTo(3);
+        assertThat(aggregator.record("fp")).isEqualTo(ErrorFingerprintAggregator.Decision.SUPPRESS);
+    }
+
+    /**
+     * Test: tracking is bounded
+     * Given: An aggregator that tracks at most one fingerprint
+     * When: A second distinct fingerprint repeats
+     * Then: Every occurrence of the untracked fingerprint is logged in full
+     */
+    @Test
+    @DisplayName("record: logs untracked fingerprints in full once the bound is reached")
+    void record_boundReached_logsFull() {
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofSeconds(60), 1, new MutableClock());
+        aggregator.record("a");
+
+        assertThat(aggregator.record("b").logFull()).isTrue();
+        assertThat(aggregator.record("b").logFull()).isTrue();
+    }
+
+    /**
+     * Test: flush summarizes a burst that has stopped
+     * Given: A fingerprint with two suppressed repeats and no further occurrence
+     * When: The interval elapses and flush is called
+     * Then: One summary with the two repeats is returned; the next flush returns nothing
+     */
+    @Test
+    @DisplayName("flush: summarizes repeats of closed intervals without a new occurrence")
+    void flush_closedInterval_returnsSummary() {
+        MutableClock clock = new MutableClock();
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofSeconds(60), 10, clock);
+        aggregator.record("fp");
+        aggregator.record("fp");
+        aggregator.record("fp");
+
+        assertThat(aggregator.flush()).isEmpty();
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(aggregator.flush()).containsExactly(new ErrorFingerprintAggregator.Summary("fp", 2));
+        assertThat(aggregator.flush()).isEmpty();
+    }
+
+    /**
+     * Test: idle fingerprints are evicted and free their slot
+     * Given: An aggregator that tracks at most one fingerprint, holding one without repeats
+     * When: The interval elapses, flush is called and a new fingerprint repeats
+     * Then: The idle fingerprint is evicted and the new one is tracked and suppressed
+     */
+    @Test
+    @DisplayName("flush: evicts idle fingerprints")
+    void flush_idleFingerprint_evicted() {
+        MutableClock clock = new MutableClock();
+        ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofSeconds(60), 1, clock);
+        aggregator.record("a");
+
+        clock.advance(Duration.ofSeconds(61));
+        assertThat(aggregator.flush()).isEmpty();
+
+        assertThat(aggregator.size()).isZero();
+        assertThat(aggregator.record("b").logFull()).isTrue();
+        assertThat(aggregator.record("b")).isEqualTo(ErrorFingerprintAggregator.Decision.SUPPRESS);
+    }
+
+    /**
+     * Test: fingerprint ignores the message and includes the error code
+     * Given: Two business exceptions thrown from the same line with different messages
+     * When: fingerprint is called
+     * Then: Both produce the same fingerprint containing the error code
+     */
+    @Test
+    @DisplayName("fingerprint: ignores message and includes error code")
+    void fingerprint_ignoresMessage() {
+        String first = null;
+        for (int i = 0; i < 2; i++) {
+            BusinessException ex = new BusinessException("order_not_payable", "Order " + i + " is not payable");
+            String fingerprint = ErrorFingerprintAggregator.fingerprint(ex);
+            if (first == null) {
+                first = fingerprint;
+            }
+            assertThat(fingerprint).isEqualTo(first).contains("#order_not_payable");
+        }
+    }
+
+    /**
+     * Test: lightweight factories skip stack trace capture
+     * Given: Lightweight validation and not-found exceptions
+     * When: They are created
+     * Then: They have no stack trace and keep their HTTP status
+     */
+    @Test
+    @DisplayName("lightweight: creates exceptions without stack trace")
+    void lightweight_hasNoStackTrace() {
+        ValidationException validation = ValidationException.lightweight("invalid", "Invalid input");
+        ResourceNotFoundException notFound = ResourceNotFoundException.lightweight("missing", "Not found");
+
+        assertThat(validation.getStackTrace()).isEmpty();
+        assertThat(validation.isLightweight()).isTrue();
+        assertThat(validation.getHttpStatus().value()).isEqualTo(400);
+        assertThat(notFound.getStackTrace()).isEmpty();
+        assertThat(notFound.getHttpStatus().value()).isEqualTo(404);
+        assertThat(new ValidationException("invalid", "Invalid input").isLightweight()).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
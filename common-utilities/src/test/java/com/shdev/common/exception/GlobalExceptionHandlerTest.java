@@ -0,0 +1,87 @@
+package com.shdev.common.exception;
+
+import com.shdev.common.config.ErrorAggregationConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link GlobalExceptionHandler} wiring with and without the shared aggregator bean.
+ */
+@DisplayName("GlobalExceptionHandler unit tests")
+class GlobalExceptionHandlerTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withBean(GlobalExceptionHandler.class);
+
+    /**
+     * Test: the auto-configuration provides the shared aggregator
+     * Given: ErrorAggregationConfiguration registered as an auto-configuration
+     * When: The context starts with the handler
+     * Then: The handler starts and exactly one aggregator bean exists
+     */
+    @Test
+    @DisplayName("context: uses the auto-configured aggregator")
+    void context_autoConfiguredAggregator() {
+        runner.withConfiguration(AutoConfigurations.of(ErrorAggregationConfiguration.class))
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).hasSingleBean(ErrorFingerprintAggregator.class);
+                });
+    }
+
+    /**
+     * Test: a host-provided aggregator replaces the default one
+     * Given: A host configuration declaring its own aggregator
+     * When: The context starts with the auto-configuration
+     * Then: Only the host aggregator is registered
+     */
+    @Test
+    @DisplayName("context: backs off for a host aggregator")
+    void context_hostAggregator() {
+        runner.withConfiguration(AutoConfigurations.of(ErrorAggregationConfiguration.class))
+                .withUserConfiguration(HostAggregatorConfig.class)
+                .run(context -> assertThat(context).getBean(ErrorFingerprintAggregator.class)
+                        .isSameAs(context.getBean(HostAggregatorConfig.class).aggregator));
+    }
+
+    /**
+     * Test: the handler starts when only its package is scanned
+     * Given: A context without ErrorAggregationConfiguration
+     * When: A business exception is handled
+     * Then: The context starts and the handler responds with the exception status
+     */
+    @Test
+    @DisplayName("context: starts without an aggregator bean")
+    void context_withoutAggregatorBean() {
+        runner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).doesNotHaveBean(ErrorFingerprintAggregator.class);
+            assertThat(context.getBean(GlobalExceptionHandler.class)
+                    .handleBusinessException(ResourceNotFoundException.lightweight("not_found", "Not found"),
+                            new ServletWebRequest(new MockHttpServletRequest()))
+                    .getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class HostAggregatorConfig {
+
+        final ErrorFingerprintAggregator aggregator = new ErrorFingerprintAggregator(Duration.ofMinutes(5), 10);
+
+        @Bean
+        ErrorFingerprintAggregator errorFingerprintAggregator() {
+            return aggregator;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.shdev.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HeaderSpec} verifying single-pass header validation.
+ */
+@DisplayName("HeaderSpec unit tests")
+class HeaderSpecTest {
+
+    private static final HeaderSpec SPEC = HeaderSpec.builder()
+            .required("X-Service")
+            .header("X-User", true, 5, "[a-z]+")
+            .optional("X-Domain")
+            .build();
+
+    /**
+     * Test: valid request returns the shared result
+     * Given: A request with all required headers within constraints
+     * When: validate is called
+     * Then: Returns Result.VALID
+     */
+    @Test
+    @DisplayName("validate: returns shared VALID result when all rules pass")
+    void validate_allValid() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Service", "orders");
+        request.addHeader("X-User", "alice");
+
+        assertThat(SPEC.validate(request)).isSameAs(HeaderSpec.Result.VALID);
+    }
+
+    /**
+     * Test: missing and invalid headers are reported separately
+     * Given: A request without X-Service and with an X-User value that is too long
+     * When: validate is called
+     * Then: X-Service is missing and X-User is invalid
+     */
+    @Test
+    @DisplayName("validate: reports missing and invalid headers")
+    void validate_missingAndInvalid() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User", "toolongname");
+
+        HeaderSpec.Result result = SPEC.validate(request);
+
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.missing()).containsExactly("X-Service");
+        assertThat(result.invalid()).containsExactly("X-User");
+    }
+
+    /**
+     * Test: pattern is applied to present values only
+     * Given: A request whose X-User does not match the pattern
+     * When: validate is called
+     * Then: X-User is reported invalid, optional absent headers are ignored
+     */
+    @Test
+    @DisplayName("validate: applies pattern and ignores absent optional headers")
+    void validate_patternMismatch() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Service", "orders");
+        request.addHeader("X-User", "AB1");
+
+        HeaderSpec.Result result = HeaderValidator.validate(request, SPEC);
+
+        assertThat(result.missing()).isEmpty();
+        assertThat(result.invalid()).containsExactly("X-User");
+        assertThat(SPEC.headerNames()).containsExactly("X-Service", "X-User", "X-Domain");
+    }
+
+    /**
+     * Test: blank header names are rejected at build time
+     * Given: A builder
+     * When: A blank header name is added
+     * Then: IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("builder: rejects blank header names")
+    void builder_blankName() {
+        assertThatThrownBy(() -> HeaderSpec.builder().required(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.shdev.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TypeConversionUtil} verifying exception-free numeric parsing
+ * and bulk column conversion.
+ */
+@DisplayName("TypeConversionUtil unit tests")
+class TypeConversionUtilTest {
+
+    /**
+     * Test: parseLong accepts the same syntax as Long.parseLong
+     * Given: Signed, unsigned and boundary inputs
+     * When: parseLong is called
+     * Then: Returns the parsed values including Long.MIN_VALUE and Long.MAX_VALUE
+     */
+    @Test
+    @DisplayName("parseLong: parses signed values and boundaries")
+    void parseLong_validInput() {
+        assertThat(TypeConversionUtil.parseLong("42")).isEqualTo(OptionalLong.of(42));
+        assertThat(TypeConversionUtil.parseLong("+7")).isEqualTo(OptionalLong.of(7));
+        assertThat(TypeConversionUtil.parseLong("-15")).isEqualTo(OptionalLong.of(-15));
+        assertThat(TypeConversionUtil.parseLong(String.valueOf(Long.MAX_VALUE))).isEqualTo(OptionalLong.of(Long.MAX_VALUE));
+        assertThat(TypeConversionUtil.parseLong(String.valueOf(Long.MIN_VALUE))).isEqualTo(OptionalLong.of(Long.MIN_VALUE));
+        assertThat(TypeConversionUtil.parseLong(new StringBuilder("123"), -1L)).isEqualTo(123L);
+    }
+
+    /**
+     * Test: parseLong rejects malformed and overflowing input without throwing
+     * Given: Null, empty, sign-only, non-digit and overflowing inputs
+     * When: parseLong is called
+     * Then: Returns empty or the supplied default
+     */
+    @Test
+    @DisplayName("parseLong: returns empty or default for invalid input")
+    void parseLong_invalidInput() {
+        assertThat(TypeConversionUtil.parseLong(null)).isEmpty();
+        assertThat(TypeConversionUtil.parseLong("")).isEmpty();
+        assertThat(TypeConversionUtil.parseLong("-")).isEmpty();
+        assertThat(TypeConversionUtil.parseLong(" 1")).isEmpty();
+        assertThat(TypeConversionUtil.parseLong("12a")).isEmpty();
+        assertThat(TypeConversionUtil.parseLong("9223372036854775808")).isEmpty();
+        assertThat(TypeConversionUtil.parseLong("abc", -1L)).isEqualTo(-1L);
+    }
+
+    /**
+     * Test: parseInt enforces int range
+     * Given: Values inside and outside the int range
+     * When: parseInt is called
+     * Then: Returns the value or empty/default on overflow
+     */
+    @Test
+    @DisplayName("parseInt: parses int range and rejects overflow")
+    void parseInt_range() {
+        assertThat(TypeConversionUtil.parseInt(String.valueOf(Integer.MIN_VALUE))).isEqualTo(OptionalInt.of(Integer.MIN_VALUE));
+        assertThat(TypeConversionUtil.parseInt("2147483648")).isEmpty();
+        assertThat(TypeConversionUtil.parseInt("x", 0)).isZero();
+    }
+
+    /**
+     * Test: toLong and toInteger keep their null-on-failure contract
+     * Given: Number, text and invalid inputs
+     * When: toLong and toInteger are called
+     * Then: Returns converted values, or null for invalid input
+     */
+    @Test
+    @DisplayName("toLong/toInteger: convert numbers and text, null on failure")
+    void toLong_toInteger() {
+        assertThat(TypeConversionUtil.toLong(5)).isEqualTo(5L);
+        assertThat(TypeConversionUtil.toLong("17")).isEqualTo(17L);
+        assertThat(TypeConversionUtil.toLong("bad")).isNull();
+        assertThat(TypeConversionUtil.toInteger(9L)).isEqualTo(9);
+        assertThat(TypeConversionUtil.toInteger("-3")).isEqualTo(-3);
+        assertThat(TypeConversionUtil.toInteger("bad")).isNull();
+    }
+
+    /**
+     * Test: bulk conversion fills missing value for null and unconvertible elements
+     * Given: A mixed column of numbers, text, nulls and invalid values
+     * When: toLongArray and toIntArray are called
+     * Then: Returns primitive arrays with the missing value in failed positions
+     */
+    @Test
+    @DisplayName("toLongArray/toIntArray: convert mixed columns to primitives")
+    void bulkConversion() {
+        Object[] column = {1, "2", null, "x", 5L};
+        assertThat(TypeConversionUtil.toLongArray(Arrays.asList(column), -1L)).containsExactly(1L, 2L, -1L, -1L, 5L);
+        assertThat(TypeConversionUtil.toIntArray(column, 0)).containsExactly(1, 2, 0, 0, 5);
+        assertThat(TypeConversionUtil.toLongArray((Object[]) null, 0L)).isEmpty();
+    }
+}
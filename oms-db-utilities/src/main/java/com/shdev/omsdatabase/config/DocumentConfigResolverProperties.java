@@ -0,0 +1,47 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory document configuration resolver.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.document-config.resolver")
+public class DocumentConfigResolverProperties {
+
+    /**
+     * Whether the document configuration resolver is enabled (opt-in).
+     */
+    private boolean enabled = false;
+
+    /**
+     * Interval between incremental refreshes (rows created or updated since the last load);
+     * zero or negative disables periodic refresh.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    /**
+     * Interval between full reloads, which also drop deleted and expired rows.
+     */
+    private Duration fullReloadInterval = Duration.ofHours(1);
+
+    /**
+     * How far before the last seen change an incremental refresh starts looking. Rows are stamped
+     * when written but become visible on commit, so a transaction committing after a refresh can
+     * carry an older timestamp; the overlap should exceed the longest configuration transaction.
+     * Re-applying rows inside the overlap is harmless.
+     */
+    private Duration refreshOverlap = Duration.ofMinutes(5);
+
+    /**
+     * Whether to load the index during context startup, before the application reports ready.
+     */
+    private boolean warmUp = true;
+}
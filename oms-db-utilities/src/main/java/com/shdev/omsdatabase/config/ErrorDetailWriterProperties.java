@@ -0,0 +1,68 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the asynchronous, batched error detail writer.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.error-detail.writer")
+public class ErrorDetailWriterProperties {
+
+    /**
+     * Whether the asynchronous error detail writer is enabled. Off by default, so the writer thread
+     * only starts in services that record error details.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of error details waiting to be written.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of error details per JDBC batch; a full batch is written immediately.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum time an error detail waits for its batch to fill before the batch is written.
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * What to do when the queue is full.
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * How long {@link OverflowPolicy#BLOCK} waits for queue space before dropping the error detail.
+     */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /**
+     * How long shutdown waits for queued error details to be written.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Behaviour when the writer queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to {@code offer-timeout} for space, then drop the new error detail. */
+        BLOCK,
+        /** Drop the new error detail. */
+        DROP_NEWEST,
+        /** Drop the oldest queued error detail to make room for the new one. */
+        DROP_OLDEST,
+        /** Write the new error detail synchronously on the calling thread. */
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,27 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for streaming document request exports.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.export")
+public class ExportProperties {
+
+    /**
+     * Number of rows per keyset query. Each page is loaded in its own persistence context, so this
+     * bounds the number of rows held in memory at any time.
+     */
+    private int pageSize = 1000;
+
+    /**
+     * JDBC fetch size of the keyset queries (rows per round trip to the database).
+     */
+    private int fetchSize = 500;
+}
@@ -0,0 +1,22 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk document request ingestion.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.ingestion")
+public class IngestionProperties {
+
+    /**
+     * Number of document requests per JDBC batch. Payload and metadata batches of a chunk are
+     * sent right after the request batch of the same chunk.
+     */
+    private int batchSize = 500;
+}
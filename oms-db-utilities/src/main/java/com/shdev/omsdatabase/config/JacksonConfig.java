@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.context.annotation.Primary;
 
 import java.io.IOException;
@@ -28,10 +29,14 @@ import java.time.format.DateTimeParseException;
  * <p>
  * This configuration is provided by oms-db-utilities to ensure all services
  * using OMS DTOs can properly serialize/deserialize date/time fields.
+ * <p>
+ * Imports {@link OmsDatabaseRuntimeHints} so that entities, mappers, DTOs and the custom
+ * deserializer are reachable in GraalVM native images.
  *
  * @author Shailesh Halor
  */
 @Configuration
+@ImportRuntimeHints(OmsDatabaseRuntimeHints.class)
 public class JacksonConfig {
 
     @Bean
@@ -0,0 +1,31 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for document request metadata storage.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.metadata")
+public class MetadataStorageProperties {
+
+    /**
+     * Storage layout used by {@code MetadataStore}, {@code RequestMetadataService} and bulk ingestion.
+     */
+    private Storage storage = Storage.ROWS;
+
+    /**
+     * Metadata storage layout.
+     */
+    public enum Storage {
+        /** One TBOM_REQUESTS_METADATA_VALUES row per metadata value. */
+        ROWS,
+        /** One TBOM_REQUEST_METADATA_DOCS JSON document per request. */
+        JSON
+    }
+}
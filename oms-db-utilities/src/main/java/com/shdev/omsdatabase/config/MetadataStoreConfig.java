@@ -0,0 +1,26 @@
+package com.shdev.omsdatabase.config;
+
+import com.shdev.omsdatabase.repository.JsonMetadataStore;
+import com.shdev.omsdatabase.repository.MetadataStore;
+import com.shdev.omsdatabase.repository.RowMetadataStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Selects the {@link MetadataStore} injected by type according to {@code oms.metadata.storage}.
+ * Both store implementations stay available by class, e.g. for migrating between layouts.
+ *
+ * @author Shailesh Halor
+ */
+@Configuration
+public class MetadataStoreConfig {
+
+    @Bean
+    @Primary
+    public MetadataStore metadataStore(MetadataStorageProperties properties,
+                                       RowMetadataStore rowMetadataStore,
+                                       JsonMetadataStore jsonMetadataStore) {
+        return properties.getStorage() == MetadataStorageProperties.Storage.JSON ? jsonMetadataStore : rowMetadataStore;
+    }
+}
@@ -0,0 +1,141 @@
+package com.shdev.omsdatabase.config;
+
+import com.shdev.omsdatabase.dto.DocumentConfigInDto;
+import com.shdev.omsdatabase.dto.DocumentConfigLookupKey;
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.dto.DocumentContentDto;
+import com.shdev.omsdatabase.dto.DocumentRequestInDto;
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto;
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
+import com.shdev.omsdatabase.dto.ErrorDetailDto;
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueInDto;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import com.shdev.omsdatabase.dto.ThBatchInDto;
+import com.shdev.omsdatabase.dto.ThBatchOutDto;
+import com.shdev.omsdatabase.entity.BooleanToStringConverter;
+import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import com.shdev.omsdatabase.entity.DocumentRequestBlobEntity;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ErrorDetailEntity;
+import com.shdev.omsdatabase.entity.PayloadContentEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import com.shdev.omsdatabase.entity.RequestsMetadataValueEntity;
+import com.shdev.omsdatabase.entity.ThBatchEntity;
+import com.shdev.omsdatabase.entity.base.DualCreateUidEntity;
+import com.shdev.omsdatabase.entity.base.OmsSequenceGenerator;
+import com.shdev.omsdatabase.entity.base.SingleAuditUidEntity;
+import com.shdev.omsdatabase.entity.base.TimestampedEntity;
+import com.shdev.omsdatabase.entity.base.TriggerTimestampGenerator;
+import com.shdev.omsdatabase.mapper.DocumentConfigurationMapper;
+import com.shdev.omsdatabase.mapper.DocumentRequestMapper;
+import com.shdev.omsdatabase.mapper.ErrorDetailMapper;
+import com.shdev.omsdatabase.mapper.MetadataValueMapper;
+import com.shdev.omsdatabase.mapper.ReferenceDataMapper;
+import com.shdev.omsdatabase.mapper.ThBatchMapper;
+import com.shdev.omsdatabase.util.AuditEntityListener;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * GraalVM native-image and Spring AOT runtime hints for oms-db-utilities.
+ * <p>
+ * Registers reflection hints for JPA entities and their mapped superclasses, the audit entity
+ * listener, attribute converter and cache region factory that Hibernate instantiates reflectively, the MapStruct
+ * generated mapper implementations, the Jackson-bound DTO records and the custom
+ * {@code OffsetDateTime} deserializer registered by {@link JacksonConfig}.
+ *
+ * @author Shailesh Halor
+ */
+public class OmsDatabaseRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITY_TYPES = List.of(
+            TimestampedEntity.class,
+            DualCreateUidEntity.class,
+            SingleAuditUidEntity.class,
+            DocumentConfigEntity.class,
+            DocumentRequestEntity.class,
+            DocumentRequestBlobEntity.class,
+            ErrorDetailEntity.class,
+            PayloadContentEntity.class,
+            ReferenceDataEntity.class,
+            RequestsMetadataValueEntity.class,
+            ThBatchEntity.class
+    );
+
+    static final List<Class<?>> DTO_TYPES = List.of(
+            DocumentConfigInDto.class,
+            DocumentConfigLookupKey.class,
+            DocumentConfigOutDto.class,
+            DocumentContentDto.class,
+            DocumentRequestInDto.class,
+            DocumentRequestIngestDto.class,
+            DocumentRequestOutDto.class,
+            ErrorDetailDto.class,
+            MetadataCondition.class,
+            MetadataValueInDto.class,
+            MetadataValueOutDto.class,
+            ReferenceDataDto.class,
+            ReferenceDataLiteDto.class,
+            ThBatchInDto.class,
+            ThBatchOutDto.class
+    );
+
+    static final List<Class<?>> MAPPER_TYPES = List.of(
+            DocumentConfigurationMapper.class,
+            DocumentRequestMapper.class,
+            ErrorDetailMapper.class,
+            MetadataValueMapper.class,
+            ReferenceDataMapper.class,
+            ThBatchMapper.class
+    );
+
+    static final String FLEXIBLE_OFFSET_DATE_TIME_DESERIALIZER =
+            JacksonConfig.class.getName() + "$FlexibleOffsetDateTimeDeserializer";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entityType : ENTITY_TYPES) {
+            hints.reflection().registerType(entityType,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        // Hibernate instantiates listeners and converters and invokes their callbacks reflectively
+        hints.reflection().registerType(AuditEntityListener.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        hints.reflection().registerType(BooleanToStringConverter.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(OmsSequenceGenerator.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(TriggerTimestampGenerator.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // MapStruct implementations are generated as <Mapper>Impl next to the mapper interface
+        for (Class<?> mapperType : MAPPER_TYPES) {
+            hints.reflection().registerType(TypeReference.of(mapperType.getName() + "Impl"),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        bindingRegistrar.registerReflectionHints(hints.reflection(), DTO_TYPES.toArray(Class<?>[]::new));
+
+        hints.reflection().registerType(TypeReference.of(FLEXIBLE_OFFSET_DATE_TIME_DESERIALIZER),
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,28 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for request payload storage.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.payload")
+public class PayloadStorageProperties {
+
+    /**
+     * Store new payloads deflate-compressed and deduplicated in TBOM_PAYLOAD_CONTENTS instead of
+     * the CLOB columns. Requires migration/add_payload_contents.sql. Reads handle both layouts,
+     * so the flag can be switched without rewriting existing rows.
+     */
+    private boolean compressed = false;
+
+    /**
+     * Deflate level (1 = fastest, 9 = smallest, -1 = zlib default of 6).
+     */
+    private int compressionLevel = 6;
+}
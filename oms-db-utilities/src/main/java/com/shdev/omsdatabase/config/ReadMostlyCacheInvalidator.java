@@ -0,0 +1,98 @@
+package com.shdev.omsdatabase.config;
+
+import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.Set;
+
+/**
+ * Evicts the whole entity region of {@link ReferenceDataEntity} or {@link DocumentConfigEntity}
+ * after a transaction that inserted, updated or deleted one of them has committed.
+ * <p>
+ * The compound triggers of both tables close overlapping versions and insert history rows, i.e.
+ * a single update (such as {@code ReferenceDataMapper.updateEntity} followed by a flush) changes
+ * rows Hibernate does not know about. The per-entity cache update of the READ_WRITE strategy is
+ * therefore not enough; both tables are small, so the region is simply reloaded on demand.
+ * Cached query results are invalidated by Hibernate itself through the update timestamps region.
+ * Writes that bypass Hibernate (PL/SQL functions, scripts) are not seen; evict with
+ * {@code SessionFactory.getCache().evictEntityData(...)} after such changes.
+ *
+ * @author Shailesh Halor
+ */
+public class ReadMostlyCacheInvalidator implements Integrator, PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    static final Set<Class<?>> CACHED_ENTITIES = Set.of(ReferenceDataEntity.class, DocumentConfigEntity.class);
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // listeners are discarded with the session factory
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return CACHED_ENTITIES.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        evict(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        evict(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        evict(event.getPersister());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // rolled back, the cache was not changed
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // rolled back, Hibernate already released the soft lock
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // rolled back, Hibernate already released the soft lock
+    }
+
+    private static void evict(EntityPersister persister) {
+        if (requiresEviction(persister)) {
+            persister.getFactory().getCache().evictEntityData(persister.getEntityName());
+        }
+    }
+
+    private static boolean requiresEviction(EntityPersister persister) {
+        return persister.canWriteToCache() && CACHED_ENTITIES.contains(persister.getMappedClass());
+    }
+}
@@ -0,0 +1,44 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory reference data snapshot.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.reference-data.snapshot")
+public class ReferenceDataSnapshotProperties {
+
+    /**
+     * Whether the reference data snapshot service is enabled (opt-in; also required by the status transition service).
+     */
+    private boolean enabled = false;
+
+    /**
+     * Interval between snapshot reloads; zero or negative disables periodic refresh.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(15);
+
+    /**
+     * Whether to load the snapshot during context startup, before the application reports ready.
+     * When disabled, the first load happens on the refresh thread.
+     */
+    private boolean warmUp = true;
+
+    /**
+     * Whether a load fails unless every DocumentStatus and BatchStatus constant has an effective row.
+     */
+    private boolean validateStatuses = true;
+
+    /**
+     * Whether to log snapshot version, size and age after each refresh.
+     */
+    private boolean logMetrics = true;
+}
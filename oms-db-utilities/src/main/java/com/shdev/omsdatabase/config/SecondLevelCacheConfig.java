@@ -0,0 +1,118 @@
+package com.shdev.omsdatabase.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.shdev.omsdatabase.constants.OmsConstants;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache for the read-mostly OMS tables, enabled with
+ * {@code oms.cache.enabled=true}.
+ * <p>
+ * Only entities annotated with {@code @Cacheable} ({@code ReferenceDataEntity},
+ * {@code DocumentConfigEntity}) and repository queries with the cacheable hint are cached.
+ * Regions are JCache caches ({@code hibernate-jcache}) of a local Caffeine cache manager, created
+ * up front with the sizes of {@link SecondLevelCacheProperties} and stored by reference. They are
+ * invalidated by {@link ReadMostlyCacheInvalidator}, which is added to any integrator provider the
+ * host has configured; statistics are switched on so hit ratios can be read from
+ * {@code CacheStatisticsService}. A host service can plug in another provider via
+ * {@code spring.jpa.properties.hibernate.cache.region.factory_class}.
+ *
+ * @author Shailesh Halor
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "oms.cache", name = "enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer omsSecondLevelCacheCustomizer(SecondLevelCacheProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            hibernateProperties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE");
+            if (!hibernateProperties.containsKey(AvailableSettings.CACHE_REGION_FACTORY)) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(properties));
+            }
+            hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    withCacheInvalidator(hibernateProperties.get(JpaSettings.INTEGRATOR_PROVIDER)));
+        };
+    }
+
+    /**
+     * Create a Caffeine cache manager holding the OMS regions: entity regions bounded by
+     * {@code max-entries} (or their {@code region-max-entries} override), the query results region by
+     * {@code query-max-entries}, and the unbounded update timestamps region, which holds one entry per
+     * table and must not lose any. Hibernate closes the manager with the session factory.
+     *
+     * @param properties the cache properties
+     * @return the cache manager with all regions created
+     */
+    static CacheManager createCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        for (String region : OmsConstants.CACHE_REGIONS) {
+            createRegion(cacheManager, region,
+                    OptionalLong.of(properties.getRegionMaxEntries().getOrDefault(region, properties.getMaxEntries())));
+        }
+        properties.getRegionMaxEntries().forEach((region, maxEntries) -> {
+            if (cacheManager.getCache(region) == null) {
+                createRegion(cacheManager, region, OptionalLong.of(maxEntries));
+            }
+        });
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.of(properties.getQueryMaxEntries()));
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, OptionalLong.empty());
+        return cacheManager;
+    }
+
+    /**
+     * Combine the host's integrator provider setting (instance, class or class name) with the
+     * {@link ReadMostlyCacheInvalidator}.
+     *
+     * @param hostProvider the configured integrator provider, or null
+     * @return a provider with the host integrators followed by the invalidator
+     */
+    static IntegratorProvider withCacheInvalidator(Object hostProvider) {
+        IntegratorProvider host = resolveIntegratorProvider(hostProvider);
+        return () -> {
+            List<Integrator> integrators = new ArrayList<>();
+            if (host != null) {
+                integrators.addAll(host.getIntegrators());
+            }
+            integrators.add(new ReadMostlyCacheInvalidator());
+            return integrators;
+        };
+    }
+
+    private static IntegratorProvider resolveIntegratorProvider(Object setting) {
+        if (setting == null || setting instanceof IntegratorProvider) {
+            return (IntegratorProvider) setting;
+        }
+        Class<?> type = setting instanceof Class<?> c
+                ? c : ClassUtils.resolveClassName(setting.toString().trim(), SecondLevelCacheConfig.class.getClassLoader());
+        return BeanUtils.instantiateClass(type, IntegratorProvider.class);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, OptionalLong maxEntries) {
+        cacheManager.createCache(region, new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setMaximumSize(maxEntries));
+    }
+}
@@ -0,0 +1,40 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for the Hibernate second-level and query cache of the read-mostly
+ * OMS tables (TBOM_REFERENCE_DATA and TBOM_DOCUMENT_CONFIGURATIONS).
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * Enable the second-level cache, the query cache and Hibernate statistics.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of entries per entity region; Caffeine evicts entries beyond it.
+     */
+    private int maxEntries = 10_000;
+
+    /**
+     * Per-region overrides of {@code max-entries}, keyed by region name (e.g. {@code oms.reference-data}).
+     */
+    private Map<String, Integer> regionMaxEntries = new HashMap<>();
+
+    /**
+     * Maximum number of cached query results.
+     */
+    private int queryMaxEntries = 1_000;
+}
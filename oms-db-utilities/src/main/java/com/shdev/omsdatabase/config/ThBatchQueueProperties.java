@@ -0,0 +1,41 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Thunderhead batch work-claim queue.
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.th-batch.queue")
+public class ThBatchQueueProperties {
+
+    /**
+     * Whether the work queue is enabled. Off by default, so only worker services that claim
+     * batches lease rows and release them on shutdown.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Lease owner written to claimed rows; must be unique per worker node. Defaults to
+     * {@code <pid>@<hostname>} when blank. At most 100 characters.
+     */
+    private String owner;
+
+    /**
+     * Maximum number of batches leased per claim.
+     */
+    private int claimSize = 100;
+
+    /**
+     * How long a claim stays leased. Batches neither completed nor released within this time can
+     * be claimed by another node.
+     */
+    private Duration leaseDuration = Duration.ofMinutes(5);
+}
@@ -0,0 +1,44 @@
+package com.shdev.omsdatabase.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for Thunderhead batch retry scheduling (exponential backoff with jitter).
+ *
+ * @author Shailesh Halor
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "oms.th-batch.retry")
+public class ThBatchRetryProperties {
+
+    /**
+     * Delay before the first retry.
+     */
+    private Duration initialDelay = Duration.ofSeconds(30);
+
+    /**
+     * Factor applied to the delay after every failed attempt.
+     */
+    private double multiplier = 2.0;
+
+    /**
+     * Upper bound of the delay before jitter is applied.
+     */
+    private Duration maxDelay = Duration.ofHours(1);
+
+    /**
+     * Random spread applied to every delay as a fraction (0.2 = +/-20%), so batches failed together
+     * are not retried together. Clamped to 0..1.
+     */
+    private double jitter = 0.2;
+
+    /**
+     * Failed attempts after which a batch is no longer retried and stays in its failed status.
+     */
+    private int maxAttempts = 10;
+}
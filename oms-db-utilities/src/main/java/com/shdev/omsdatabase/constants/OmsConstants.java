@@ -3,9 +3,11 @@ package com.shdev.omsdatabase.constants;
 import com.shdev.common.constants.HeaderConstants;
 import lombok.experimental.UtilityClass;
 
+import java.util.List;
+
 /**
- * Constants used in the OMS database for user identification headers and tokens.
- * References common header constants for consistency.
+ * Constants used in the OMS database for user identification headers and tokens,
+ * and for primary key allocation. References common header constants for consistency.
  *
  * @author Shailesh Halor
  */
@@ -21,4 +23,30 @@ public class OmsConstants {
      * MDC key for user ID extracted from JWT token
      */
     public static final String USER_ID_TOKEN = HeaderConstants.MDC_USER_ID_TOKEN;
+
+    /**
+     * Number of ids reserved per sequence call (pooled-lo optimizer). Must equal the
+     * {@code INCREMENT BY} of every OMS sequence, see sql/oracle/migration/alter_sequences_pooled_lo.sql.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * Number of lazy associations or proxies initialized per select (Hibernate batch fetching).
+     */
+    public static final int FETCH_BATCH_SIZE = 50;
+
+    /**
+     * Second-level cache region of {@code ReferenceDataEntity}.
+     */
+    public static final String CACHE_REGION_REFERENCE_DATA = "oms.reference-data";
+
+    /**
+     * Second-level cache region of {@code DocumentConfigEntity}.
+     */
+    public static final String CACHE_REGION_DOCUMENT_CONFIG = "oms.document-config";
+
+    /**
+     * All OMS second-level cache entity regions.
+     */
+    public static final List<String> CACHE_REGIONS = List.of(CACHE_REGION_REFERENCE_DATA, CACHE_REGION_DOCUMENT_CONFIG);
 }
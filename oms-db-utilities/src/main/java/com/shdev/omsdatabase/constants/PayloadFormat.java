@@ -0,0 +1,42 @@
+package com.shdev.omsdatabase.constants;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum representing the request payload formats stored in TBOM_DOCUMENT_REQUESTS_BLOB.
+ *
+ * <p>The {@link #code} is the value used as {@code DocumentContentDto.contentType}; the
+ * {@link #column} is the CLOB column holding the payload; the {@link #hashColumn} references the
+ * compressed payload in TBOM_PAYLOAD_CONTENTS when compressed storage is used.</p>
+ *
+ * <p>Lookup is null-safe and case-insensitive; unknown codes return null.</p>
+ */
+@Getter
+@AllArgsConstructor
+public enum PayloadFormat {
+    JSON("JSON", "JSON_REQUEST", "JSON_CONTENT_HASH"),
+    XML("XML", "XML_REQUEST", "XML_CONTENT_HASH");
+
+    private final String code;
+    private final String column;
+    private final String hashColumn;
+
+    /**
+     * Null-safe, case-insensitive lookup of enum by its code.
+     *
+     * @param code the content type, e.g. "json" or "XML"
+     * @return matching enum constant or null if not found
+     */
+    public static PayloadFormat fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (PayloadFormat format : values()) {
+            if (format.code.equalsIgnoreCase(code)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.shdev.omsdatabase.dto;
+
+/**
+ * Lookup key for resolving document configurations by footer, document name and code.
+ *
+ * @param footerValue  the footer reference data value
+ * @param documentName the document name matched against app doc spec values (prefix or wildcard)
+ * @param codeValue    the code reference data value
+ *
+ * @author Shailesh Halor
+ */
+public record DocumentConfigLookupKey(
+        String footerValue,
+        String documentName,
+        String codeValue
+) {
+}
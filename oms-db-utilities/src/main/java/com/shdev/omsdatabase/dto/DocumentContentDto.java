@@ -1,8 +1,11 @@
 package com.shdev.omsdatabase.dto;
 
+import com.shdev.omsdatabase.util.PayloadCompression;
+
 /**
  * Document Content DTO for JSON/XML payload retrieval.
  * Used to return the actual document request content (JSON or XML format).
+ * Compressed payloads are inflated by the projection constructor, so the content is always plain text.
  *
  * @param requestId   the document request identifier
  * @param contentType the type of content (JSON or XML)
@@ -14,5 +17,18 @@ public record DocumentContentDto(
         String contentType,
         String content
 ) {
+
+    /**
+     * Projection constructor for both storage layouts: inflates the compressed content when present,
+     * otherwise keeps the CLOB content.
+     *
+     * @param requestId         the document request identifier
+     * @param contentType       the type of content (JSON or XML)
+     * @param content           the CLOB content, null when stored compressed
+     * @param compressedContent the deflate-compressed content from TBOM_PAYLOAD_CONTENTS, or null
+     */
+    public DocumentContentDto(Long requestId, String contentType, String content, byte[] compressedContent) {
+        this(requestId, contentType, compressedContent != null ? PayloadCompression.decompress(compressedContent) : content);
+    }
 }
 
@@ -0,0 +1,38 @@
+package com.shdev.omsdatabase.dto;
+
+import com.shdev.omsdatabase.constants.LengthConstants;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Document request ingestion DTO record bundling a request, its payloads and metadata values for bulk ingestion.
+ *
+ * @param request     the document request to create
+ * @param jsonRequest the request payload in JSON format
+ * @param xmlRequest  the optional request payload in XML format
+ * @param metadata    the metadata values for the request
+ *
+ * @author Shailesh Halor
+ */
+public record DocumentRequestIngestDto(
+        @NotNull @Valid DocumentRequestInDto request,
+        @NotNull String jsonRequest,
+        String xmlRequest,
+        List<@Valid MetadataEntry> metadata
+) {
+
+    /**
+     * Metadata value of an ingested request; the request id is assigned during ingestion.
+     *
+     * @param metadataKeyId the reference data id of the METADATA_KEY
+     * @param metadataValue the metadata value
+     */
+    public record MetadataEntry(
+            @NotNull Long metadataKeyId,
+            @NotNull @Size(max = LengthConstants.METADATA_VALUE) String metadataValue
+    ) {
+    }
+}
@@ -27,4 +27,23 @@ public record DocumentRequestOutDto(
         String createUidHeader,
         String createUidToken
 ) {
+
+    /**
+     * Flat constructor used by JPQL constructor projections, which cannot nest {@code new}
+     * expressions. Each reference is passed as id, value and description.
+     */
+    public DocumentRequestOutDto(Long id,
+                                 Long sourceSystemId, String sourceSystemValue, String sourceSystemDescription,
+                                 Long documentTypeId, String documentTypeValue, String documentTypeDescription,
+                                 Long documentNameId, String documentNameValue, String documentNameDescription,
+                                 Long documentStatusId, String documentStatusValue, String documentStatusDescription,
+                                 OffsetDateTime createdDat, OffsetDateTime lastUpdateDat,
+                                 String createUidHeader, String createUidToken) {
+        this(id,
+                new ReferenceDataLiteDto(sourceSystemId, sourceSystemValue, sourceSystemDescription),
+                new ReferenceDataLiteDto(documentTypeId, documentTypeValue, documentTypeDescription),
+                new ReferenceDataLiteDto(documentNameId, documentNameValue, documentNameDescription),
+                new ReferenceDataLiteDto(documentStatusId, documentStatusValue, documentStatusDescription),
+                createdDat, lastUpdateDat, createUidHeader, createUidToken);
+    }
 }
@@ -0,0 +1,15 @@
+package com.shdev.omsdatabase.dto;
+
+/**
+ * Search condition matching document requests that carry a metadata value for a metadata key.
+ *
+ * @param metadataKeyId the METADATA_KEY reference data id
+ * @param value         the exact metadata value
+ *
+ * @author Shailesh Halor
+ */
+public record MetadataCondition(
+        Long metadataKeyId,
+        String value
+) {
+}
@@ -16,4 +16,14 @@ public record MetadataValueOutDto(
         ReferenceDataLiteDto metadataKey,
         String metadataValue
 ) {
+
+    /**
+     * Flat constructor used by JPQL constructor projections, which cannot nest {@code new}
+     * expressions. The metadata key is passed as id, value and description.
+     */
+    public MetadataValueOutDto(Long id, Long requestId,
+                               Long metadataKeyId, String metadataKeyValue, String metadataKeyDescription,
+                               String metadataValue) {
+        this(id, requestId, new ReferenceDataLiteDto(metadataKeyId, metadataKeyValue, metadataKeyDescription), metadataValue);
+    }
 }
@@ -35,4 +35,19 @@ public record ThBatchOutDto(
         String createUidHeader,
         String createUidToken
 ) {
+
+    /**
+     * Flat constructor used by JPQL constructor projections, which cannot nest {@code new}
+     * expressions. The batch status is passed as id, value and description.
+     */
+    public ThBatchOutDto(Long id, Long requestId, Long batchId,
+                         Long batchStatusId, String batchStatusValue, String batchStatusDescription,
+                         String batchName, Long dmsDocumentId, Boolean syncStatus, Boolean eventStatus,
+                         Long retryCount, OffsetDateTime createdDat, OffsetDateTime lastUpdateDat,
+                         String createUidHeader, String createUidToken) {
+        this(id, requestId, batchId,
+                new ReferenceDataLiteDto(batchStatusId, batchStatusValue, batchStatusDescription),
+                batchName, dmsDocumentId, syncStatus, eventStatus, retryCount,
+                createdDat, lastUpdateDat, createUidHeader, createUidToken);
+    }
 }
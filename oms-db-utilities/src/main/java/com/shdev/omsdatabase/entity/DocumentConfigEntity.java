@@ -1,11 +1,14 @@
 package com.shdev.omsdatabase.entity;
 
+import com.shdev.omsdatabase.constants.OmsConstants;
+import com.shdev.omsdatabase.entity.base.OmsSequence;
 import com.shdev.omsdatabase.entity.base.SingleAuditUidEntity;
 import jakarta.persistence.*;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.*;
+import org.hibernate.annotations.Cache;
 
 import java.io.Serializable;
 import java.time.OffsetDateTime;
@@ -13,6 +16,7 @@ import java.time.OffsetDateTime;
 /**
  * Entity representing effective-dated document configuration metadataKey/metadataValue mappings.
  * References tbom_reference_data for footer, application document specification, and configuration code.
+ * Read-mostly, so it is kept in the second-level cache when {@code oms.cache.enabled} is set.
  *
  * @author Shailesh Halor
  */
@@ -25,12 +29,13 @@ import java.time.OffsetDateTime;
 @Table(name = "TBOM_DOCUMENT_CONFIGURATIONS")
 @DynamicInsert
 @DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = OmsConstants.CACHE_REGION_DOCUMENT_CONFIG)
 @Comment("Effective-dated document configuration metadataKey/metadataValue mappings. References tbom_reference_data for footer, application document specification, and configuration code.")
 public class DocumentConfigEntity extends SingleAuditUidEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_DOCUMENT_CONFIGURATIONS_id_gen")
-    @SequenceGenerator(name = "TBOM_DOCUMENT_CONFIGURATIONS_id_gen", sequenceName = "SQOMDCN_DOC_CONFIG_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMDCN_DOC_CONFIG_ID")
     @Comment("Primary metadataKey for document configuration row.")
     @Column(name = "ID", nullable = false)
     private Long id;
@@ -1,6 +1,7 @@
 package com.shdev.omsdatabase.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.OnDelete;
@@ -10,6 +11,12 @@ import java.io.Serializable;
 
 /**
  * Entity storing JSON and optional XML request payloads for a single tbom_document_requests row (1:1 mapping via PK=FK).
+ * <p>
+ * Loading this entity materializes both payloads. Read paths that need one payload use
+ * {@code DocumentPayloadService}. With compressed storage ({@code oms.payload.compressed}) the
+ * payload columns are null and the hash columns reference TBOM_PAYLOAD_CONTENTS; the payload getters
+ * then load the referenced {@link PayloadContentEntity} lazily and inflate it, so both layouts read
+ * the same way.
  *
  * @author Shailesh Halor
  */
@@ -34,14 +41,66 @@ public class DocumentRequestBlobEntity implements Serializable {
     @JoinColumn(name = "OMDRT_ID", nullable = false)
     private DocumentRequestEntity tbomDocumentRequests;
 
-    @Comment("Request payload in JSON format; required.")
+    @Comment("Request payload in JSON format; required unless stored compressed (JSON_CONTENT_HASH).")
     @Lob
-    @Column(name = "JSON_REQUEST", nullable = false)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "JSON_REQUEST")
     private String jsonRequest;
 
     @Comment("Request payload in XML format; optional.")
     @Lob
+    @Getter(AccessLevel.NONE)
     @Column(name = "XML_REQUEST")
     private String xmlRequest;
 
+    @Size(max = 64)
+    @Comment("SHA-256 of the uncompressed JSON payload, key of its compressed content in tbom_payload_contents; JSON_REQUEST is null when set.")
+    @Column(name = "JSON_CONTENT_HASH", length = 64)
+    private String jsonContentHash;
+
+    @Size(max = 64)
+    @Comment("SHA-256 of the uncompressed XML payload, key of its compressed content in tbom_payload_contents; XML_REQUEST is null when set.")
+    @Column(name = "XML_CONTENT_HASH", length = 64)
+    private String xmlContentHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "JSON_CONTENT_HASH", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadContentEntity jsonContent;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "XML_CONTENT_HASH", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PayloadContentEntity xmlContent;
+
+    /**
+     * JSON payload, read from the CLOB column or inflated from TBOM_PAYLOAD_CONTENTS.
+     *
+     * @return the JSON payload
+     */
+    public String getJsonRequest() {
+        return payload(jsonRequest, jsonContentHash, jsonContent);
+    }
+
+    /**
+     * XML payload, read from the CLOB column or inflated from TBOM_PAYLOAD_CONTENTS.
+     *
+     * @return the XML payload, null when no XML was stored
+     */
+    public String getXmlRequest() {
+        return payload(xmlRequest, xmlContentHash, xmlContent);
+    }
+
+    private static String payload(String clob, String contentHash, PayloadContentEntity content) {
+        if (contentHash == null) {
+            return clob;
+        }
+        if (content == null || !contentHash.equals(content.getContentHash())) {
+            throw new IllegalStateException("Compressed payload " + contentHash
+                    + " is not loaded; reload the entity after changing its content hash");
+        }
+        return content.decompress();
+    }
 }
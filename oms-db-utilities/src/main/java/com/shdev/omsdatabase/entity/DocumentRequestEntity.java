@@ -1,6 +1,9 @@
 package com.shdev.omsdatabase.entity;
 
+import com.shdev.omsdatabase.constants.OmsConstants;
 import com.shdev.omsdatabase.entity.base.DualCreateUidEntity;
+import com.shdev.omsdatabase.entity.base.OmsSequence;
+import com.shdev.omsdatabase.entity.base.ReadBackTimestamps;
 import jakarta.persistence.*;
 import jakarta.persistence.Table;
 import lombok.*;
@@ -8,6 +11,10 @@ import org.hibernate.annotations.*;
 
 /**
  * Entity representing document requests and their overall processing status.
+ * <p>
+ * Uninitialized proxies of this entity (e.g. {@code ThBatchEntity.omdrt}) are loaded in batches
+ * of {@link OmsConstants#FETCH_BATCH_SIZE}. A created request is usually returned right away, so
+ * its trigger-set timestamps are read back by the INSERT ({@link ReadBackTimestamps}).
  *
  * @author Shailesh Halor
  */
@@ -18,14 +25,26 @@ import org.hibernate.annotations.*;
 @Setter
 @Entity
 @Table(name = "TBOM_DOCUMENT_REQUESTS")
+@NamedEntityGraph(name = DocumentRequestEntity.GRAPH_REFERENCES, attributeNodes = {
+        @NamedAttributeNode("omrdaSourceSystem"),
+        @NamedAttributeNode("omrdaDocumentType"),
+        @NamedAttributeNode("omrdaDocumentName"),
+        @NamedAttributeNode("omrdaDocStatus")
+})
 @DynamicInsert
 @DynamicUpdate
+@ReadBackTimestamps
+@BatchSize(size = OmsConstants.FETCH_BATCH_SIZE)
 @Comment("Table to store document requests and their overall processing status.")
 public class DocumentRequestEntity extends DualCreateUidEntity {
 
+    /**
+     * Entity graph fetching the four reference data associations read by {@code DocumentRequestMapper.toDto}.
+     */
+    public static final String GRAPH_REFERENCES = "DocumentRequestEntity.references";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_DOCUMENT_REQUESTS_id_gen")
-    @SequenceGenerator(name = "TBOM_DOCUMENT_REQUESTS_id_gen", sequenceName = "SQOMRDA_DOC_REQUEST_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMRDA_DOC_REQUEST_ID")
     @Comment("Primary metadataKey for document requests.")
     @Column(name = "ID", nullable = false)
     private Long id;
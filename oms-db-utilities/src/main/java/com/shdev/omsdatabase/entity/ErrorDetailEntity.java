@@ -1,5 +1,6 @@
 package com.shdev.omsdatabase.entity;
 
+import com.shdev.omsdatabase.entity.base.OmsSequence;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -25,8 +26,7 @@ import java.io.Serializable;
 public class ErrorDetailEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_ERROR_DETAILS_id_gen")
-    @SequenceGenerator(name = "TBOM_ERROR_DETAILS_id_gen", sequenceName = "SQOMEDL_ERROR_DETAILS_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMEDL_ERROR_DETAILS_ID")
     @Comment("Primary metadataKey for error details.")
     @Column(name = "ID", nullable = false)
     private Long id;
@@ -0,0 +1,54 @@
+package com.shdev.omsdatabase.entity;
+
+import com.shdev.omsdatabase.util.PayloadCompression;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * Read-only entity for a compressed request payload stored once per content hash in TBOM_PAYLOAD_CONTENTS.
+ * <p>
+ * Rows are written by {@code PayloadContentStore} and never change; this mapping only lets
+ * {@link DocumentRequestBlobEntity} and the repository projections inflate compressed payloads.
+ *
+ * @author Shailesh Halor
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Entity
+@Immutable
+@Table(name = "TBOM_PAYLOAD_CONTENTS")
+@Comment("Compressed request payloads stored once per distinct content, referenced by tbom_document_requests_blob.")
+public class PayloadContentEntity implements Serializable {
+
+    @Id
+    @Comment("SHA-256 of the uncompressed UTF-8 payload, lowercase hex; primary key.")
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    @Comment("Compression codec of CONTENT; DEFLATE = zlib deflate (java.util.zip.Deflater).")
+    @Column(name = "CODEC", nullable = false, length = 10)
+    private String codec;
+
+    @Comment("Uncompressed payload length in bytes (UTF-8).")
+    @Column(name = "ORIGINAL_LENGTH", nullable = false)
+    private Long originalLength;
+
+    @Comment("Compressed payload bytes.")
+    @Lob
+    @Column(name = "CONTENT", nullable = false)
+    private byte[] content;
+
+    /**
+     * Inflate the payload.
+     *
+     * @return the payload text
+     */
+    public String decompress() {
+        return PayloadCompression.decompress(content);
+    }
+}
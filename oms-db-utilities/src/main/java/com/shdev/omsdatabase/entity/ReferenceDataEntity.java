@@ -1,9 +1,14 @@
 package com.shdev.omsdatabase.entity;
 
+import com.shdev.omsdatabase.constants.OmsConstants;
+import com.shdev.omsdatabase.entity.base.OmsSequence;
 import com.shdev.omsdatabase.entity.base.SingleAuditUidEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.DynamicInsert;
@@ -14,6 +19,11 @@ import java.time.OffsetDateTime;
 
 /**
  * Entity representing reference data used in the OMS system.
+ * <p>
+ * Referenced lazily from most OMS tables; uninitialized proxies are loaded in batches of
+ * {@link OmsConstants#FETCH_BATCH_SIZE} so mapping a list of rows issues one select per batch
+ * instead of one per reference. Read-mostly, so it is kept in the second-level cache when
+ * {@code oms.cache.enabled} is set.
  *
  * @author Shailesh Halor
  */
@@ -26,12 +36,14 @@ import java.time.OffsetDateTime;
 @Table(name = "TBOM_REFERENCE_DATA")
 @DynamicInsert
 @DynamicUpdate
+@BatchSize(size = OmsConstants.FETCH_BATCH_SIZE)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = OmsConstants.CACHE_REGION_REFERENCE_DATA)
 @Comment("Central table to store reference data values used by oms system (document types, document names, metadata keys, source systems, etc.).")
 public class ReferenceDataEntity extends SingleAuditUidEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_REFERENCE_DATA_id_gen")
-    @SequenceGenerator(name = "TBOM_REFERENCE_DATA_id_gen", sequenceName = "SQOMRDA_REF_DATA_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMRDA_REF_DATA_ID")
     @Comment("Primary Key for reference data.")
     @Column(name = "ID", nullable = false)
     private Long id;
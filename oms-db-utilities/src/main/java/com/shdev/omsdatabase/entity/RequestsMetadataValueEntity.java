@@ -1,5 +1,6 @@
 package com.shdev.omsdatabase.entity;
 
+import com.shdev.omsdatabase.entity.base.OmsSequence;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -25,8 +26,7 @@ import java.io.Serializable;
 public class RequestsMetadataValueEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_REQUESTS_METADATA_VALUES_id_gen")
-    @SequenceGenerator(name = "TBOM_REQUESTS_METADATA_VALUES_id_gen", sequenceName = "SQOMRME_METADATA_VALUE_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMRME_METADATA_VALUE_ID")
     @Comment("Primary metadataKey for metadata metadataValue.")
     @Column(name = "ID", nullable = false)
     private Long id;
@@ -1,6 +1,7 @@
 package com.shdev.omsdatabase.entity;
 
 import com.shdev.omsdatabase.entity.base.DualCreateUidEntity;
+import com.shdev.omsdatabase.entity.base.OmsSequence;
 import jakarta.persistence.*;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
@@ -8,6 +9,7 @@ import lombok.*;
 import org.hibernate.annotations.*;
 
 import java.io.Serializable;
+import java.time.OffsetDateTime;
 
 /**
  * Entity representing Thunderhead batch details associated with document requests.
@@ -21,14 +23,22 @@ import java.io.Serializable;
 @Setter
 @Entity
 @Table(name = "TBOM_TH_BATCHES")
+@NamedEntityGraph(name = ThBatchEntity.GRAPH_REFERENCES, attributeNodes = {
+        @NamedAttributeNode("omdrt"),
+        @NamedAttributeNode("omrdaThStatus")
+})
 @DynamicInsert
 @DynamicUpdate
 @Comment("Thunderhead batch details associated with document requests.")
 public class ThBatchEntity extends DualCreateUidEntity implements Serializable {
 
+    /**
+     * Entity graph fetching the owning request and the batch status read by {@code ThBatchMapper.toDto}.
+     */
+    public static final String GRAPH_REFERENCES = "ThBatchEntity.references";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "TBOM_TH_BATCHES_id_gen")
-    @SequenceGenerator(name = "TBOM_TH_BATCHES_id_gen", sequenceName = "SQOMTHB_TH_BATCH_ID", allocationSize = 1)
+    @OmsSequence(name = "SQOMTHB_TH_BATCH_ID")
     @Comment("Primary metadataKey for Thunderhead batch.")
     @Column(name = "ID", nullable = false)
     private Long id;
@@ -72,4 +82,17 @@ public class ThBatchEntity extends DualCreateUidEntity implements Serializable {
     @Column(name = "RETRY_COUNT", nullable = false)
     private Long retryCount;
 
+    @Comment("Earliest time of the next synchronization or publishing attempt; null once retries are exhausted.")
+    @Column(name = "NEXT_ATTEMPT_DAT")
+    private OffsetDateTime nextAttemptDat;
+
+    @Size(max = 100)
+    @Comment("Worker node currently holding the claim on this batch (null when not claimed).")
+    @Column(name = "LEASE_OWNER", length = 100)
+    private String leaseOwner;
+
+    @Comment("Expiry of the current claim; the batch can be claimed again afterwards.")
+    @Column(name = "LEASE_EXPIRES_DAT")
+    private OffsetDateTime leaseExpiresDat;
+
 }
@@ -0,0 +1,40 @@
+package com.shdev.omsdatabase.entity.base;
+
+import com.shdev.omsdatabase.constants.OmsConstants;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the id of an OMS entity from an Oracle sequence with the pooled-lo optimizer.
+ * <p>
+ * Used on the {@code @Id} field instead of {@code @GeneratedValue}/{@code @SequenceGenerator}, so
+ * the optimizer applies to OMS sequences only and not to other generators of the host's
+ * persistence unit.
+ *
+ * @author Shailesh Halor
+ */
+@IdGeneratorType(OmsSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface OmsSequence {
+
+    /**
+     * Name of the database sequence.
+     *
+     * @return the sequence name
+     */
+    String name();
+
+    /**
+     * Number of ids reserved per {@code NEXTVAL}; must equal the sequence's {@code INCREMENT BY}.
+     *
+     * @return the allocation size
+     */
+    int allocationSize() default OmsConstants.ID_ALLOCATION_SIZE;
+}
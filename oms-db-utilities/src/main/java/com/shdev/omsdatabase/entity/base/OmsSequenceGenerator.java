@@ -0,0 +1,39 @@
+package com.shdev.omsdatabase.entity.base;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * Sequence generator behind {@link OmsSequence}: a {@link SequenceStyleGenerator} configured with
+ * the annotated sequence, allocation size and the pooled-lo optimizer.
+ * <p>
+ * Pooled-lo treats the sequence value as the first id of the reserved block, so ids taken by the
+ * insert triggers or PL/SQL functions through a plain {@code NEXTVAL} never overlap with blocks
+ * handed out by Hibernate.
+ *
+ * @author Shailesh Halor
+ */
+public class OmsSequenceGenerator extends SequenceStyleGenerator {
+
+    private final OmsSequence sequence;
+
+    public OmsSequenceGenerator(OmsSequence sequence, Member member, CustomIdGeneratorCreationContext context) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, sequence.name());
+        parameters.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(sequence.allocationSize()));
+        parameters.setProperty(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.shdev.omsdatabase.entity.base;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Opts a {@link TimestampedEntity} into reading its trigger-set timestamps back from the INSERT or
+ * UPDATE itself (getGeneratedKeys on Oracle), so they are set after flush without a refresh.
+ * <p>
+ * Hibernate does not JDBC-batch statements that return generated values, so only entities that are
+ * created and returned in the same request should use it.
+ *
+ * @author Shailesh Halor
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ReadBackTimestamps {
+}
@@ -8,13 +8,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.Comment;
+import org.hibernate.generator.EventType;
 
 import java.time.OffsetDateTime;
 
 /**
  * Base mapped superclass providing common timestamp audit fields present on OMS entities.
  * These timestamps are managed by database triggers (insertable=false, updatable=false) and
- * therefore not set in application code.
+ * therefore not set in application code. Entities annotated with {@link ReadBackTimestamps} read
+ * them back by the insert or update statement itself (getGeneratedKeys on Oracle); for the others
+ * they are only loaded with the row, which keeps their inserts and updates JDBC-batchable.
  *
  * @author Shailesh Halor
  */
@@ -26,10 +29,12 @@ import java.time.OffsetDateTime;
 public abstract class TimestampedEntity {
 
     @Comment("Record creation timestamp set by DB trigger.")
+    @TriggerTimestamp(event = EventType.INSERT)
     @Column(name = "CREATED_DAT", nullable = false, updatable = false, insertable = false)
     private OffsetDateTime createdDat;
 
     @Comment("Record last update timestamp set by DB trigger.")
+    @TriggerTimestamp(event = {EventType.INSERT, EventType.UPDATE})
     @Column(name = "LAST_UPDATE_DAT", nullable = false, updatable = false, insertable = false)
     private OffsetDateTime lastUpdateDat;
 }
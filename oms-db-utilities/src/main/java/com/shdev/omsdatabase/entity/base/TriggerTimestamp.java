@@ -0,0 +1,32 @@
+package com.shdev.omsdatabase.entity.base;
+
+import org.hibernate.annotations.ValueGenerationType;
+import org.hibernate.generator.EventType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a timestamp column that is set by a database trigger.
+ * <p>
+ * Like {@code @Generated(event = ...)}, but only for entities annotated with
+ * {@link ReadBackTimestamps}; on all other entities the column is a plain read-only column and
+ * their writes stay JDBC-batchable.
+ *
+ * @author Shailesh Halor
+ */
+@ValueGenerationType(generatedBy = TriggerTimestampGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface TriggerTimestamp {
+
+    /**
+     * Statements after which the trigger value is read back.
+     *
+     * @return the event types
+     */
+    EventType[] event();
+}
@@ -0,0 +1,57 @@
+package com.shdev.omsdatabase.entity.base;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.generator.OnExecutionGenerator;
+
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import java.util.EnumSet;
+
+/**
+ * Generator behind {@link TriggerTimestamp}: the value is generated by the database when the
+ * statement executes and read back by it, for the configured events of entities annotated with
+ * {@link ReadBackTimestamps}. For other entities it generates on no event, so Hibernate treats the
+ * column as a plain read-only column.
+ *
+ * @author Shailesh Halor
+ */
+public class TriggerTimestampGenerator implements OnExecutionGenerator {
+
+    private final EnumSet<EventType> eventTypes;
+
+    /**
+     * Created by Hibernate for every {@link TriggerTimestamp} attribute of every entity.
+     *
+     * @param annotation the annotation on the attribute
+     * @param member     the annotated field
+     * @param context    the owning entity
+     */
+    public TriggerTimestampGenerator(TriggerTimestamp annotation, Member member, GeneratorCreationContext context) {
+        Class<?> entity = context.getPersistentClass().getMappedClass();
+        this.eventTypes = entity != null && entity.isAnnotationPresent(ReadBackTimestamps.class)
+                ? EnumSet.copyOf(Arrays.asList(annotation.event()))
+                : EnumSet.noneOf(EventType.class);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    @Override
+    public boolean referenceColumnsInSql(Dialect dialect) {
+        return false;
+    }
+
+    @Override
+    public boolean writePropertyValue() {
+        return false;
+    }
+
+    @Override
+    public String[] getReferencedColumnValues(Dialect dialect) {
+        return null;
+    }
+}
@@ -1,16 +1,24 @@
 package com.shdev.omsdatabase.repository;
 
 import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for DocumentConfigEntity, providing CRUD operations
  * and custom query methods for document configuration management.
+ * <p>
+ * {@link #findByFooterAndDocumentNameAndCode} is marked cacheable and uses the query cache when
+ * {@code oms.cache.enabled} is set; queries taking the current time would get a new cache key on
+ * every call and are not cached.
  *
  * @author Shailesh Halor
  */
@@ -64,6 +72,7 @@ public interface DocumentConfigEntityRepository extends JpaRepository<DocumentCo
      * @param codeValue     the code reference data value
      * @return list of matching document configuration entities
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("""
             SELECT d FROM DocumentConfigEntity d
             WHERE d.omrdaFooter.refDataValue = :footerValue
@@ -105,7 +114,63 @@ public interface DocumentConfigEntityRepository extends JpaRepository<DocumentCo
             @Param("codeValue") String codeValue,
             @Param("currentDate") OffsetDateTime currentDate
     );
-}
 
+    /**
+     * Find all active document configurations with footer, app doc spec and code fetched in the
+     * same query. Used to build the in-memory document configuration index.
+     *
+     * @param currentDate the current date for comparison
+     * @return list of active document configuration entities with references initialized
+     */
+    @Query("""
+            SELECT d FROM DocumentConfigEntity d
+            JOIN FETCH d.omrdaFooter
+            JOIN FETCH d.omrdaAppDocSpec
+            JOIN FETCH d.omrdaCode
+            WHERE d.effectToDat >= :currentDate
+            """)
+    List<DocumentConfigEntity> findAllActiveWithReferences(@Param("currentDate") OffsetDateTime currentDate);
 
+    /**
+     * Find document configurations created or updated after the given timestamp, with references
+     * fetched. Relies on the trigger-maintained CREATED_DAT/LAST_UPDATE_DAT columns.
+     *
+     * @param since exclusive lower bound for created/last update timestamps
+     * @return list of changed document configuration entities with references initialized
+     */
+    @Query("""
+            SELECT d FROM DocumentConfigEntity d
+            JOIN FETCH d.omrdaFooter
+            JOIN FETCH d.omrdaAppDocSpec
+            JOIN FETCH d.omrdaCode
+            WHERE d.createdDat > :since
+            OR d.lastUpdateDat > :since
+            """)
+    List<DocumentConfigEntity> findChangedSinceWithReferences(@Param("since") OffsetDateTime since);
 
+    /**
+     * Find active document configurations for any combination of the given footer and code values,
+     * with references fetched. Callers match app doc specs against document names in memory and
+     * must keep each collection within Oracle's IN-list limit.
+     *
+     * @param footerValues footer reference data values (at most 1000)
+     * @param codeValues   code reference data values (at most 1000)
+     * @param currentDate  the current date for comparison
+     * @return candidate active configurations ordered by effectFromDat descending
+     */
+    @Query("""
+            SELECT d FROM DocumentConfigEntity d
+            JOIN FETCH d.omrdaFooter f
+            JOIN FETCH d.omrdaAppDocSpec
+            JOIN FETCH d.omrdaCode c
+            WHERE f.refDataValue IN :footerValues
+            AND c.refDataValue IN :codeValues
+            AND d.effectToDat >= :currentDate
+            ORDER BY d.effectFromDat DESC
+            """)
+    List<DocumentConfigEntity> findActiveByFooterValuesAndCodeValues(
+            @Param("footerValues") Collection<String> footerValues,
+            @Param("codeValues") Collection<String> codeValues,
+            @Param("currentDate") OffsetDateTime currentDate
+    );
+}
@@ -1,12 +1,45 @@
 package com.shdev.omsdatabase.repository;
 
+import com.shdev.omsdatabase.dto.DocumentContentDto;
 import com.shdev.omsdatabase.entity.DocumentRequestBlobEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 /**
  * Repository interface for DocumentRequestBlobEntity, providing CRUD operations.
+ * <p>
+ * Loading the entity reads both payload columns. Callers that need a single payload should use
+ * the content projections below, or {@code DocumentPayloadService} to stream it without
+ * materializing a {@code String}. Both read rows written with compressed storage as well: the
+ * projections join TBOM_PAYLOAD_CONTENTS and {@link DocumentContentDto} inflates the content.
  *
  * @author Shailesh Halor
  */
 public interface DocumentRequestBlobEntityRepository extends JpaRepository<DocumentRequestBlobEntity, Long> {
+
+    /**
+     * Read only the JSON payload of a document request.
+     *
+     * @param requestId the document request ID
+     * @return the JSON content, if the row exists
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.shdev.omsdatabase.dto.DocumentContentDto(b.id, 'JSON', b.jsonRequest, c.content) "
+            + "FROM DocumentRequestBlobEntity b LEFT JOIN b.jsonContent c WHERE b.id = :requestId")
+    Optional<DocumentContentDto> findJsonContentById(@Param("requestId") Long requestId);
+
+    /**
+     * Read only the XML payload of a document request.
+     *
+     * @param requestId the document request ID
+     * @return the XML content, if the row exists; the content is null when no XML was stored
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.shdev.omsdatabase.dto.DocumentContentDto(b.id, 'XML', b.xmlRequest, c.content) "
+            + "FROM DocumentRequestBlobEntity b LEFT JOIN b.xmlContent c WHERE b.id = :requestId")
+    Optional<DocumentContentDto> findXmlContentById(@Param("requestId") Long requestId);
 }
@@ -1,14 +1,127 @@
 package com.shdev.omsdatabase.repository;
 
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
 import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for DocumentRequestEntity, providing CRUD operations and dynamic query support.
+ * <p>
+ * Read methods meant for mapping to {@code DocumentRequestOutDto} use the
+ * {@link DocumentRequestEntity#GRAPH_REFERENCES} entity graph, so the four reference data
+ * associations are joined in the same select instead of being loaded per row.
+ * <p>
+ * Read-only callers that only need {@link DocumentRequestOutDto} should prefer the
+ * {@code find...Dto...} methods: they project straight into the record, so no entities are
+ * hydrated or kept in the persistence context.
  *
  * @author Shailesh Halor
  */
 public interface DocumentRequestEntityRepository extends JpaRepository<DocumentRequestEntity, Long>,
         JpaSpecificationExecutor<DocumentRequestEntity> {
+
+    /**
+     * JDBC fetch size for DTO list queries; the Oracle driver default of 10 rows per round trip
+     * dominates the cost of large projections.
+     */
+    String DTO_FETCH_SIZE = "500";
+
+    /**
+     * Constructor projection into {@link DocumentRequestOutDto} joining the four reference data rows.
+     */
+    String SELECT_DTO = "SELECT new com.shdev.omsdatabase.dto.DocumentRequestOutDto(r.id, "
+            + "s.id, s.refDataValue, s.description, t.id, t.refDataValue, t.description, "
+            + "n.id, n.refDataValue, n.description, st.id, st.refDataValue, st.description, "
+            + "r.createdDat, r.lastUpdateDat, r.createUidHeader, r.createUidToken) "
+            + "FROM DocumentRequestEntity r JOIN r.omrdaSourceSystem s JOIN r.omrdaDocumentType t "
+            + "JOIN r.omrdaDocumentName n JOIN r.omrdaDocStatus st ";
+
+    /**
+     * Find a document request with its reference data associations initialized.
+     *
+     * @param id the document request ID
+     * @return the document request, if present
+     */
+    @EntityGraph(DocumentRequestEntity.GRAPH_REFERENCES)
+    Optional<DocumentRequestEntity> findWithReferencesById(Long id);
+
+    /**
+     * Find document requests by ID with their reference data associations initialized.
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param ids the document request IDs
+     * @return matching document requests, in no particular order
+     */
+    @EntityGraph(DocumentRequestEntity.GRAPH_REFERENCES)
+    List<DocumentRequestEntity> findWithReferencesByIdIn(Collection<Long> ids);
+
+    /**
+     * Find a page of document requests matching the specification, with reference data
+     * associations initialized. The count query is not affected by the entity graph.
+     *
+     * @param spec     the filter specification, may be null
+     * @param pageable the page request
+     * @return the page of document requests
+     */
+    @Override
+    @EntityGraph(DocumentRequestEntity.GRAPH_REFERENCES)
+    Page<DocumentRequestEntity> findAll(Specification<DocumentRequestEntity> spec, Pageable pageable);
+
+    /**
+     * Project a document request straight into its output DTO.
+     *
+     * @param id the document request ID
+     * @return the document request DTO, if present
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_DTO + "WHERE r.id = :id")
+    Optional<DocumentRequestOutDto> findDtoById(@Param("id") Long id);
+
+    /**
+     * Project document requests straight into their output DTOs.
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param ids the document request IDs
+     * @return matching document request DTOs ordered by ID
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DTO_FETCH_SIZE)
+    })
+    @Query(SELECT_DTO + "WHERE r.id IN :ids ORDER BY r.id")
+    List<DocumentRequestOutDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Project a page of document requests in the given status straight into their output DTOs.
+     * Sort properties refer to {@code DocumentRequestEntity} attributes, e.g. {@code createdDat}.
+     *
+     * @param docStatusId the document status reference data ID
+     * @param pageable    the page request
+     * @return the page of document request DTOs
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DTO_FETCH_SIZE)
+    })
+    @Query(value = SELECT_DTO + "WHERE st.id = :docStatusId",
+            countQuery = "SELECT COUNT(r) FROM DocumentRequestEntity r WHERE r.omrdaDocStatus.id = :docStatusId")
+    Page<DocumentRequestOutDto> findDtosByDocStatusId(@Param("docStatusId") Long docStatusId, Pageable pageable);
 }
@@ -0,0 +1,156 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import com.shdev.omsdatabase.util.MetadataJson;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link MetadataStore} over TBOM_REQUEST_METADATA_DOCS, one JSON document per request
+ * (see {@link MetadataJson}).
+ * <p>
+ * A request's metadata is one row and one read instead of one row, sequence value and index
+ * entries per value. Searches filter with {@code JSON_EXISTS(metadata, '$."<keyId>"?(@ == $v)')}:
+ * in lax mode the filter applies to a single value as well as to every element of the array
+ * stored for a repeated key, and the JSON search index {@code omrmd_01} serves it for all keys.
+ * Metadata keys are resolved to reference data in one query per read. Values carry no id of
+ * their own: {@link MetadataValueOutDto#id()} is {@code null}.
+ *
+ * @author Shailesh Halor
+ */
+@Component
+public class JsonMetadataStore implements MetadataStore {
+
+    static final String SELECT_DOCUMENTS = """
+            SELECT omdrt_id, metadata
+            FROM tbom_request_metadata_docs
+            WHERE omdrt_id IN (:requestIds)""";
+    static final String INSERT_DOCUMENT = """
+            INSERT INTO tbom_request_metadata_docs (omdrt_id, metadata)
+            VALUES (?, ?)""";
+    static final String MERGE_DOCUMENT = """
+            MERGE INTO tbom_request_metadata_docs d
+            USING (SELECT ? AS omdrt_id FROM dual) s
+            ON (d.omdrt_id = s.omdrt_id)
+            WHEN MATCHED THEN UPDATE SET d.metadata = ?
+            WHEN NOT MATCHED THEN INSERT (omdrt_id, metadata) VALUES (s.omdrt_id, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ReferenceDataEntityRepository referenceDataRepository;
+
+    public JsonMetadataStore(JdbcTemplate jdbcTemplate, ReferenceDataEntityRepository referenceDataRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.referenceDataRepository = referenceDataRepository;
+    }
+
+    /**
+     * Search condition for a metadata key, true when the key holds {@code :value} either as its
+     * single value or as an element of its array of values.
+     *
+     * @param metadataKeyId the metadata key ID
+     * @return the SQL condition, binding the named parameter {@code value}
+     */
+    static String searchCondition(long metadataKeyId) {
+        return "JSON_EXISTS(metadata, '$.\"" + metadataKeyId + "\"?(@ == $v)' PASSING :value AS \"v\")";
+    }
+
+    @Override
+    public Map<Long, List<MetadataValueOutDto>> findByRequestIds(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<MetadataEntry>> documents = new LinkedHashMap<>();
+        namedJdbcTemplate.query(SELECT_DOCUMENTS, new MapSqlParameterSource("requestIds", requestIds),
+                rs -> {
+                    documents.put(rs.getLong(1), MetadataJson.read(rs.getString(2)));
+                });
+        Set<Long> keyIds = new LinkedHashSet<>();
+        documents.values().forEach(entries -> entries.forEach(entry -> keyIds.add(entry.metadataKeyId())));
+        Map<Long, ReferenceDataLiteDto> keys = new HashMap<>();
+        if (!keyIds.isEmpty()) {
+            referenceDataRepository.findLiteByIdIn(keyIds).forEach(key -> keys.put(key.id(), key));
+        }
+        Map<Long, List<MetadataValueOutDto>> result = new LinkedHashMap<>();
+        documents.forEach((requestId, entries) -> {
+            List<MetadataValueOutDto> values = new ArrayList<>(entries.size());
+            for (MetadataEntry entry : entries) {
+                ReferenceDataLiteDto key = keys.getOrDefault(entry.metadataKeyId(),
+                        new ReferenceDataLiteDto(entry.metadataKeyId(), null, null));
+                values.add(new MetadataValueOutDto(null, requestId, key, entry.metadataValue()));
+            }
+            result.put(requestId, values);
+        });
+        return result;
+    }
+
+    @Override
+    public List<Long> findRequestIds(MetadataCondition condition) {
+        return namedJdbcTemplate.queryForList(
+                "SELECT omdrt_id FROM tbom_request_metadata_docs WHERE " + searchCondition(condition.metadataKeyId()),
+                new MapSqlParameterSource("value", condition.value()), Long.class);
+    }
+
+    @Override
+    public List<Long> findRequestIds(MetadataCondition condition, Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList(
+                "SELECT omdrt_id FROM tbom_request_metadata_docs WHERE omdrt_id IN (:requestIds) AND "
+                        + searchCondition(condition.metadataKeyId()),
+                new MapSqlParameterSource("value", condition.value()).addValue("requestIds", requestIds), Long.class);
+    }
+
+    @Override
+    public void insertAll(Map<Long, List<MetadataEntry>> metadataByRequest) {
+        List<Object[]> rows = new ArrayList<>(metadataByRequest.size());
+        metadataByRequest.forEach((requestId, entries) -> {
+            String document = MetadataJson.write(entries);
+            if (document != null) {
+                rows.add(new Object[]{requestId, new SqlParameterValue(Types.CLOB, document)});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DOCUMENT, rows);
+        }
+    }
+
+    /**
+     * Insert or replace the metadata documents of existing document requests as one JDBC batch.
+     *
+     * @param metadataByRequest metadata entries by document request id; requests without entries are skipped
+     * @return number of documents written
+     */
+    public int replaceAll(Map<Long, List<MetadataEntry>> metadataByRequest) {
+        List<Object[]> rows = new ArrayList<>(metadataByRequest.size());
+        metadataByRequest.forEach((requestId, entries) -> {
+            String document = MetadataJson.write(entries);
+            if (document != null) {
+                SqlParameterValue clob = new SqlParameterValue(Types.CLOB, document);
+                rows.add(new Object[]{requestId, clob, clob});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(MERGE_DOCUMENT, rows);
+        }
+        return rows.size();
+    }
+}
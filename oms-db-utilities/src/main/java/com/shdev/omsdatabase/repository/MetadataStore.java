@@ -0,0 +1,54 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage of document request metadata values, independent of the table layout.
+ * <p>
+ * {@link RowMetadataStore} keeps one TBOM_REQUESTS_METADATA_VALUES row per value,
+ * {@link JsonMetadataStore} one TBOM_REQUEST_METADATA_DOCS JSON document per request. The
+ * primary {@code MetadataStore} bean is selected by {@code oms.metadata.storage}.
+ * Methods taking request ids accept at most {@code InClauseUtils.ORACLE_IN_LIST_LIMIT} ids.
+ *
+ * @author Shailesh Halor
+ */
+public interface MetadataStore {
+
+    /**
+     * Load the metadata values of document requests.
+     *
+     * @param requestIds the document request IDs
+     * @return metadata values by request id; requests without metadata are absent
+     */
+    Map<Long, List<MetadataValueOutDto>> findByRequestIds(Collection<Long> requestIds);
+
+    /**
+     * Find the document requests carrying a metadata value.
+     *
+     * @param condition the metadata key and value
+     * @return distinct document request IDs
+     */
+    List<Long> findRequestIds(MetadataCondition condition);
+
+    /**
+     * Narrow candidate document requests to those carrying a metadata value.
+     *
+     * @param condition  the metadata key and value
+     * @param requestIds the candidate document request IDs
+     * @return distinct matching document request IDs
+     */
+    List<Long> findRequestIds(MetadataCondition condition, Collection<Long> requestIds);
+
+    /**
+     * Insert the metadata of newly created document requests as JDBC batches.
+     *
+     * @param metadataByRequest metadata entries by document request id
+     */
+    void insertAll(Map<Long, List<MetadataEntry>> metadataByRequest);
+}
@@ -0,0 +1,67 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.util.PayloadCompression;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes compressed payloads to TBOM_PAYLOAD_CONTENTS, keyed by content hash.
+ * <p>
+ * Each distinct hash is stored once: the MERGE only inserts hashes that are not present yet.
+ * Two sessions inserting the same new hash concurrently can still collide on the primary key;
+ * since equal hashes mean equal content, the losing batch is simply retried once.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayloadContentStore {
+
+    static final String MERGE_CONTENT = """
+            MERGE INTO tbom_payload_contents c
+            USING (SELECT ? AS content_hash FROM dual) s
+            ON (c.content_hash = s.content_hash)
+            WHEN NOT MATCHED THEN
+                INSERT (content_hash, codec, original_length, content)
+                VALUES (s.content_hash, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Store the payloads whose hash is not stored yet.
+     *
+     * @param payloads compressed payloads; duplicates by hash are written once
+     */
+    public void saveAll(Collection<PayloadCompression.Compressed> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        Map<String, PayloadCompression.Compressed> distinct = new LinkedHashMap<>();
+        for (PayloadCompression.Compressed payload : payloads) {
+            distinct.putIfAbsent(payload.hash(), payload);
+        }
+        List<Object[]> rows = new ArrayList<>(distinct.size());
+        for (PayloadCompression.Compressed payload : distinct.values()) {
+            rows.add(new Object[]{payload.hash(), PayloadCompression.CODEC_DEFLATE, payload.originalLength(),
+                    new SqlParameterValue(Types.BLOB, payload.data())});
+        }
+        try {
+            jdbcTemplate.batchUpdate(MERGE_CONTENT, rows);
+        } catch (DuplicateKeyException e) {
+            log.debug("Concurrent insert of an identical payload, retrying content merge: {}", e.getMessage());
+            jdbcTemplate.batchUpdate(MERGE_CONTENT, rows);
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.shdev.omsdatabase.repository;
 
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
 import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for ReferenceDataEntity, providing CRUD operations.
+ * <p>
+ * {@link #findByRefDataType} is marked cacheable and uses the query cache when
+ * {@code oms.cache.enabled} is set. Queries taking the current time would get a new cache key on
+ * every call, and the snapshot load must see changes made outside Hibernate, so neither is cached.
  *
  * @author Shailesh Halor
  */
@@ -21,6 +31,7 @@ public interface ReferenceDataEntityRepository extends JpaRepository<ReferenceDa
      * @param refDataType the reference data type
      * @return list of reference data entities
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<ReferenceDataEntity> findByRefDataType(String refDataType);
 
     /**
@@ -55,6 +66,26 @@ public interface ReferenceDataEntityRepository extends JpaRepository<ReferenceDa
     List<ReferenceDataEntity> findByRefDataTypeAndValueAndActive(@Param("refDataType") String refDataType,
                                                                   @Param("refDataValue") String refDataValue,
                                                                   @Param("currentDate") OffsetDateTime currentDate);
-}
 
+    /**
+     * Load all reference data rows directly as DTOs (constructor projection), without hydrating
+     * managed entities. Used to build the in-memory reference data snapshot.
+     *
+     * @return all reference data rows ordered by id
+     */
+    @Query("SELECT new com.shdev.omsdatabase.dto.ReferenceDataDto(r.id, r.refDataType, r.refDataValue, r.description, "
+            + "r.editable, r.effectFromDat, r.effectToDat, r.createdDat, r.lastUpdateDat, r.createUid, r.lastUpdateUid) "
+            + "FROM ReferenceDataEntity r ORDER BY r.id")
+    List<ReferenceDataDto> findAllAsDto();
 
+    /**
+     * Load reference data rows by id as lite DTOs (constructor projection).
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param ids the reference data IDs
+     * @return the rows found, in no particular order
+     */
+    @Query("SELECT new com.shdev.omsdatabase.dto.ReferenceDataLiteDto(r.id, r.refDataValue, r.description) "
+            + "FROM ReferenceDataEntity r WHERE r.id IN :ids")
+    List<ReferenceDataLiteDto> findLiteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,8 +1,17 @@
 package com.shdev.omsdatabase.repository;
 
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
 import com.shdev.omsdatabase.entity.RequestsMetadataValueEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -13,10 +22,73 @@ import java.util.List;
 public interface RequestsMetadataValueEntityRepository extends JpaRepository<RequestsMetadataValueEntity, Long> {
 
     /**
-     * Find all metadata values for a specific document request.
+     * Constructor projection into {@link MetadataValueOutDto} joining the metadata key.
+     */
+    String SELECT_DTO = "SELECT new com.shdev.omsdatabase.dto.MetadataValueOutDto(m.id, m.omdrt.id, "
+            + "k.id, k.refDataValue, k.description, m.metadataValue) "
+            + "FROM RequestsMetadataValueEntity m JOIN m.omrda k ";
+
+    /**
+     * Find all metadata values for a specific document request. The metadata key is fetched in the same select.
      *
      * @param requestId the document request ID
      * @return list of metadata values
      */
+    @EntityGraph(attributePaths = "omrda")
     List<RequestsMetadataValueEntity> findByOmdrt_Id(Long requestId);
+
+    /**
+     * Project all metadata values of a document request straight into their output DTOs.
+     *
+     * @param requestId the document request ID
+     * @return metadata value DTOs ordered by ID
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_DTO + "WHERE m.omdrt.id = :requestId ORDER BY m.id")
+    List<MetadataValueOutDto> findDtosByRequestId(@Param("requestId") Long requestId);
+
+    /**
+     * Project all metadata values of the given document requests straight into their output DTOs.
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param requestIds the document request IDs
+     * @return metadata value DTOs ordered by request ID, then ID
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DocumentRequestEntityRepository.DTO_FETCH_SIZE)
+    })
+    @Query(SELECT_DTO + "WHERE m.omdrt.id IN :requestIds ORDER BY m.omdrt.id, m.id")
+    List<MetadataValueOutDto> findDtosByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
+
+    /**
+     * Find the ids of document requests carrying a metadata value, resolved from index omrme_02
+     * (metadata key, value, request) without visiting the table.
+     *
+     * @param metadataKeyId the metadata key ID
+     * @param value         the exact metadata value
+     * @return distinct document request IDs
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT m.omdrt.id FROM RequestsMetadataValueEntity m "
+            + "WHERE m.omrda.id = :metadataKeyId AND m.metadataValue = :value")
+    List<Long> findRequestIdsByKeyAndValue(@Param("metadataKeyId") Long metadataKeyId, @Param("value") String value);
+
+    /**
+     * Narrow candidate document requests to those carrying a metadata value.
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param metadataKeyId the metadata key ID
+     * @param value         the exact metadata value
+     * @param requestIds    the candidate document request IDs
+     * @return distinct matching document request IDs
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT DISTINCT m.omdrt.id FROM RequestsMetadataValueEntity m "
+            + "WHERE m.omrda.id = :metadataKeyId AND m.metadataValue = :value AND m.omdrt.id IN :requestIds")
+    List<Long> findRequestIdsByKeyAndValueAndRequestIdIn(@Param("metadataKeyId") Long metadataKeyId,
+                                                         @Param("value") String value,
+                                                         @Param("requestIds") Collection<Long> requestIds);
 }
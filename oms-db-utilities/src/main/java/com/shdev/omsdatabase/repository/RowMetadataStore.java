@@ -0,0 +1,74 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link MetadataStore} over TBOM_REQUESTS_METADATA_VALUES, one row per metadata value (EAV).
+ * Reads use the DTO projections of {@link RequestsMetadataValueEntityRepository}; inserts are
+ * fixed-shape JDBC batches with ids pre-allocated from the sequence.
+ *
+ * @author Shailesh Halor
+ */
+@Component
+@RequiredArgsConstructor
+public class RowMetadataStore implements MetadataStore {
+
+    static final String SEQUENCE = "SQOMRME_METADATA_VALUE_ID";
+    static final String INSERT_METADATA = """
+            INSERT INTO tbom_requests_metadata_values (id, omdrt_id, omrda_id, metadata_value)
+            VALUES (?, ?, ?, ?)""";
+
+    private final RequestsMetadataValueEntityRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    @Override
+    public Map<Long, List<MetadataValueOutDto>> findByRequestIds(Collection<Long> requestIds) {
+        Map<Long, List<MetadataValueOutDto>> result = new LinkedHashMap<>();
+        for (MetadataValueOutDto value : repository.findDtosByRequestIdIn(requestIds)) {
+            result.computeIfAbsent(value.requestId(), id -> new ArrayList<>()).add(value);
+        }
+        return result;
+    }
+
+    @Override
+    public List<Long> findRequestIds(MetadataCondition condition) {
+        return repository.findRequestIdsByKeyAndValue(condition.metadataKeyId(), condition.value());
+    }
+
+    @Override
+    public List<Long> findRequestIds(MetadataCondition condition, Collection<Long> requestIds) {
+        return repository.findRequestIdsByKeyAndValueAndRequestIdIn(condition.metadataKeyId(), condition.value(), requestIds);
+    }
+
+    @Override
+    public void insertAll(Map<Long, List<MetadataEntry>> metadataByRequest) {
+        int count = 0;
+        for (List<MetadataEntry> entries : metadataByRequest.values()) {
+            count += entries.size();
+        }
+        if (count == 0) {
+            return;
+        }
+        long[] ids = idAllocator.allocate(SEQUENCE, count);
+        List<Object[]> rows = new ArrayList<>(count);
+        int index = 0;
+        for (Map.Entry<Long, List<MetadataEntry>> request : metadataByRequest.entrySet()) {
+            for (MetadataEntry entry : request.getValue()) {
+                rows.add(new Object[]{ids[index++], request.getKey(), entry.metadataKeyId(), entry.metadataValue()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_METADATA, rows);
+    }
+}
@@ -0,0 +1,67 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.constants.OmsConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Allocates primary keys from OMS sequences for JDBC-level bulk inserts.
+ * <p>
+ * Uses the same pooled-lo scheme as Hibernate: every {@code NEXTVAL} reserves the block
+ * {@code [value, value + ID_ALLOCATION_SIZE - 1]}. All blocks needed for a request are fetched in
+ * one round trip, so ids never collide with those handed out by Hibernate, the insert triggers or
+ * the PL/SQL functions.
+ *
+ * @author Shailesh Halor
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceIdAllocator {
+
+    private static final Pattern SEQUENCE_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Allocate {@code count} ids from the given sequence.
+     *
+     * @param sequenceName the Oracle sequence name
+     * @param count        number of ids needed
+     * @return ascending ids within the reserved blocks
+     */
+    public long[] allocate(String sequenceName, int count) {
+        if (!SEQUENCE_NAME.matcher(sequenceName).matches()) {
+            throw new IllegalArgumentException("Invalid sequence name: " + sequenceName);
+        }
+        if (count <= 0) {
+            return new long[0];
+        }
+        int blocks = (count + OmsConstants.ID_ALLOCATION_SIZE - 1) / OmsConstants.ID_ALLOCATION_SIZE;
+        List<Long> blockStarts = jdbcTemplate.queryForList(
+                "SELECT " + sequenceName + ".NEXTVAL FROM dual CONNECT BY LEVEL <= ?", Long.class, blocks);
+        return expand(blockStarts, count, OmsConstants.ID_ALLOCATION_SIZE);
+    }
+
+    /**
+     * Expand pooled-lo block start values into individual ids.
+     *
+     * @param blockStarts the NEXTVAL values
+     * @param count       number of ids needed
+     * @param blockSize   ids per block
+     * @return ids in block order
+     */
+    static long[] expand(List<Long> blockStarts, int count, int blockSize) {
+        if ((long) blockStarts.size() * blockSize < count) {
+            throw new IllegalStateException("Sequence returned " + blockStarts.size() + " blocks for " + count + " ids");
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = blockStarts.get(i / blockSize) + (i % blockSize);
+        }
+        return ids;
+    }
+}
@@ -1,8 +1,17 @@
 package com.shdev.omsdatabase.repository;
 
+import com.shdev.omsdatabase.dto.ThBatchOutDto;
 import com.shdev.omsdatabase.entity.ThBatchEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,11 +21,59 @@ import java.util.List;
  */
 public interface ThBatchEntityRepository extends JpaRepository<ThBatchEntity, Long> {
 
+    /**
+     * Constructor projection into {@link ThBatchOutDto} joining the batch status. The request ID is
+     * read from the foreign key column, the request row itself is not joined.
+     */
+    String SELECT_DTO = "SELECT new com.shdev.omsdatabase.dto.ThBatchOutDto(b.id, b.omdrt.id, b.thBatchId, "
+            + "st.id, st.refDataValue, st.description, b.batchName, b.dmsDocumentId, b.syncStatus, "
+            + "b.eventStatus, b.retryCount, b.createdDat, b.lastUpdateDat, b.createUidHeader, b.createUidToken) "
+            + "FROM ThBatchEntity b JOIN b.omrdaThStatus st ";
+
     /**
      * Find all batches for a specific document request, ordered by creation date descending (newest first).
+     * The batch status is fetched in the same select.
      *
      * @param requestId the document request ID
      * @return list of batches ordered by creation date descending
      */
+    @EntityGraph(attributePaths = "omrdaThStatus")
     List<ThBatchEntity> findByOmdrt_IdOrderByCreatedDatDesc(Long requestId);
+
+    /**
+     * Find all batches for the given document requests, with the owning request and the batch
+     * status fetched in the same select. Callers with more than 1000 IDs should chunk them,
+     * see {@code InClauseUtils}.
+     *
+     * @param requestIds the document request IDs
+     * @return batches of the given requests, in no particular order
+     */
+    @EntityGraph(ThBatchEntity.GRAPH_REFERENCES)
+    List<ThBatchEntity> findWithReferencesByOmdrt_IdIn(Collection<Long> requestIds);
+
+    /**
+     * Project all batches of a document request straight into their output DTOs, newest first.
+     *
+     * @param requestId the document request ID
+     * @return batch DTOs ordered by creation date descending
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(SELECT_DTO + "WHERE b.omdrt.id = :requestId ORDER BY b.createdDat DESC")
+    List<ThBatchOutDto> findDtosByRequestId(@Param("requestId") Long requestId);
+
+    /**
+     * Project all batches of the given document requests straight into their output DTOs.
+     * Callers with more than 1000 IDs should chunk them, see {@code InClauseUtils}.
+     *
+     * @param requestIds the document request IDs
+     * @return batch DTOs ordered by request ID, then creation date descending
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DocumentRequestEntityRepository.DTO_FETCH_SIZE)
+    })
+    @Query(SELECT_DTO + "WHERE b.omdrt.id IN :requestIds ORDER BY b.omdrt.id, b.createdDat DESC")
+    List<ThBatchOutDto> findDtosByRequestIdIn(@Param("requestIds") Collection<Long> requestIds);
 }
@@ -0,0 +1,87 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.constants.OmsConstants;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Hit ratios of the Hibernate second-level and query cache, read from the Hibernate statistics
+ * (switched on together with the cache by {@code oms.cache.enabled}). Intended for health checks
+ * or gauges of the host service; counters are cumulative since startup or the last {@link #reset()}.
+ *
+ * @author Shailesh Halor
+ */
+@Service
+@ConditionalOnProperty(prefix = "oms.cache", name = "enabled", havingValue = "true")
+public class CacheStatisticsService {
+
+    private final Statistics statistics;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    CacheStatisticsService(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Statistics of the OMS entity regions.
+     *
+     * @return one entry per region, in {@link OmsConstants#CACHE_REGIONS} order
+     */
+    public List<RegionStatistics> getRegionStatistics() {
+        return OmsConstants.CACHE_REGIONS.stream()
+                .map(region -> {
+                    CacheRegionStatistics counters = statistics.getDomainDataRegionStatistics(region);
+                    return counters == null
+                            ? new RegionStatistics(region, 0, 0, 0)
+                            : new RegionStatistics(region, counters.getHitCount(), counters.getMissCount(), counters.getPutCount());
+                })
+                .toList();
+    }
+
+    /**
+     * Statistics of the query cache over all query result regions.
+     *
+     * @return query cache hits, misses and puts
+     */
+    public RegionStatistics getQueryCacheStatistics() {
+        return new RegionStatistics("query-results", statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount());
+    }
+
+    /**
+     * Reset all Hibernate statistics counters.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Cache counters of one region.
+     *
+     * @param region the region name
+     * @param hits   lookups answered from the cache
+     * @param misses lookups that went to the database
+     * @param puts   entries stored
+     */
+    public record RegionStatistics(String region, long hits, long misses, long puts) {
+
+        /**
+         * Fraction of lookups answered from the cache.
+         *
+         * @return hits / (hits + misses), 0 without lookups
+         */
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+}
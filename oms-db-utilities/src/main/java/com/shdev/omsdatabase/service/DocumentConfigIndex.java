@@ -0,0 +1,251 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable in-memory index of document configurations replacing the
+ * {@code :documentName LIKE CONCAT(appDocSpec, '%')} repository queries.
+ * <p>
+ * Configurations are grouped by (footer value, code value). Within a group, app doc spec values
+ * are stored in a character trie so that all specs which are a prefix of (or equal to) a document
+ * name are found in one walk over the name; the {@value #WILDCARD} spec matches every name.
+ * Matches are returned in {@code effectFromDat DESC} order, like the repository queries.
+ * <p>
+ * {@link #withChanges(Collection)} produces a new index that rebuilds only the groups touched by
+ * the changed rows and shares all other groups with this index.
+ *
+ * @author Shailesh Halor
+ */
+public final class DocumentConfigIndex {
+
+    /**
+     * App doc spec value that matches every document name.
+     */
+    public static final String WILDCARD = "*";
+
+    /**
+     * Empty index used before the first load.
+     */
+    public static final DocumentConfigIndex EMPTY = new DocumentConfigIndex(Map.of(), Map.of());
+
+    private static final Comparator<DocumentConfigOutDto> MOST_RECENT_FIRST = Comparator
+            .comparing(DocumentConfigOutDto::effectFromDat, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(DocumentConfigOutDto::id, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Map<Long, DocumentConfigOutDto> byId;
+    private final Map<GroupKey, Group> groups;
+
+    private DocumentConfigIndex(Map<Long, DocumentConfigOutDto> byId, Map<GroupKey, Group> groups) {
+        this.byId = byId;
+        this.groups = groups;
+    }
+
+    /**
+     * Build an index from the given configurations.
+     *
+     * @param configs document configurations with footer, app doc spec and code populated
+     * @return the index
+     */
+    public static DocumentConfigIndex of(Collection<DocumentConfigOutDto> configs) {
+        return EMPTY.withChanges(configs);
+    }
+
+    /**
+     * Create a new index with the given configurations added or replaced (matched by id).
+     * Only the (footer, code) groups containing changed rows, before or after the change, are rebuilt.
+     *
+     * @param changed added or updated document configurations
+     * @return the new index, or this index if nothing changed
+     */
+    public DocumentConfigIndex withChanges(Collection<DocumentConfigOutDto> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        Map<Long, DocumentConfigOutDto> ids = new HashMap<>(byId);
+        Set<GroupKey> affected = new HashSet<>();
+        for (DocumentConfigOutDto config : changed) {
+            DocumentConfigOutDto previous = ids.put(config.id(), config);
+            if (previous != null) {
+                affected.add(GroupKey.of(previous));
+            }
+            affected.add(GroupKey.of(config));
+        }
+
+        Map<GroupKey, List<DocumentConfigOutDto>> rebuilt = new HashMap<>();
+        for (DocumentConfigOutDto config : ids.values()) {
+            GroupKey key = GroupKey.of(config);
+            if (affected.contains(key)) {
+                rebuilt.computeIfAbsent(key, k -> new ArrayList<>()).add(config);
+            }
+        }
+
+        Map<GroupKey, Group> newGroups = new HashMap<>(groups);
+        for (GroupKey key : affected) {
+            List<DocumentConfigOutDto> members = rebuilt.get(key);
+            if (members == null) {
+                newGroups.remove(key);
+            } else {
+                newGroups.put(key, Group.of(members));
+            }
+        }
+        return new DocumentConfigIndex(Map.copyOf(ids), Map.copyOf(newGroups));
+    }
+
+    /**
+     * Resolve all configurations whose app doc spec is the wildcard, equal to, or a prefix of the
+     * document name and which are active at the given date ({@code effectToDat >= asOf}).
+     * Equivalent to {@code DocumentConfigEntityRepository.findByFooterAndDocumentNameAndCodeActive}.
+     *
+     * @param footerValue  the footer reference data value
+     * @param documentName the document name
+     * @param codeValue    the code reference data value
+     * @param asOf         the date for the active check
+     * @return matching configurations ordered by effectFromDat descending
+     */
+    public List<DocumentConfigOutDto> resolve(String footerValue, String documentName, String codeValue,
+                                              OffsetDateTime asOf) {
+        Group group = groups.get(new GroupKey(footerValue, codeValue));
+        if (group == null || documentName == null) {
+            return List.of();
+        }
+        List<DocumentConfigOutDto> matches = new ArrayList<>();
+        addActive(group.wildcard, asOf, matches);
+        TrieNode node = group.root;
+        for (int i = 0; i < documentName.length() && node != null; i++) {
+            node = node.children.get(documentName.charAt(i));
+            if (node != null) {
+                addActive(node.configs, asOf, matches);
+            }
+        }
+        matches.sort(MOST_RECENT_FIRST);
+        return matches;
+    }
+
+    /**
+     * Resolve the single best configuration by precedence: exact app doc spec match, then the
+     * longest prefix match, then the wildcard. Within a level the most recent effectFromDat wins.
+     *
+     * @param footerValue  the footer reference data value
+     * @param documentName the document name
+     * @param codeValue    the code reference data value
+     * @param asOf         the date for the active check
+     * @return the best matching configuration, if any
+     */
+    public Optional<DocumentConfigOutDto> resolveBestMatch(String footerValue, String documentName, String codeValue,
+                                                           OffsetDateTime asOf) {
+        Group group = groups.get(new GroupKey(footerValue, codeValue));
+        if (group == null || documentName == null) {
+            return Optional.empty();
+        }
+        DocumentConfigOutDto best = null;
+        TrieNode node = group.root;
+        for (int i = 0; i < documentName.length() && node != null; i++) {
+            node = node.children.get(documentName.charAt(i));
+            if (node != null) {
+                DocumentConfigOutDto candidate = firstActive(node.configs, asOf);
+                if (candidate != null) {
+                    best = candidate;
+                }
+            }
+        }
+        if (best == null) {
+            best = firstActive(group.wildcard, asOf);
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Number of configurations in this index.
+     *
+     * @return configuration count
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    private static void addActive(List<DocumentConfigOutDto> configs, OffsetDateTime asOf,
+                                  List<DocumentConfigOutDto> target) {
+        for (DocumentConfigOutDto config : configs) {
+            if (isActive(config, asOf)) {
+                target.add(config);
+            }
+        }
+    }
+
+    private static DocumentConfigOutDto firstActive(List<DocumentConfigOutDto> configs, OffsetDateTime asOf) {
+        for (DocumentConfigOutDto config : configs) {
+            if (isActive(config, asOf)) {
+                return config;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isActive(DocumentConfigOutDto config, OffsetDateTime asOf) {
+        return config.effectToDat() == null || !config.effectToDat().isBefore(asOf);
+    }
+
+    private record GroupKey(String footerValue, String codeValue) {
+
+        private static GroupKey of(DocumentConfigOutDto config) {
+            return new GroupKey(config.footer().refDataValue(), config.code().refDataValue());
+        }
+    }
+
+    /**
+     * Configurations of one (footer, code) pair: wildcard specs plus a trie over all other specs.
+     */
+    private record Group(List<DocumentConfigOutDto> wildcard, TrieNode root) {
+
+        private static Group of(List<DocumentConfigOutDto> members) {
+            List<DocumentConfigOutDto> wildcard = new ArrayList<>();
+            TrieNode root = new TrieNode();
+            for (DocumentConfigOutDto config : members) {
+                String spec = config.appDocSpec().refDataValue();
+                if (WILDCARD.equals(spec)) {
+                    wildcard.add(config);
+                } else if (spec != null && !spec.isEmpty()) {
+                    root.insert(spec, config);
+                }
+            }
+            wildcard.sort(MOST_RECENT_FIRST);
+            root.seal();
+            return new Group(List.copyOf(wildcard), root);
+        }
+    }
+
+    /**
+     * Trie node keyed by app doc spec characters. Mutable only while its group is being built.
+     */
+    private static final class TrieNode {
+
+        private Map<Character, TrieNode> children = new HashMap<>();
+        private List<DocumentConfigOutDto> configs = new ArrayList<>(0);
+
+        private void insert(String spec, DocumentConfigOutDto config) {
+            TrieNode node = this;
+            for (int i = 0; i < spec.length(); i++) {
+                node = node.children.computeIfAbsent(spec.charAt(i), c -> new TrieNode());
+            }
+            node.configs.add(config);
+        }
+
+        private void seal() {
+            configs.sort(MOST_RECENT_FIRST);
+            configs = List.copyOf(configs);
+            children.values().forEach(TrieNode::seal);
+            children = Map.copyOf(children);
+        }
+    }
+}
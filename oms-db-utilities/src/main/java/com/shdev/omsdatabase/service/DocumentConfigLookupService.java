@@ -0,0 +1,80 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentConfigLookupKey;
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.mapper.DocumentConfigurationMapper;
+import com.shdev.omsdatabase.repository.DocumentConfigEntityRepository;
+import com.shdev.omsdatabase.util.InClauseUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bulk document configuration lookup for many (footer, document name, code) keys at once.
+ * <p>
+ * Instead of one {@code findByFooterAndDocumentNameAndCodeActive} query per key, the distinct
+ * footer and code values are sent as IN lists (chunked at {@link InClauseUtils#ORACLE_IN_LIST_LIMIT})
+ * and the app doc spec prefix/wildcard match is applied in memory through a
+ * {@link DocumentConfigIndex}. A batch with fewer than 1000 distinct footers and codes needs a
+ * single query.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentConfigLookupService {
+
+    private final DocumentConfigEntityRepository repository;
+    private final DocumentConfigurationMapper mapper;
+
+    /**
+     * Resolve active configurations for all keys.
+     *
+     * @param keys the lookup keys
+     * @param asOf the date for the active check ({@code effectToDat >= asOf})
+     * @return map from each distinct key to its matches ordered by effectFromDat descending
+     *         (empty list when nothing matches), in key encounter order
+     */
+    @Transactional(readOnly = true)
+    public Map<DocumentConfigLookupKey, List<DocumentConfigOutDto>> findActive(
+            Collection<DocumentConfigLookupKey> keys, OffsetDateTime asOf) {
+        List<DocumentConfigLookupKey> validKeys = keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> key.footerValue() != null && key.codeValue() != null)
+                .toList();
+        List<String> footers = validKeys.stream().map(DocumentConfigLookupKey::footerValue).toList();
+        List<String> codes = validKeys.stream().map(DocumentConfigLookupKey::codeValue).toList();
+
+        List<DocumentConfigOutDto> candidates = new ArrayList<>();
+        int queries = 0;
+        for (List<String> footerChunk : InClauseUtils.chunks(footers)) {
+            for (List<String> codeChunk : InClauseUtils.chunks(codes)) {
+                repository.findActiveByFooterValuesAndCodeValues(footerChunk, codeChunk, asOf).stream()
+                        .map(mapper::toDto)
+                        .forEach(candidates::add);
+                queries++;
+            }
+        }
+        log.debug("Resolved {} configuration keys with {} queries ({} candidates)",
+                validKeys.size(), queries, candidates.size());
+
+        DocumentConfigIndex index = DocumentConfigIndex.of(candidates);
+        Map<DocumentConfigLookupKey, List<DocumentConfigOutDto>> result = new LinkedHashMap<>();
+        for (DocumentConfigLookupKey key : keys) {
+            if (key != null && !result.containsKey(key)) {
+                result.put(key, index.resolve(key.footerValue(), key.documentName(), key.codeValue(), asOf));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,229 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.DocumentConfigResolverProperties;
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.mapper.DocumentConfigurationMapper;
+import com.shdev.omsdatabase.repository.DocumentConfigEntityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves document configurations by (footer value, document name, code value) from an in-memory
+ * {@link DocumentConfigIndex} instead of the {@code LIKE CONCAT} repository queries.
+ * <p>
+ * The index is loaded during context startup and kept current by incremental refreshes that only
+ * fetch rows whose trigger-maintained CREATED_DAT or LAST_UPDATE_DAT is newer than the last seen
+ * change minus {@code refresh-overlap}. The timestamps are set when a row is written, not when it
+ * commits, so without the overlap a transaction committing just after a refresh with an earlier
+ * timestamp would be missed until the next full reload; rows re-read inside the overlap are simply
+ * applied again. A periodic full reload drops deleted and expired rows. Each refresh swaps in a new
+ * immutable index atomically. A failed refresh keeps the previous index.
+ * <p>
+ * Loads are called from startup and the refresh thread, not through the bean proxy, so each one
+ * runs its queries in a read-only {@link TransactionTemplate} for a consistent view. The resolver
+ * is opt-in ({@code oms.document-config.resolver.enabled=true}).
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "oms.document-config.resolver", name = "enabled", havingValue = "true")
+public class DocumentConfigResolver implements SmartInitializingSingleton, DisposableBean {
+
+    private final DocumentConfigEntityRepository repository;
+    private final DocumentConfigurationMapper mapper;
+    private final DocumentConfigResolverProperties properties;
+    private final TransactionOperations readOnlyTransaction;
+    private final Clock clock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.EMPTY);
+    private ScheduledExecutorService scheduler;
+
+    public DocumentConfigResolver(DocumentConfigEntityRepository repository,
+                                  DocumentConfigurationMapper mapper,
+                                  DocumentConfigResolverProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this(repository, mapper, properties, readOnly(transactionManager), Clock.systemUTC());
+    }
+
+    DocumentConfigResolver(DocumentConfigEntityRepository repository,
+                           DocumentConfigurationMapper mapper,
+                           DocumentConfigResolverProperties properties,
+                           TransactionOperations readOnlyTransaction,
+                           Clock clock) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.properties = properties;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isWarmUp()) {
+            reload();
+        }
+        Duration interval = properties.getRefreshInterval();
+        if (interval != null && interval.isPositive()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "oms-document-config-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long initialDelay = properties.isWarmUp() ? interval.toMillis() : 0;
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, initialDelay, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolve all active configurations matching the document name, ordered by effectFromDat
+     * descending. Same result as {@code findByFooterAndDocumentNameAndCodeActive}.
+     *
+     * @param footerValue  the footer reference data value
+     * @param documentName the document name
+     * @param codeValue    the code reference data value
+     * @param asOf         the date for the active check
+     * @return matching configurations
+     */
+    public List<DocumentConfigOutDto> resolve(String footerValue, String documentName, String codeValue,
+                                              OffsetDateTime asOf) {
+        return state.get().index().resolve(footerValue, documentName, codeValue, asOf);
+    }
+
+    /**
+     * Resolve the best matching active configuration: exact, then longest prefix, then wildcard.
+     *
+     * @param footerValue  the footer reference data value
+     * @param documentName the document name
+     * @param codeValue    the code reference data value
+     * @param asOf         the date for the active check
+     * @return the best match, if any
+     */
+    public Optional<DocumentConfigOutDto> resolveBestMatch(String footerValue, String documentName, String codeValue,
+                                                           OffsetDateTime asOf) {
+        return state.get().index().resolveBestMatch(footerValue, documentName, codeValue, asOf);
+    }
+
+    /**
+     * Current index, for callers that need several lookups against one consistent view.
+     *
+     * @return the current index
+     */
+    public DocumentConfigIndex getIndex() {
+        return state.get().index();
+    }
+
+    /**
+     * Fully reload all active configurations.
+     */
+    public void reload() {
+        readOnlyTransaction.executeWithoutResult(status -> loadAll());
+    }
+
+    /**
+     * Apply configurations created or updated since the last load to the index.
+     * Falls back to a full reload when no load has happened yet.
+     */
+    public void refreshChanged() {
+        readOnlyTransaction.executeWithoutResult(status -> loadChanged());
+    }
+
+    private void loadAll() {
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        List<DocumentConfigOutDto> configs = repository.findAllActiveWithReferences(now).stream()
+                .map(mapper::toDto)
+                .toList();
+        DocumentConfigIndex index = DocumentConfigIndex.of(configs);
+        state.set(new State(index, latestChange(configs, State.EMPTY.watermark()), clock.instant()));
+        log.info("Document configuration index loaded: {} active configurations", index.size());
+    }
+
+    private void loadChanged() {
+        State current = state.get();
+        if (current == State.EMPTY) {
+            loadAll();
+            return;
+        }
+        List<DocumentConfigOutDto> changed = repository.findChangedSinceWithReferences(changesSince(current.watermark()))
+                .stream()
+                .map(mapper::toDto)
+                .toList();
+        if (!changed.isEmpty()) {
+            state.set(new State(current.index().withChanges(changed),
+                    latestChange(changed, current.watermark()), current.fullLoadAt()));
+            log.info("Document configuration index updated with {} changed configurations", changed.size());
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            Duration fullReload = properties.getFullReloadInterval();
+            State current = state.get();
+            if (current == State.EMPTY
+                    || (fullReload != null && !clock.instant().isBefore(current.fullLoadAt().plus(fullReload)))) {
+                reload();
+            } else {
+                refreshChanged();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Document configuration index refresh failed, keeping previous index: {}", e.getMessage());
+        }
+    }
+
+    private OffsetDateTime changesSince(OffsetDateTime watermark) {
+        Duration overlap = properties.getRefreshOverlap();
+        return overlap != null && overlap.isPositive() ? watermark.minus(overlap) : watermark;
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static OffsetDateTime latestChange(List<DocumentConfigOutDto> configs, OffsetDateTime floor) {
+        OffsetDateTime latest = floor;
+        for (DocumentConfigOutDto config : configs) {
+            latest = max(latest, config.createdDat());
+            latest = max(latest, config.lastUpdateDat());
+        }
+        return latest;
+    }
+
+    private static OffsetDateTime max(OffsetDateTime a, OffsetDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    /**
+     * Index together with the change watermark and the time of the last full load.
+     */
+    private record State(DocumentConfigIndex index, OffsetDateTime watermark, Instant fullLoadAt) {
+
+        private static final State EMPTY = new State(DocumentConfigIndex.EMPTY,
+                OffsetDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC), Instant.EPOCH);
+    }
+}
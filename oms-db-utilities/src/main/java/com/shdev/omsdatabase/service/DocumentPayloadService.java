@@ -0,0 +1,183 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.PayloadStorageProperties;
+import com.shdev.omsdatabase.constants.PayloadFormat;
+import com.shdev.omsdatabase.dto.DocumentContentDto;
+import com.shdev.omsdatabase.repository.PayloadContentStore;
+import com.shdev.omsdatabase.util.PayloadCompression;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Streaming access to the request payloads of TBOM_DOCUMENT_REQUESTS_BLOB.
+ * <p>
+ * Reads select a single payload and expose it as a {@link Reader}, so multi-MB XML payloads can
+ * be parsed or copied to an HTTP response without building a {@code String}. The reader is only
+ * valid inside the callback (the LOB locator is released with the result set).
+ * <p>
+ * Both storage layouts are read transparently: a payload either sits in its CLOB column, or the
+ * row references a deflate-compressed, deduplicated payload in TBOM_PAYLOAD_CONTENTS through the
+ * hash column, which is then inflated on the fly. Writes use the layout selected by
+ * {@code oms.payload.compressed}: a {@link Reader} is either bound as CLOB character stream or
+ * compressed and hashed in one pass.
+ *
+ * <pre>
+ *     response.setContentType(MediaType.APPLICATION_XML_VALUE);
+ *     payloadService.copyTo(requestId, PayloadFormat.XML, response.getOutputStream());
+ * </pre>
+ *
+ * @author Shailesh Halor
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentPayloadService {
+
+    private static final Map<PayloadFormat, String> SELECT = new EnumMap<>(PayloadFormat.class);
+    private static final Map<PayloadFormat, String> UPDATE = new EnumMap<>(PayloadFormat.class);
+
+    static {
+        for (PayloadFormat format : PayloadFormat.values()) {
+            SELECT.put(format, "SELECT b." + format.getColumn() + ", c.content FROM tbom_document_requests_blob b "
+                    + "LEFT JOIN tbom_payload_contents c ON c.content_hash = b." + format.getHashColumn()
+                    + " WHERE b.omdrt_id = ?");
+            UPDATE.put(format, "UPDATE tbom_document_requests_blob SET " + format.getColumn() + " = ?, "
+                    + format.getHashColumn() + " = ? WHERE omdrt_id = ?");
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PayloadContentStore contentStore;
+    private final PayloadStorageProperties properties;
+
+    /**
+     * Callback reading a payload from its character stream.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface PayloadReader<T> {
+
+        /**
+         * Read the payload; the reader must not be used after returning.
+         *
+         * @param reader character stream over the payload
+         * @return the result
+         * @throws IOException if reading fails
+         */
+        T read(Reader reader) throws IOException;
+    }
+
+    /**
+     * Read a payload through a character stream.
+     *
+     * @param requestId the document request ID
+     * @param format    the payload column
+     * @param callback  receives the character stream
+     * @param <T>       the result type
+     * @return the callback result; empty if the row does not exist or the payload is null
+     * @throws UncheckedIOException if the callback fails with an I/O error
+     */
+    @Transactional(readOnly = true)
+    public <T> Optional<T> read(Long requestId, PayloadFormat format, PayloadReader<T> callback) {
+        return Optional.ofNullable(jdbcTemplate.query(SELECT.get(format), rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            InputStream compressed = rs.getBinaryStream(2);
+            try (Reader reader = compressed != null ? PayloadCompression.reader(compressed) : rs.getCharacterStream(1)) {
+                return reader == null ? null : callback.read(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + format + " payload of request " + requestId, e);
+            }
+        }, requestId));
+    }
+
+    /**
+     * Read a payload as content DTO, whichever layout it is stored in.
+     *
+     * @param requestId the document request ID
+     * @param format    the payload column
+     * @return the content; empty if the row does not exist or the payload is null
+     */
+    @Transactional(readOnly = true)
+    public Optional<DocumentContentDto> findContent(Long requestId, PayloadFormat format) {
+        return read(requestId, format, reader -> new DocumentContentDto(requestId, format.getCode(), readAll(reader)));
+    }
+
+    /**
+     * Copy a payload to a writer. The writer is flushed but not closed.
+     *
+     * @param requestId the document request ID
+     * @param format    the payload column
+     * @param target    the destination
+     * @return true if a payload was copied; false if the row does not exist or the payload is null
+     * @throws UncheckedIOException if reading or writing fails
+     */
+    @Transactional(readOnly = true)
+    public boolean copyTo(Long requestId, PayloadFormat format, Writer target) {
+        return read(requestId, format, reader -> {
+            reader.transferTo(target);
+            target.flush();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * Copy a payload to an output stream as UTF-8, e.g. an HTTP response body.
+     * The stream is flushed but not closed.
+     *
+     * @param requestId the document request ID
+     * @param format    the payload column
+     * @param target    the destination
+     * @return true if a payload was copied; false if the row does not exist or the payload is null
+     * @throws UncheckedIOException if reading or writing fails
+     */
+    @Transactional(readOnly = true)
+    public boolean copyTo(Long requestId, PayloadFormat format, OutputStream target) {
+        return copyTo(requestId, format, new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Replace a payload from a character stream without materializing it as a {@code String}.
+     * With compressed storage the payload is compressed in memory and stored once per content hash;
+     * a superseded compressed payload stays in TBOM_PAYLOAD_CONTENTS (it may be shared).
+     *
+     * @param requestId the document request ID
+     * @param format    the payload column
+     * @param content   the new payload; read to the end, not closed
+     * @return true if the row exists and was updated
+     */
+    @Transactional
+    public boolean write(Long requestId, PayloadFormat format, Reader content) {
+        if (!properties.isCompressed()) {
+            return jdbcTemplate.update(UPDATE.get(format), ps -> {
+                ps.setCharacterStream(1, content);
+                ps.setNull(2, Types.VARCHAR);
+                ps.setLong(3, requestId);
+            }) == 1;
+        }
+        PayloadCompression.Compressed compressed = PayloadCompression.compress(content, properties.getCompressionLevel());
+        contentStore.saveAll(List.of(compressed));
+        return jdbcTemplate.update(UPDATE.get(format), ps -> {
+            ps.setNull(1, Types.CLOB);
+            ps.setString(2, compressed.hash());
+            ps.setLong(3, requestId);
+        }) == 1;
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+}
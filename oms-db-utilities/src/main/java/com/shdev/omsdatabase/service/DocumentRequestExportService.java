@@ -0,0 +1,187 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ExportProperties;
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming export of document requests matching a {@link Specification}, for reconciliation
+ * exports and nightly reprocessing over millions of rows.
+ * <p>
+ * Rows are read in pages of {@code oms.export.page-size} using keyset iteration
+ * ({@code WHERE id > :lastId ORDER BY id}), so every page costs the same index range scan
+ * instead of the growing skip of offset paging. Each page is projected straight into
+ * {@link DocumentRequestOutDto} with a read-only query in its own short-lived persistence
+ * context, which is closed (and its connection released) before the page is handed out.
+ * Memory is bounded by one page whatever the result size, and no transaction or cursor is held
+ * open while the caller processes rows.
+ * <p>
+ * Rows committed behind the current keyset position during an export are not returned; the
+ * export is a consistent read per page, not across pages.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentRequestExportService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ExportProperties properties;
+
+    /**
+     * Lazily stream all document requests matching the specification, ordered by id.
+     * Pages are loaded on demand as the stream is consumed.
+     *
+     * @param spec the filter specification, or null for all requests
+     * @return sequential stream of document request DTOs
+     */
+    public Stream<DocumentRequestOutDto> stream(Specification<DocumentRequestEntity> spec) {
+        int pageSize = Math.max(1, properties.getPageSize());
+        Iterator<DocumentRequestOutDto> iterator = new KeysetIterator(spec, pageSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Pass all document requests matching the specification to the consumer, ordered by id.
+     *
+     * @param spec     the filter specification, or null for all requests
+     * @param consumer receives each document request DTO
+     * @return number of exported document requests
+     */
+    public long export(Specification<DocumentRequestEntity> spec, Consumer<DocumentRequestOutDto> consumer) {
+        long start = System.nanoTime();
+        long[] count = {0};
+        stream(spec).forEach(dto -> {
+            consumer.accept(dto);
+            count[0]++;
+        });
+        log.info("Exported {} document requests in {} ms", count[0], (System.nanoTime() - start) / 1_000_000);
+        return count[0];
+    }
+
+    /**
+     * Load one keyset page in a fresh persistence context.
+     *
+     * @param spec    the filter specification, or null
+     * @param afterId the last id of the previous page, or null for the first page
+     * @param limit   the maximum number of rows
+     * @return the page ordered by id
+     */
+    List<DocumentRequestOutDto> loadPage(Specification<DocumentRequestEntity> spec, Long afterId, int limit) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return pageQuery(entityManager, spec, afterId, limit).getResultList();
+        }
+    }
+
+    /**
+     * Build the keyset page query: the DTO projection of {@code DocumentRequestEntityRepository.SELECT_DTO}
+     * restricted by the specification and the keyset position.
+     *
+     * @param entityManager the entity manager of the page
+     * @param spec          the filter specification, or null
+     * @param afterId       the last id of the previous page, or null for the first page
+     * @param limit         the maximum number of rows
+     * @return the read-only page query
+     */
+    TypedQuery<DocumentRequestOutDto> pageQuery(EntityManager entityManager, Specification<DocumentRequestEntity> spec,
+                                                Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DocumentRequestOutDto> query = cb.createQuery(DocumentRequestOutDto.class);
+        Root<DocumentRequestEntity> root = query.from(DocumentRequestEntity.class);
+        Join<DocumentRequestEntity, ReferenceDataEntity> sourceSystem = root.join("omrdaSourceSystem");
+        Join<DocumentRequestEntity, ReferenceDataEntity> documentType = root.join("omrdaDocumentType");
+        Join<DocumentRequestEntity, ReferenceDataEntity> documentName = root.join("omrdaDocumentName");
+        Join<DocumentRequestEntity, ReferenceDataEntity> docStatus = root.join("omrdaDocStatus");
+        query.select(cb.construct(DocumentRequestOutDto.class,
+                root.get("id"),
+                sourceSystem.get("id"), sourceSystem.get("refDataValue"), sourceSystem.get("description"),
+                documentType.get("id"), documentType.get("refDataValue"), documentType.get("description"),
+                documentName.get("id"), documentName.get("refDataValue"), documentName.get("description"),
+                docStatus.get("id"), docStatus.get("refDataValue"), docStatus.get("description"),
+                root.get("createdDat"), root.get("lastUpdateDat"),
+                root.get("createUidHeader"), root.get("createUidToken")));
+
+        List<Predicate> predicates = new ArrayList<>(2);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Math.max(1, properties.getFetchSize()));
+    }
+
+    /**
+     * Iterator loading the next keyset page when the current one is exhausted.
+     */
+    private final class KeysetIterator implements Iterator<DocumentRequestOutDto> {
+
+        private final Specification<DocumentRequestEntity> spec;
+        private final int pageSize;
+        private List<DocumentRequestOutDto> page = List.of();
+        private int position;
+        private Long lastId;
+        private boolean lastPage;
+
+        private KeysetIterator(Specification<DocumentRequestEntity> spec, int pageSize) {
+            this.spec = spec;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < page.size()) {
+                return true;
+            }
+            if (lastPage) {
+                return false;
+            }
+            page = loadPage(spec, lastId, pageSize);
+            position = 0;
+            lastPage = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                lastId = page.getLast().id();
+            }
+            return !page.isEmpty();
+        }
+
+        @Override
+        public DocumentRequestOutDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position++);
+        }
+    }
+}
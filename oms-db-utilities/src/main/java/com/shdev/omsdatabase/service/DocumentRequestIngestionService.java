@@ -0,0 +1,153 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.IngestionProperties;
+import com.shdev.omsdatabase.config.PayloadStorageProperties;
+import com.shdev.omsdatabase.dto.DocumentRequestInDto;
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto;
+import com.shdev.omsdatabase.repository.MetadataStore;
+import com.shdev.omsdatabase.repository.PayloadContentStore;
+import com.shdev.omsdatabase.repository.SequenceIdAllocator;
+import com.shdev.omsdatabase.util.AuditContext;
+import com.shdev.omsdatabase.util.PayloadCompression;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk ingestion of document requests with their payload and metadata values.
+ * <p>
+ * Bypasses the JPA entities (whose {@code @DynamicInsert} SQL varies per row and cannot be
+ * batched) and writes fixed-shape INSERT statements as JDBC batches of
+ * {@code oms.ingestion.batch-size} requests. Per chunk the request, payload and metadata batches
+ * are sent in foreign key order. Request ids are pre-allocated from the sequence in one round trip
+ * (see {@link SequenceIdAllocator}), so a chunk costs three batch executions instead of
+ * {@code 2 + metadata} statements per request.
+ * <p>
+ * Timestamps are set by the insert triggers; CREATE_UID_HEADER and CREATE_UID_TOKEN are taken
+ * from the {@link AuditContext} like {@code AuditEntityListener} does, falling back to the trigger default.
+ * With {@code oms.payload.compressed} the payloads are compressed and written once per content
+ * hash (see {@link PayloadContentStore}) before the request batch, and the payload rows only
+ * reference them. The metadata of a chunk is written through {@link MetadataStore}, so it follows
+ * {@code oms.metadata.storage}: one row per value with ids allocated per chunk, or one JSON
+ * document per request.
+ * The whole call runs in one transaction. The input is validated (bean validation on
+ * {@link DocumentRequestIngestDto}) before anything is written.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class DocumentRequestIngestionService {
+
+    static final String REQUEST_SEQUENCE = "SQOMRDA_DOC_REQUEST_ID";
+
+    static final String INSERT_REQUEST = """
+            INSERT INTO tbom_document_requests
+                (id, omrda_source_system_id, omrda_document_type_id, omrda_document_name_id, omrda_doc_status_id,
+                 create_uid_header, create_uid_token)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    static final String INSERT_BLOB = """
+            INSERT INTO tbom_document_requests_blob (omdrt_id, json_request, xml_request)
+            VALUES (?, ?, ?)""";
+    static final String INSERT_BLOB_COMPRESSED = """
+            INSERT INTO tbom_document_requests_blob (omdrt_id, json_content_hash, xml_content_hash)
+            VALUES (?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+    private final IngestionProperties properties;
+    private final PayloadContentStore contentStore;
+    private final PayloadStorageProperties payloadProperties;
+    private final MetadataStore metadataStore;
+
+    /**
+     * Persist all requests with their payloads and metadata values.
+     *
+     * @param requests the requests to ingest
+     * @return generated document request ids, in input order
+     * @throws jakarta.validation.ConstraintViolationException if a request violates its constraints
+     */
+    @Transactional
+    public List<Long> ingest(@NotNull List<@NotNull @Valid DocumentRequestIngestDto> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        long start = System.nanoTime();
+        int metadataCount = 0;
+        for (DocumentRequestIngestDto request : requests) {
+            metadataCount += metadataOf(request).size();
+        }
+        long[] requestIds = idAllocator.allocate(REQUEST_SEQUENCE, requests.size());
+
+        AuditContext audit = AuditContext.current();
+        String headerUid = audit.headerUid();
+        String tokenUid = audit.tokenUid();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        boolean compressed = payloadProperties.isCompressed();
+
+        for (int from = 0; from < requests.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, requests.size());
+            List<Object[]> requestRows = new ArrayList<>(to - from);
+            List<Object[]> blobRows = new ArrayList<>(to - from);
+            Map<Long, List<DocumentRequestIngestDto.MetadataEntry>> metadata = new LinkedHashMap<>();
+            List<PayloadCompression.Compressed> contents = compressed ? new ArrayList<>(to - from) : List.of();
+
+            for (int i = from; i < to; i++) {
+                DocumentRequestIngestDto ingest = requests.get(i);
+                DocumentRequestInDto request = ingest.request();
+                long requestId = requestIds[i];
+                requestRows.add(new Object[]{requestId, request.sourceSystemId(), request.documentTypeId(),
+                        request.documentNameId(), request.docStatusId(), headerUid, tokenUid});
+                if (compressed) {
+                    blobRows.add(new Object[]{requestId,
+                            compress(ingest.jsonRequest(), contents), compress(ingest.xmlRequest(), contents)});
+                } else {
+                    blobRows.add(new Object[]{requestId,
+                            new SqlParameterValue(Types.CLOB, ingest.jsonRequest()),
+                            new SqlParameterValue(Types.CLOB, ingest.xmlRequest())});
+                }
+                metadata.put(requestId, metadataOf(ingest));
+            }
+
+            contentStore.saveAll(contents);
+            jdbcTemplate.batchUpdate(INSERT_REQUEST, requestRows);
+            jdbcTemplate.batchUpdate(compressed ? INSERT_BLOB_COMPRESSED : INSERT_BLOB, blobRows);
+            metadataStore.insertAll(metadata);
+        }
+
+        log.info("Ingested {} document requests with {} metadata values in {} ms",
+                requests.size(), metadataCount, (System.nanoTime() - start) / 1_000_000);
+        List<Long> ids = new ArrayList<>(requestIds.length);
+        for (long id : requestIds) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private String compress(String payload, List<PayloadCompression.Compressed> contents) {
+        if (payload == null) {
+            return null;
+        }
+        PayloadCompression.Compressed content = PayloadCompression.compress(payload, payloadProperties.getCompressionLevel());
+        contents.add(content);
+        return content.hash();
+    }
+
+    private static List<DocumentRequestIngestDto.MetadataEntry> metadataOf(DocumentRequestIngestDto request) {
+        return request.metadata() == null ? List.of() : request.metadata();
+    }
+}
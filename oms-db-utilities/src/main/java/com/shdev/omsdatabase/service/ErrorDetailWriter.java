@@ -0,0 +1,309 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ErrorDetailWriterProperties;
+import com.shdev.omsdatabase.dto.ErrorDetailDto;
+import com.shdev.omsdatabase.repository.SequenceIdAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous, batched writer for TBOM_ERROR_DETAILS.
+ * <p>
+ * {@link #record(ErrorDetailDto)} only enqueues the error detail into a bounded in-memory queue
+ * and returns; the calling thread never waits for a connection. A single background thread
+ * writes the queue as JDBC batches of {@code oms.error-detail.writer.batch-size} rows, as soon as
+ * a batch is full or {@code flush-interval} after its first row. Ids come from
+ * {@link SequenceIdAllocator}, one round trip per batch. Each batch runs in its own transaction
+ * (also when {@code CALLER_RUNS} writes on a thread that has one);
+ * when it fails (for example a batch id that does not exist), it is rolled back as a whole and its
+ * rows are retried one by one, so a single bad row does not lose the others and no row is inserted
+ * twice.
+ * <p>
+ * A full queue is handled according to {@code overflow-policy}. On shutdown new error details
+ * are rejected and the queue is written out within {@code shutdown-timeout}; error details still
+ * queued after it are counted as dropped. Queue depth and
+ * written/dropped/failed counters are exposed for health checks or gauges.
+ * <p>
+ * Opt-in: the writer and its thread only exist with {@code oms.error-detail.writer.enabled=true}.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "oms.error-detail.writer", name = "enabled", havingValue = "true")
+public class ErrorDetailWriter implements SmartInitializingSingleton, DisposableBean {
+
+    static final String SEQUENCE = "SQOMEDL_ERROR_DETAILS_ID";
+    static final String INSERT_ERROR_DETAIL = """
+            INSERT INTO tbom_error_details (id, omtbe_id, error_category, error_description)
+            VALUES (?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations batchTransaction;
+    private final SequenceIdAllocator idAllocator;
+    private final ErrorDetailWriterProperties properties;
+    private final BlockingQueue<ErrorDetailDto> queue;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean accepting = true;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ErrorDetailWriter(JdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator,
+                             ErrorDetailWriterProperties properties, PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, idAllocator, properties, batchTransaction(transactionManager));
+    }
+
+    ErrorDetailWriter(JdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator,
+                      ErrorDetailWriterProperties properties, TransactionOperations batchTransaction) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = batchTransaction;
+        this.idAllocator = idAllocator;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "oms-error-detail-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        accepting = false;
+        running = false;
+        if (writerThread == null) {
+            flush();
+            return;
+        }
+        writerThread.join(properties.getShutdownTimeout().toMillis());
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            List<ErrorDetailDto> unwritten = new ArrayList<>();
+            queue.drainTo(unwritten);
+            dropped.addAndGet(unwritten.size());
+            log.warn("Error detail writer did not finish within {}; {} error details not written",
+                    properties.getShutdownTimeout(), unwritten.size());
+        }
+    }
+
+    /**
+     * Record an error for a Thunderhead batch.
+     *
+     * @param batchId     the batch id
+     * @param category    the error category
+     * @param description the error description
+     * @return whether the error detail was accepted
+     */
+    public boolean record(Long batchId, String category, String description) {
+        return record(new ErrorDetailDto(null, batchId, category, description));
+    }
+
+    /**
+     * Enqueue an error detail for asynchronous writing. The {@code id} of the DTO is ignored.
+     *
+     * @param errorDetail the error detail
+     * @return whether the error detail was accepted; {@code false} when it was dropped because
+     * the queue is full or the writer is shutting down
+     */
+    public boolean record(ErrorDetailDto errorDetail) {
+        Objects.requireNonNull(errorDetail.batchId(), "batchId");
+        Objects.requireNonNull(errorDetail.category(), "category");
+        Objects.requireNonNull(errorDetail.description(), "description");
+        if (!accepting) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        if (queue.offer(errorDetail)) {
+            return true;
+        }
+        boolean accepted = switch (properties.getOverflowPolicy()) {
+            case BLOCK -> offerWithTimeout(errorDetail);
+            case DROP_NEWEST -> false;
+            case DROP_OLDEST -> dropOldestAndOffer(errorDetail);
+            case CALLER_RUNS -> {
+                write(List.of(errorDetail));
+                yield true;
+            }
+        };
+        if (!accepted) {
+            dropped.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    /**
+     * Write all queued error details on the calling thread.
+     *
+     * @return number of error details taken from the queue
+     */
+    public int flush() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<ErrorDetailDto> batch = new ArrayList<>(batchSize);
+        int total = 0;
+        while (queue.drainTo(batch, batchSize) > 0) {
+            total += batch.size();
+            write(batch);
+            batch.clear();
+        }
+        return total;
+    }
+
+    /**
+     * Number of error details waiting to be written.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Free queue slots.
+     *
+     * @return the remaining queue capacity
+     */
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Error details written since startup.
+     *
+     * @return the written count
+     */
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    /**
+     * Error details dropped since startup because the queue was full or the writer was stopping.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Error details that could not be inserted since startup.
+     *
+     * @return the failed count
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void runWriter() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long flushIntervalNanos = Math.max(1, properties.getFlushInterval().toNanos());
+        List<ErrorDetailDto> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                ErrorDetailDto first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    ErrorDetailDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.addAndGet(batch.size());
+        }
+    }
+
+    private void write(List<ErrorDetailDto> batch) {
+        List<Object[]> rows;
+        try {
+            long[] ids = idAllocator.allocate(SEQUENCE, batch.size());
+            rows = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                ErrorDetailDto errorDetail = batch.get(i);
+                rows.add(new Object[]{ids[i], errorDetail.batchId(), errorDetail.category(),
+                        new SqlParameterValue(Types.CLOB, errorDetail.description())});
+            }
+        } catch (DataAccessException e) {
+            failed.addAndGet(batch.size());
+            log.warn("Failed to allocate ids for {} error details: {}", batch.size(), e.getMessage());
+            return;
+        }
+        try {
+            batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_ERROR_DETAIL, rows));
+            written.addAndGet(rows.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Error detail batch of {} rows failed, writing rows one by one: {}", rows.size(), e.getMessage());
+            for (Object[] row : rows) {
+                try {
+                    jdbcTemplate.update(INSERT_ERROR_DETAIL, row);
+                    written.incrementAndGet();
+                } catch (DataAccessException rowFailure) {
+                    failed.incrementAndGet();
+                    log.warn("Failed to write error detail for batch {}: {}", row[1], rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private static TransactionOperations batchTransaction(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private boolean offerWithTimeout(ErrorDetailDto errorDetail) {
+        try {
+            return queue.offer(errorDetail, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean dropOldestAndOffer(ErrorDetailDto errorDetail) {
+        while (!queue.offer(errorDetail)) {
+            if (queue.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.repository.JsonMetadataStore;
+import com.shdev.omsdatabase.repository.RowMetadataStore;
+import com.shdev.omsdatabase.util.InClauseUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copies request metadata from TBOM_REQUESTS_METADATA_VALUES (rows) to TBOM_REQUEST_METADATA_DOCS
+ * (JSON documents).
+ * <p>
+ * Requests are read in keyset pages of request ids over index omrme_01; each page is loaded with
+ * {@link RowMetadataStore} and written with {@link JsonMetadataStore#replaceAll(Map)} (MERGE), and
+ * committed on its own. Re-running is safe and picks up requests written in between; a run can
+ * be resumed from the last reported request id. The rows are not deleted.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MetadataStorageMigrationService {
+
+    static final String SELECT_REQUEST_IDS = """
+            SELECT DISTINCT omdrt_id
+            FROM tbom_requests_metadata_values
+            WHERE omdrt_id > ?
+            ORDER BY omdrt_id
+            FETCH FIRST ? ROWS ONLY""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMetadataStore rowMetadataStore;
+    private final JsonMetadataStore jsonMetadataStore;
+
+    /**
+     * Copy the metadata of all requests to JSON documents.
+     *
+     * @param pageSize requests per page, at most 1000
+     * @return number of requests migrated
+     */
+    public long migrateToJson(int pageSize) {
+        return migrateToJson(0L, pageSize);
+    }
+
+    /**
+     * Copy the metadata of requests with an id above {@code afterRequestId} to JSON documents.
+     *
+     * @param afterRequestId last request id already migrated
+     * @param pageSize       requests per page, at most 1000
+     * @return number of requests migrated
+     */
+    public long migrateToJson(long afterRequestId, int pageSize) {
+        int limit = Math.clamp(pageSize, 1, InClauseUtils.ORACLE_IN_LIST_LIMIT);
+        long start = System.nanoTime();
+        long migrated = 0;
+        long lastId = afterRequestId;
+        while (true) {
+            List<Long> requestIds = jdbcTemplate.queryForList(SELECT_REQUEST_IDS, Long.class, lastId, limit);
+            if (requestIds.isEmpty()) {
+                break;
+            }
+            Map<Long, List<MetadataEntry>> documents = new LinkedHashMap<>();
+            rowMetadataStore.findByRequestIds(requestIds).forEach((requestId, values) -> documents.put(requestId,
+                    values.stream().map(MetadataStorageMigrationService::toEntry).toList()));
+            jsonMetadataStore.replaceAll(documents);
+            migrated += requestIds.size();
+            lastId = requestIds.getLast();
+            log.debug("Migrated metadata of {} requests up to request id {}", migrated, lastId);
+            if (requestIds.size() < limit) {
+                break;
+            }
+        }
+        log.info("Migrated metadata of {} requests to JSON documents in {} ms (last request id {})",
+                migrated, (System.nanoTime() - start) / 1_000_000, lastId);
+        return migrated;
+    }
+
+    private static MetadataEntry toEntry(MetadataValueOutDto value) {
+        return new MetadataEntry(value.metadataKey().id(), value.metadataValue());
+    }
+}
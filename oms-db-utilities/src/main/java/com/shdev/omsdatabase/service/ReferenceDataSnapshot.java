@@ -0,0 +1,225 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.constants.DocumentStatus;
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, indexed in-memory copy of TBOM_REFERENCE_DATA.
+ * <p>
+ * Rows are indexed by id, by REF_DATA_TYPE and by (REF_DATA_TYPE, REF_DATA_VALUE). Lookups are
+ * effective-dated: a row is effective at {@code asOf} when
+ * {@code effectFromDat <= asOf <= effectToDat}. Rows sharing a type and value are kept ordered by
+ * {@code effectFromDat} descending, so the most recent effective row wins.
+ * <p>
+ * The ids of the {@link DocumentStatus} and {@link BatchStatus} rows effective at load time are
+ * resolved once per snapshot (see {@link StatusReferenceIds}).
+ * <p>
+ * A snapshot never changes after construction; {@link ReferenceDataSnapshotService} replaces it
+ * atomically on refresh.
+ *
+ * @author Shailesh Halor
+ */
+public final class ReferenceDataSnapshot {
+
+    /**
+     * Empty snapshot used before the first load.
+     */
+    public static final ReferenceDataSnapshot EMPTY = new ReferenceDataSnapshot(List.of(), 0, Instant.EPOCH);
+
+    private static final Comparator<ReferenceDataDto> MOST_RECENT_FIRST = Comparator.comparing(
+            ReferenceDataDto::effectFromDat, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final long version;
+    private final Instant loadedAt;
+    private final Map<Long, ReferenceDataDto> byId;
+    private final Map<String, List<ReferenceDataDto>> byType;
+    private final Map<TypeValueKey, List<ReferenceDataDto>> byTypeAndValue;
+    private final StatusReferenceIds<DocumentStatus> documentStatusIds;
+    private final StatusReferenceIds<BatchStatus> batchStatusIds;
+
+    private ReferenceDataSnapshot(List<ReferenceDataDto> rows, long version, Instant loadedAt) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+
+        Map<Long, ReferenceDataDto> ids = HashMap.newHashMap(rows.size());
+        Map<String, List<ReferenceDataDto>> types = new HashMap<>();
+        Map<TypeValueKey, List<ReferenceDataDto>> typeValues = HashMap.newHashMap(rows.size());
+        for (ReferenceDataDto row : rows) {
+            ids.put(row.id(), row);
+            types.computeIfAbsent(row.refDataType(), k -> new ArrayList<>()).add(row);
+            typeValues.computeIfAbsent(new TypeValueKey(row.refDataType(), row.refDataValue()), k -> new ArrayList<>(1))
+                    .add(row);
+        }
+        typeValues.values().forEach(list -> list.sort(MOST_RECENT_FIRST));
+
+        this.byId = Map.copyOf(ids);
+        this.byType = copyOfLists(types);
+        this.byTypeAndValue = copyOfLists(typeValues);
+
+        OffsetDateTime asOf = OffsetDateTime.ofInstant(loadedAt, ZoneOffset.UTC);
+        this.documentStatusIds = StatusReferenceIds.resolve(DocumentStatus.class, DocumentStatus.REF_DATA_TYPE,
+                DocumentStatus::getCode, code -> findByTypeAndValue(DocumentStatus.REF_DATA_TYPE, code, asOf));
+        this.batchStatusIds = StatusReferenceIds.resolve(BatchStatus.class, BatchStatus.REF_DATA_TYPE,
+                BatchStatus::getCode, code -> findByTypeAndValue(BatchStatus.REF_DATA_TYPE, code, asOf));
+    }
+
+    /**
+     * Build a snapshot from loaded rows.
+     *
+     * @param rows     all reference data rows
+     * @param version  monotonically increasing snapshot version
+     * @param loadedAt load time
+     * @return the snapshot
+     */
+    public static ReferenceDataSnapshot of(List<ReferenceDataDto> rows, long version, Instant loadedAt) {
+        return new ReferenceDataSnapshot(rows, version, loadedAt);
+    }
+
+    /**
+     * Find a row by id regardless of its effective dates.
+     *
+     * @param id the reference data id
+     * @return the row, if present
+     */
+    public Optional<ReferenceDataDto> findById(Long id) {
+        return Optional.ofNullable(id == null ? null : byId.get(id));
+    }
+
+    /**
+     * Find all rows of a type effective at the given time.
+     *
+     * @param refDataType the reference data type
+     * @param asOf        the point in time
+     * @return effective rows ordered by id
+     */
+    public List<ReferenceDataDto> findByType(String refDataType, OffsetDateTime asOf) {
+        List<ReferenceDataDto> rows = byType.getOrDefault(refDataType, List.of());
+        List<ReferenceDataDto> effective = new ArrayList<>(rows.size());
+        for (ReferenceDataDto row : rows) {
+            if (isEffective(row, asOf)) {
+                effective.add(row);
+            }
+        }
+        return effective;
+    }
+
+    /**
+     * Find the row of a type and value effective at the given time.
+     *
+     * @param refDataType  the reference data type
+     * @param refDataValue the reference data value
+     * @param asOf         the point in time
+     * @return the most recent effective row, if any
+     */
+    public Optional<ReferenceDataDto> findByTypeAndValue(String refDataType, String refDataValue, OffsetDateTime asOf) {
+        List<ReferenceDataDto> rows = byTypeAndValue.get(new TypeValueKey(refDataType, refDataValue));
+        if (rows != null) {
+            for (ReferenceDataDto row : rows) {
+                if (isEffective(row, asOf)) {
+                    return Optional.of(row);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Lite variant of {@link #findByType(String, OffsetDateTime)}.
+     *
+     * @param refDataType the reference data type
+     * @param asOf        the point in time
+     * @return effective rows as lite DTOs
+     */
+    public List<ReferenceDataLiteDto> findLiteByType(String refDataType, OffsetDateTime asOf) {
+        return findByType(refDataType, asOf).stream().map(ReferenceDataSnapshot::toLite).toList();
+    }
+
+    /**
+     * Lite variant of {@link #findByTypeAndValue(String, String, OffsetDateTime)}.
+     *
+     * @param refDataType  the reference data type
+     * @param refDataValue the reference data value
+     * @param asOf         the point in time
+     * @return the effective row as lite DTO, if any
+     */
+    public Optional<ReferenceDataLiteDto> findLiteByTypeAndValue(String refDataType, String refDataValue,
+                                                                 OffsetDateTime asOf) {
+        return findByTypeAndValue(refDataType, refDataValue, asOf).map(ReferenceDataSnapshot::toLite);
+    }
+
+    /**
+     * Reference data ids of the document statuses effective at load time.
+     *
+     * @return document status ids
+     */
+    public StatusReferenceIds<DocumentStatus> getDocumentStatusIds() {
+        return documentStatusIds;
+    }
+
+    /**
+     * Reference data ids of the batch statuses effective at load time.
+     *
+     * @return batch status ids
+     */
+    public StatusReferenceIds<BatchStatus> getBatchStatusIds() {
+        return batchStatusIds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Age of this snapshot relative to the given time.
+     *
+     * @param now the current time
+     * @return time elapsed since load
+     */
+    public Duration age(Instant now) {
+        return Duration.between(loadedAt, now);
+    }
+
+    /**
+     * Number of rows in this snapshot.
+     *
+     * @return row count
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    private static boolean isEffective(ReferenceDataDto row, OffsetDateTime asOf) {
+        return (row.effectFromDat() == null || !row.effectFromDat().isAfter(asOf))
+                && (row.effectToDat() == null || !row.effectToDat().isBefore(asOf));
+    }
+
+    private static ReferenceDataLiteDto toLite(ReferenceDataDto row) {
+        return new ReferenceDataLiteDto(row.id(), row.refDataValue(), row.description());
+    }
+
+    private static <K> Map<K, List<ReferenceDataDto>> copyOfLists(Map<K, List<ReferenceDataDto>> source) {
+        Map<K, List<ReferenceDataDto>> copy = HashMap.newHashMap(source.size());
+        source.forEach((key, list) -> copy.put(key, List.copyOf(list)));
+        return Map.copyOf(copy);
+    }
+
+    private record TypeValueKey(String refDataType, String refDataValue) {
+    }
+}
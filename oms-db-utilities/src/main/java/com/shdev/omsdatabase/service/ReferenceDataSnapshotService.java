@@ -0,0 +1,238 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ReferenceDataSnapshotProperties;
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.constants.DocumentStatus;
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import com.shdev.omsdatabase.repository.ReferenceDataEntityRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves TBOM_REFERENCE_DATA lookups from an in-memory {@link ReferenceDataSnapshot}.
+ * <p>
+ * The snapshot is loaded once during context startup (before the application reports ready,
+ * when {@code warm-up} is enabled) and reloaded on a fixed delay. Each reload builds a new
+ * immutable snapshot from a DTO projection and swaps it in atomically, so readers never see a
+ * partially built index and never block on the database. A failed reload keeps the previous
+ * snapshot.
+ * <p>
+ * Every load must contain an effective row for each {@link DocumentStatus} and
+ * {@link BatchStatus} constant (with {@code validate-statuses}); otherwise the load fails, which
+ * fails context startup during warm-up. Status ids for {@code DocumentRequestInDto.docStatusId} and
+ * {@code ThBatchInDto.batchStatusId} are then served from the snapshot without a lookup.
+ * <p>
+ * The service is opt-in ({@code oms.reference-data.snapshot.enabled=true}), so hosts that do not
+ * use it get no startup load and no refresh thread.
+ * <p>
+ * Snapshot version and age are exposed through {@link #getSnapshotVersion()} and
+ * {@link #getSnapshotAge()} for health checks or gauges.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "oms.reference-data.snapshot", name = "enabled", havingValue = "true")
+public class ReferenceDataSnapshotService implements SmartInitializingSingleton, DisposableBean {
+
+    private final ReferenceDataEntityRepository repository;
+    private final ReferenceDataSnapshotProperties properties;
+    private final Clock clock;
+    private final AtomicReference<ReferenceDataSnapshot> snapshot = new AtomicReference<>(ReferenceDataSnapshot.EMPTY);
+    private final AtomicLong versionSequence = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+
+    public ReferenceDataSnapshotService(ReferenceDataEntityRepository repository,
+                                        ReferenceDataSnapshotProperties properties) {
+        this(repository, properties, Clock.systemUTC());
+    }
+
+    ReferenceDataSnapshotService(ReferenceDataEntityRepository repository,
+                                 ReferenceDataSnapshotProperties properties,
+                                 Clock clock) {
+        this.repository = repository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isWarmUp()) {
+            refresh();
+        }
+        Duration interval = properties.getRefreshInterval();
+        if (interval != null && interval.isPositive()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "oms-reference-data-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long initialDelay = properties.isWarmUp() ? interval.toMillis() : 0;
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, initialDelay, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Reload all reference data and swap in a new snapshot.
+     *
+     * @return the new snapshot
+     */
+    public ReferenceDataSnapshot refresh() {
+        long start = System.nanoTime();
+        List<ReferenceDataDto> rows = repository.findAllAsDto();
+        ReferenceDataSnapshot loaded = ReferenceDataSnapshot.of(rows, versionSequence.incrementAndGet(), clock.instant());
+        if (properties.isValidateStatuses()) {
+            loaded.getDocumentStatusIds().requireComplete();
+            loaded.getBatchStatusIds().requireComplete();
+        }
+        snapshot.set(loaded);
+        if (properties.isLogMetrics()) {
+            log.info("Reference data snapshot v{} loaded: {} rows in {} ms",
+                    loaded.getVersion(), loaded.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return loaded;
+    }
+
+    /**
+     * Current snapshot. Callers performing several related lookups should hold on to one
+     * snapshot instance to get a consistent view.
+     *
+     * @return the current snapshot
+     */
+    public ReferenceDataSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Find a row by id.
+     *
+     * @param id the reference data id
+     * @return the row, if present
+     */
+    public Optional<ReferenceDataDto> findById(Long id) {
+        return snapshot.get().findById(id);
+    }
+
+    /**
+     * Find all rows of a type effective now.
+     *
+     * @param refDataType the reference data type
+     * @return effective rows
+     */
+    public List<ReferenceDataDto> findActiveByType(String refDataType) {
+        return snapshot.get().findByType(refDataType, OffsetDateTime.now(clock));
+    }
+
+    /**
+     * Find the row of a type and value effective now.
+     *
+     * @param refDataType  the reference data type
+     * @param refDataValue the reference data value
+     * @return the effective row, if any
+     */
+    public Optional<ReferenceDataDto> findActiveByTypeAndValue(String refDataType, String refDataValue) {
+        return snapshot.get().findByTypeAndValue(refDataType, refDataValue, OffsetDateTime.now(clock));
+    }
+
+    /**
+     * Find the lite row of a type and value effective now.
+     *
+     * @param refDataType  the reference data type
+     * @param refDataValue the reference data value
+     * @return the effective row as lite DTO, if any
+     */
+    public Optional<ReferenceDataLiteDto> findActiveLiteByTypeAndValue(String refDataType, String refDataValue) {
+        return snapshot.get().findLiteByTypeAndValue(refDataType, refDataValue, OffsetDateTime.now(clock));
+    }
+
+    /**
+     * Reference data id of a document status, e.g. for {@code DocumentRequestInDto.docStatusId}.
+     *
+     * @param status the document status
+     * @return the TBOM_REFERENCE_DATA id
+     * @throws IllegalStateException if no snapshot with this status is loaded
+     */
+    public long getDocumentStatusId(DocumentStatus status) {
+        return snapshot.get().getDocumentStatusIds().idOf(status);
+    }
+
+    /**
+     * Document status of a reference data id.
+     *
+     * @param id the TBOM_REFERENCE_DATA id
+     * @return the document status, or null if the id is not a document status
+     */
+    public DocumentStatus getDocumentStatus(long id) {
+        return snapshot.get().getDocumentStatusIds().statusOf(id);
+    }
+
+    /**
+     * Reference data id of a batch status, e.g. for {@code ThBatchInDto.batchStatusId}.
+     *
+     * @param status the batch status
+     * @return the TBOM_REFERENCE_DATA id
+     * @throws IllegalStateException if no snapshot with this status is loaded
+     */
+    public long getBatchStatusId(BatchStatus status) {
+        return snapshot.get().getBatchStatusIds().idOf(status);
+    }
+
+    /**
+     * Batch status of a reference data id.
+     *
+     * @param id the TBOM_REFERENCE_DATA id
+     * @return the batch status, or null if the id is not a batch status
+     */
+    public BatchStatus getBatchStatus(long id) {
+        return snapshot.get().getBatchStatusIds().statusOf(id);
+    }
+
+    /**
+     * Version of the current snapshot; 0 before the first load.
+     *
+     * @return the snapshot version
+     */
+    public long getSnapshotVersion() {
+        return snapshot.get().getVersion();
+    }
+
+    /**
+     * Age of the current snapshot.
+     *
+     * @return time elapsed since the current snapshot was loaded
+     */
+    public Duration getSnapshotAge() {
+        return snapshot.get().age(clock.instant());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Reference data snapshot refresh failed, keeping v{} (age {}): {}",
+                    getSnapshotVersion(), getSnapshotAge(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.repository.MetadataStore;
+import com.shdev.omsdatabase.util.InClauseUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Bulk metadata reads and metadata-based document request search.
+ * <p>
+ * Works on the {@link MetadataStore} selected by {@code oms.metadata.storage}.
+ * {@link #findByRequestIds(Collection)} loads the metadata of many requests with one read
+ * per 1000 ids instead of one query per request. {@link #findRequestIds(Collection)}
+ * resolves each (metadata key, value) condition through an index (omrme_02 for rows, the
+ * key's search column for JSON documents) and intersects the results: the first condition yields
+ * the candidates, every further condition is restricted to the current candidates, and the
+ * search stops as soon as nothing is left.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RequestMetadataService {
+
+    private final MetadataStore metadataStore;
+
+    /**
+     * Load the metadata values of many document requests.
+     *
+     * @param requestIds the document request IDs
+     * @return map from each distinct request id (in encounter order) to its metadata values;
+     *         empty list for requests without metadata
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<MetadataValueOutDto>> findByRequestIds(Collection<Long> requestIds) {
+        Map<Long, List<MetadataValueOutDto>> result = new LinkedHashMap<>();
+        List<List<Long>> chunks = InClauseUtils.chunks(requestIds);
+        for (List<Long> chunk : chunks) {
+            chunk.forEach(id -> result.put(id, List.of()));
+            result.putAll(metadataStore.findByRequestIds(chunk));
+        }
+        log.debug("Loaded metadata of {} requests with {} queries", result.size(), chunks.size());
+        return result;
+    }
+
+    /**
+     * Find document requests matching all conditions.
+     *
+     * @param conditions (metadata key, value) conditions combined with AND
+     * @return ids of matching requests in ascending order
+     * @throws IllegalArgumentException if there is no condition or a condition is incomplete
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findRequestIds(Collection<MetadataCondition> conditions) {
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("At least one metadata condition is required");
+        }
+        Set<Long> candidates = null;
+        int queries = 0;
+        for (MetadataCondition condition : new LinkedHashSet<>(conditions)) {
+            if (condition == null || condition.metadataKeyId() == null || condition.value() == null) {
+                throw new IllegalArgumentException("Incomplete metadata condition: " + condition);
+            }
+            Set<Long> matches = new TreeSet<>();
+            if (candidates == null) {
+                matches.addAll(metadataStore.findRequestIds(condition));
+                queries++;
+            } else {
+                for (List<Long> chunk : InClauseUtils.chunks(candidates)) {
+                    matches.addAll(metadataStore.findRequestIds(condition, chunk));
+                    queries++;
+                }
+            }
+            candidates = matches;
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        log.debug("Metadata search with {} conditions matched {} requests in {} queries",
+                conditions.size(), candidates.size(), queries);
+        return candidates;
+    }
+}
@@ -0,0 +1,132 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable mapping between the constants of a status enum ({@code DocumentStatus},
+ * {@code BatchStatus}) and their TBOM_REFERENCE_DATA ids.
+ * <p>
+ * Ids are kept in a primitive array indexed by ordinal, so {@link #idOf(Enum)} and
+ * {@link #statusOf(long)} neither box nor hash; statuses have a handful of constants, a linear
+ * scan beats any map for the reverse lookup. Built by {@link ReferenceDataSnapshot} on every load.
+ *
+ * @param <E> the status enum
+ * @author Shailesh Halor
+ */
+public final class StatusReferenceIds<E extends Enum<E>> {
+
+    private static final long UNRESOLVED = 0L;
+
+    private final Class<E> statusType;
+    private final String refDataType;
+    private final E[] statuses;
+    private final long[] idByOrdinal;
+    private final Map<E, Long> idByStatus;
+
+    private StatusReferenceIds(Class<E> statusType, String refDataType, long[] idByOrdinal) {
+        this.statusType = statusType;
+        this.refDataType = refDataType;
+        this.statuses = statusType.getEnumConstants();
+        this.idByOrdinal = idByOrdinal;
+        EnumMap<E, Long> ids = new EnumMap<>(statusType);
+        for (E status : statuses) {
+            if (idByOrdinal[status.ordinal()] != UNRESOLVED) {
+                ids.put(status, idByOrdinal[status.ordinal()]);
+            }
+        }
+        this.idByStatus = Collections.unmodifiableMap(ids);
+    }
+
+    /**
+     * Resolve the id of every constant; constants without a row stay unresolved.
+     *
+     * @param statusType  the status enum
+     * @param refDataType the REF_DATA_TYPE of the status rows
+     * @param code        REF_DATA_VALUE of a constant
+     * @param lookup      finds the effective row of a REF_DATA_VALUE
+     * @param <E>         the status enum
+     * @return the resolved ids
+     */
+    static <E extends Enum<E>> StatusReferenceIds<E> resolve(Class<E> statusType, String refDataType,
+                                                             Function<E, String> code,
+                                                             Function<String, Optional<ReferenceDataDto>> lookup) {
+        E[] constants = statusType.getEnumConstants();
+        long[] ids = new long[constants.length];
+        for (E status : constants) {
+            ids[status.ordinal()] = lookup.apply(code.apply(status)).map(ReferenceDataDto::id).orElse(UNRESOLVED);
+        }
+        return new StatusReferenceIds<>(statusType, refDataType, ids);
+    }
+
+    /**
+     * Reference data id of a status.
+     *
+     * @param status the status
+     * @return the TBOM_REFERENCE_DATA id
+     * @throws IllegalStateException if the status has no reference data row
+     */
+    public long idOf(E status) {
+        long id = idByOrdinal[status.ordinal()];
+        if (id == UNRESOLVED) {
+            throw new IllegalStateException("No " + refDataType + " reference data for " + status);
+        }
+        return id;
+    }
+
+    /**
+     * Status of a reference data id.
+     *
+     * @param id the TBOM_REFERENCE_DATA id
+     * @return the status, or null if the id is not a status of this type
+     */
+    public E statusOf(long id) {
+        if (id != UNRESOLVED) {
+            for (int ordinal = 0; ordinal < idByOrdinal.length; ordinal++) {
+                if (idByOrdinal[ordinal] == id) {
+                    return statuses[ordinal];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolved ids as an unmodifiable map.
+     *
+     * @return id per resolved status
+     */
+    public Map<E, Long> asMap() {
+        return idByStatus;
+    }
+
+    /**
+     * Statuses without a reference data row.
+     *
+     * @return the unresolved statuses, empty when complete
+     */
+    public Set<E> getMissing() {
+        EnumSet<E> missing = EnumSet.allOf(statusType);
+        missing.removeAll(idByStatus.keySet());
+        return missing;
+    }
+
+    /**
+     * Fail if any status has no reference data row.
+     *
+     * @throws IllegalStateException listing the missing REF_DATA_VALUEs
+     */
+    public void requireComplete() {
+        Set<E> missing = getMissing();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("TBOM_REFERENCE_DATA has no effective " + refDataType + " rows for " + missing);
+        }
+    }
+}
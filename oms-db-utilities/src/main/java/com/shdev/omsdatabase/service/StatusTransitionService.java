@@ -0,0 +1,219 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.constants.DocumentStatus;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ThBatchEntity;
+import com.shdev.omsdatabase.util.InClauseUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Set-based status transitions of document requests and Thunderhead batches.
+ * <p>
+ * Instead of loading, mapping and flushing one entity per row ({@code DocumentRequestMapper.updateStatus},
+ * {@code ThBatchMapper.updateEntity}), each chunk of up to 1000 ids is moved with one
+ * {@code UPDATE ... WHERE id IN (...) AND status IN (:expected)}. The expected-status guard is
+ * evaluated by the UPDATE itself, so a row moved concurrently by another node is skipped rather
+ * than overwritten, without locking rows beforehand; the returned count tells how many rows
+ * actually made the transition. Status ids come from the reference data snapshot, so no lookup
+ * is needed. LAST_UPDATE_DAT is set by the update triggers; the create UIDs are not touched.
+ * <p>
+ * Specification variants read the matching ids in keyset pages of 1000 (restricted to the expected
+ * statuses) and update page by page, so memory stays bounded for any number of rows. All updates
+ * of one call run in one transaction. The statements bypass the persistence context: entities
+ * already loaded in the calling transaction keep their old status.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "oms.reference-data.snapshot", name = "enabled", havingValue = "true")
+public class StatusTransitionService {
+
+    static final String UPDATE_DOCUMENT_STATUS = """
+            UPDATE tbom_document_requests
+            SET omrda_doc_status_id = :target
+            WHERE id IN (:ids) AND omrda_doc_status_id IN (:expected)""";
+    static final String UPDATE_BATCH_STATUS = """
+            UPDATE tbom_th_batches
+            SET omrda_th_status_id = :target
+            WHERE id IN (:ids) AND omrda_th_status_id IN (:expected)""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ReferenceDataSnapshotService referenceData;
+
+    public StatusTransitionService(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                                   ReferenceDataSnapshotService referenceData) {
+        this(new NamedParameterJdbcTemplate(jdbcTemplate), entityManager, referenceData);
+    }
+
+    StatusTransitionService(NamedParameterJdbcTemplate jdbcTemplate, EntityManager entityManager,
+                            ReferenceDataSnapshotService referenceData) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.referenceData = referenceData;
+    }
+
+    /**
+     * Move document requests in one of the expected statuses to the target status.
+     *
+     * @param ids      document request ids
+     * @param expected statuses a request must currently have to be moved
+     * @param target   the new status
+     * @return number of requests moved; requests in other statuses are skipped
+     */
+    @Transactional
+    public int transitionDocuments(Collection<Long> ids, Set<DocumentStatus> expected, DocumentStatus target) {
+        List<Long> expectedIds = statusIds(expected, target, referenceData::getDocumentStatusId);
+        int updated = 0;
+        for (List<Long> chunk : InClauseUtils.chunks(ids)) {
+            updated += update(UPDATE_DOCUMENT_STATUS, chunk, expectedIds, referenceData.getDocumentStatusId(target));
+        }
+        log.debug("Moved {} document requests from {} to {}", updated, expected, target);
+        return updated;
+    }
+
+    /**
+     * Move document requests matching the specification and in one of the expected statuses to the target status.
+     *
+     * @param spec     the filter specification, or null for all requests
+     * @param expected statuses a request must currently have to be moved
+     * @param target   the new status
+     * @return number of requests moved
+     */
+    @Transactional
+    public int transitionDocuments(Specification<DocumentRequestEntity> spec, Set<DocumentStatus> expected,
+                                   DocumentStatus target) {
+        List<Long> expectedIds = statusIds(expected, target, referenceData::getDocumentStatusId);
+        int updated = updateMatching(DocumentRequestEntity.class, "omrdaDocStatus", spec, UPDATE_DOCUMENT_STATUS,
+                expectedIds, referenceData.getDocumentStatusId(target));
+        log.debug("Moved {} document requests from {} to {}", updated, expected, target);
+        return updated;
+    }
+
+    /**
+     * Move Thunderhead batches in one of the expected statuses to the target status.
+     *
+     * @param ids      batch ids
+     * @param expected statuses a batch must currently have to be moved
+     * @param target   the new status
+     * @return number of batches moved; batches in other statuses are skipped
+     */
+    @Transactional
+    public int transitionBatches(Collection<Long> ids, Set<BatchStatus> expected, BatchStatus target) {
+        List<Long> expectedIds = statusIds(expected, target, referenceData::getBatchStatusId);
+        int updated = 0;
+        for (List<Long> chunk : InClauseUtils.chunks(ids)) {
+            updated += update(UPDATE_BATCH_STATUS, chunk, expectedIds, referenceData.getBatchStatusId(target));
+        }
+        log.debug("Moved {} Thunderhead batches from {} to {}", updated, expected, target);
+        return updated;
+    }
+
+    /**
+     * Move Thunderhead batches matching the specification and in one of the expected statuses to the target status.
+     *
+     * @param spec     the filter specification, or null for all batches
+     * @param expected statuses a batch must currently have to be moved
+     * @param target   the new status
+     * @return number of batches moved
+     */
+    @Transactional
+    public int transitionBatches(Specification<ThBatchEntity> spec, Set<BatchStatus> expected, BatchStatus target) {
+        List<Long> expectedIds = statusIds(expected, target, referenceData::getBatchStatusId);
+        int updated = updateMatching(ThBatchEntity.class, "omrdaThStatus", spec, UPDATE_BATCH_STATUS,
+                expectedIds, referenceData.getBatchStatusId(target));
+        log.debug("Moved {} Thunderhead batches from {} to {}", updated, expected, target);
+        return updated;
+    }
+
+    /**
+     * Build the keyset id page query: ids of rows matching the specification whose status is one
+     * of the expected ones, after the given id.
+     *
+     * @param entityManager   the entity manager
+     * @param entityType      the entity
+     * @param statusAttribute the status association of the entity
+     * @param spec            the filter specification, or null
+     * @param expectedIds     reference data ids of the expected statuses
+     * @param afterId         the last id of the previous page, or null for the first page
+     * @param limit           the maximum number of ids
+     * @param <T>             the entity type
+     * @return the id query ordered by id
+     */
+    <T> TypedQuery<Long> idPageQuery(EntityManager entityManager, Class<T> entityType, String statusAttribute,
+                                     Specification<T> spec, List<Long> expectedIds, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get("id"));
+
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(root.get(statusAttribute).get("id").in(expectedIds));
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit);
+    }
+
+    private <T> int updateMatching(Class<T> entityType, String statusAttribute, Specification<T> spec, String sql,
+                                   List<Long> expectedIds, long targetId) {
+        int updated = 0;
+        Long afterId = null;
+        List<Long> page;
+        do {
+            page = idPageQuery(entityManager, entityType, statusAttribute, spec, expectedIds, afterId,
+                    InClauseUtils.ORACLE_IN_LIST_LIMIT).getResultList();
+            if (!page.isEmpty()) {
+                updated += update(sql, page, expectedIds, targetId);
+                afterId = page.getLast();
+            }
+        } while (page.size() == InClauseUtils.ORACLE_IN_LIST_LIMIT);
+        return updated;
+    }
+
+    private int update(String sql, List<Long> ids, List<Long> expectedIds, long targetId) {
+        return jdbcTemplate.update(sql, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("expected", expectedIds)
+                .addValue("target", targetId));
+    }
+
+    private static <E extends Enum<E>> List<Long> statusIds(Set<E> expected, E target, ToLongFunction<E> idOf) {
+        if (expected == null || expected.isEmpty()) {
+            throw new IllegalArgumentException("At least one expected status is required");
+        }
+        if (expected.contains(target)) {
+            throw new IllegalArgumentException("Expected statuses " + expected + " must not contain the target " + target);
+        }
+        return expected.stream().map(idOf::applyAsLong).toList();
+    }
+}
@@ -0,0 +1,324 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ThBatchQueueProperties;
+import com.shdev.omsdatabase.config.ThBatchRetryProperties;
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.util.InClauseUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Work-claim queue over TBOM_TH_BATCHES for Thunderhead status synchronization and event publishing.
+ * <p>
+ * {@link #claim(int)} selects batches that are not yet synchronized or not yet published, due
+ * ({@code NEXT_ATTEMPT_DAT} reached) and not leased by another node with
+ * {@code FOR UPDATE SKIP LOCKED}, fetching at most N rows, and
+ * leases them to this node ({@code LEASE_OWNER}, {@code LEASE_EXPIRES_DAT}) in the same
+ * transaction. Concurrent claims on other nodes skip the locked rows instead of waiting, and once
+ * committed the lease keeps other nodes away until it expires. Lease times use the database
+ * clock, so node clock skew does not matter. The clock is read as {@code CAST(SYSTIMESTAMP AS TIMESTAMP)}:
+ * the time columns are plain {@code TIMESTAMP}s written by the triggers from {@code SYSTIMESTAMP}, and
+ * comparing them with a time zone value would convert the column side and bypass omtbe_07.
+ * <p>
+ * Completion and release are set-based updates guarded by the lease owner: a node whose lease
+ * has expired and been taken over cannot overwrite the new owner's work. A batch stays leased
+ * until it is both synchronized and published, so the second completion still matches the owner.
+ * {@link #markFailed(Collection, BatchStatus)} moves failed batches to a failed status and
+ * reschedules them with exponential backoff and jitter computed per row in the UPDATE, or leaves
+ * them unscheduled once {@code oms.th-batch.retry.max-attempts} is reached. Only due batches are
+ * read, through the index on the pending due time (omtbe_07), so a cycle never rescans waiting
+ * or exhausted batches.
+ * All leases still held by this node are released on shutdown.
+ * <p>
+ * Opt-in: the queue only exists with {@code oms.th-batch.queue.enabled=true}, so hosts that never
+ * claim batches, or whose schema lacks the lease columns, issue no release on shutdown.
+ *
+ * @author Shailesh Halor
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "oms.th-batch.queue", name = "enabled", havingValue = "true")
+public class ThBatchWorkQueue implements DisposableBean {
+
+    static final String CLAIM_SELECT = """
+            SELECT id
+            FROM tbom_th_batches
+            WHERE (CASE WHEN sync_status = 'N' OR event_status = 'N' THEN next_attempt_dat END) <= CAST(SYSTIMESTAMP AS TIMESTAMP)
+              AND (lease_expires_dat IS NULL OR lease_expires_dat < CAST(SYSTIMESTAMP AS TIMESTAMP))
+            FOR UPDATE SKIP LOCKED""";
+    static final String CLAIM_LEASE = """
+            UPDATE tbom_th_batches
+            SET lease_owner = ?, lease_expires_dat = CAST(SYSTIMESTAMP AS TIMESTAMP) + NUMTODSINTERVAL(?, 'SECOND')
+            WHERE id = ?""";
+    static final String MARK_SYNCED = """
+            UPDATE tbom_th_batches
+            SET sync_status = 'Y',
+                lease_owner = CASE WHEN event_status = 'Y' THEN NULL ELSE lease_owner END,
+                lease_expires_dat = CASE WHEN event_status = 'Y' THEN NULL ELSE lease_expires_dat END
+            WHERE lease_owner = :owner AND id IN (:ids)""";
+    static final String MARK_PUBLISHED = """
+            UPDATE tbom_th_batches
+            SET event_status = 'Y',
+                lease_owner = CASE WHEN sync_status = 'Y' THEN NULL ELSE lease_owner END,
+                lease_expires_dat = CASE WHEN sync_status = 'Y' THEN NULL ELSE lease_expires_dat END
+            WHERE lease_owner = :owner AND id IN (:ids)""";
+    static final String RELEASE = """
+            UPDATE tbom_th_batches
+            SET lease_owner = NULL, lease_expires_dat = NULL
+            WHERE lease_owner = :owner AND id IN (:ids)""";
+    static final String MARK_RETRY = """
+            UPDATE tbom_th_batches
+            SET retry_count = retry_count + 1,
+                omrda_th_status_id = (SELECT r.id FROM tbom_reference_data r
+                                      WHERE r.ref_data_type = :statusType AND r.ref_data_value = :status
+                                        AND CAST(SYSTIMESTAMP AS TIMESTAMP) BETWEEN r.effect_from_dat AND r.effect_to_dat),
+                next_attempt_dat = CAST(SYSTIMESTAMP AS TIMESTAMP) + NUMTODSINTERVAL(
+                        LEAST(:maxDelay, :initialDelay * POWER(:multiplier, retry_count))
+                            * (1 + :jitter * (2 * DBMS_RANDOM.VALUE - 1)), 'SECOND'),
+                lease_owner = NULL, lease_expires_dat = NULL
+            WHERE lease_owner = :owner AND id IN (:ids) AND retry_count + 1 < :maxAttempts""";
+    static final String MARK_EXHAUSTED = """
+            UPDATE tbom_th_batches
+            SET retry_count = retry_count + 1,
+                omrda_th_status_id = (SELECT r.id FROM tbom_reference_data r
+                                      WHERE r.ref_data_type = :statusType AND r.ref_data_value = :status
+                                        AND CAST(SYSTIMESTAMP AS TIMESTAMP) BETWEEN r.effect_from_dat AND r.effect_to_dat),
+                next_attempt_dat = NULL,
+                lease_owner = NULL, lease_expires_dat = NULL
+            WHERE lease_owner = :owner AND id IN (:ids) AND retry_count + 1 >= :maxAttempts""";
+    static final String REQUEUE = """
+            UPDATE tbom_th_batches
+            SET retry_count = 0, next_attempt_dat = CAST(SYSTIMESTAMP AS TIMESTAMP)
+            WHERE next_attempt_dat IS NULL AND (sync_status = 'N' OR event_status = 'N') AND id IN (:ids)""";
+    static final String RELEASE_ALL = """
+            UPDATE tbom_th_batches
+            SET lease_owner = NULL, lease_expires_dat = NULL
+            WHERE lease_owner = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final ThBatchQueueProperties properties;
+    private final ThBatchRetryProperties retryProperties;
+    private final String owner;
+
+    public ThBatchWorkQueue(JdbcTemplate jdbcTemplate, ThBatchQueueProperties properties,
+                            ThBatchRetryProperties retryProperties) {
+        this(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate), properties, retryProperties);
+    }
+
+    ThBatchWorkQueue(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate,
+                     ThBatchQueueProperties properties, ThBatchRetryProperties retryProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.properties = properties;
+        this.retryProperties = retryProperties;
+        this.owner = StringUtils.hasText(properties.getOwner()) ? properties.getOwner() : defaultOwner();
+    }
+
+    /**
+     * Lease owner written by this node.
+     *
+     * @return the lease owner
+     */
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * Claim up to {@code oms.th-batch.queue.claim-size} pending batches.
+     *
+     * @return ids of the batches leased to this node
+     */
+    @Transactional
+    public List<Long> claim() {
+        return claim(properties.getClaimSize());
+    }
+
+    /**
+     * Claim up to {@code limit} pending batches: not synchronized or not published, due for their
+     * next attempt, and not leased or with an expired lease.
+     *
+     * @param limit maximum number of batches to lease
+     * @return ids of the batches leased to this node, possibly fewer than {@code limit}
+     */
+    @Transactional
+    public List<Long> claim(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CLAIM_SELECT);
+            // rows are locked as they are fetched: stop after limit rows instead of locking all pending rows
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        long leaseSeconds = Math.max(1, properties.getLeaseDuration().toSeconds());
+        List<Object[]> leases = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            leases.add(new Object[]{owner, leaseSeconds, id});
+        }
+        jdbcTemplate.batchUpdate(CLAIM_LEASE, leases);
+        log.debug("Claimed {} Thunderhead batches for {} s as {}", ids.size(), leaseSeconds, owner);
+        return ids;
+    }
+
+    /**
+     * Mark leased batches as synchronized. Batches already published are released; the others
+     * stay leased to this node for {@link #markPublished(Collection)}.
+     *
+     * @param ids batch ids leased by this node
+     * @return number of batches updated; ids no longer leased by this node are skipped
+     */
+    @Transactional
+    public int markSynced(Collection<Long> ids) {
+        return updateLeased(MARK_SYNCED, ids);
+    }
+
+    /**
+     * Mark leased batches as published. Batches already synchronized are released; the others
+     * stay leased to this node for {@link #markSynced(Collection)}.
+     *
+     * @param ids batch ids leased by this node
+     * @return number of batches updated; ids no longer leased by this node are skipped
+     */
+    @Transactional
+    public int markPublished(Collection<Long> ids) {
+        return updateLeased(MARK_PUBLISHED, ids);
+    }
+
+    /**
+     * Record a failed attempt for leased batches and release them. Batches below
+     * {@code oms.th-batch.retry.max-attempts} are rescheduled after
+     * {@code min(maxDelay, initialDelay * multiplier^retryCount)} +/- jitter; the others keep
+     * the failed status without a next attempt until {@link #requeue(Collection)}.
+     *
+     * @param ids    batch ids leased by this node
+     * @param status {@link BatchStatus#FAILED_THUNDERHEAD} or {@link BatchStatus#FAILED_OMS}
+     * @return number of rescheduled and exhausted batches
+     */
+    @Transactional
+    public FailureOutcome markFailed(Collection<Long> ids, BatchStatus status) {
+        if (status != BatchStatus.FAILED_THUNDERHEAD && status != BatchStatus.FAILED_OMS) {
+            throw new IllegalArgumentException("Not a failed batch status: " + status);
+        }
+        double jitter = Math.clamp(retryProperties.getJitter(), 0.0, 1.0);
+        int exhausted = 0;
+        int rescheduled = 0;
+        for (List<Long> chunk : InClauseUtils.chunks(ids)) {
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("owner", owner)
+                    .addValue("ids", chunk)
+                    .addValue("statusType", BatchStatus.REF_DATA_TYPE)
+                    .addValue("status", status.getCode())
+                    .addValue("maxAttempts", retryProperties.getMaxAttempts());
+            exhausted += namedJdbcTemplate.update(MARK_EXHAUSTED, params);
+            rescheduled += namedJdbcTemplate.update(MARK_RETRY, params
+                    .addValue("initialDelay", retryProperties.getInitialDelay().toMillis() / 1000.0)
+                    .addValue("maxDelay", retryProperties.getMaxDelay().toMillis() / 1000.0)
+                    .addValue("multiplier", retryProperties.getMultiplier())
+                    .addValue("jitter", jitter));
+        }
+        if (exhausted > 0) {
+            log.warn("{} Thunderhead batches exhausted {} attempts and stay {}",
+                    exhausted, retryProperties.getMaxAttempts(), status.getCode());
+        }
+        return new FailureOutcome(rescheduled, exhausted);
+    }
+
+    /**
+     * Schedule batches whose retries are exhausted for an immediate attempt with a fresh retry count.
+     *
+     * @param ids batch ids
+     * @return number of batches requeued; batches still scheduled or already completed are skipped
+     */
+    @Transactional
+    public int requeue(Collection<Long> ids) {
+        int requeued = 0;
+        for (List<Long> chunk : InClauseUtils.chunks(ids)) {
+            requeued += namedJdbcTemplate.update(REQUEUE, new MapSqlParameterSource("ids", chunk));
+        }
+        return requeued;
+    }
+
+    /**
+     * Release leased batches without completing them, so any node can claim them right away.
+     *
+     * @param ids batch ids leased by this node
+     * @return number of batches released
+     */
+    @Transactional
+    public int release(Collection<Long> ids) {
+        return updateLeased(RELEASE, ids);
+    }
+
+    /**
+     * Release all batches leased by this node.
+     *
+     * @return number of batches released
+     */
+    @Transactional
+    public int releaseAll() {
+        return jdbcTemplate.update(RELEASE_ALL, owner);
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            int released = releaseAll();
+            if (released > 0) {
+                log.info("Released {} Thunderhead batch leases of {} on shutdown", released, owner);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to release Thunderhead batch leases of {}; they expire after {}: {}",
+                    owner, properties.getLeaseDuration(), e.getMessage());
+        }
+    }
+
+    private int updateLeased(String sql, Collection<Long> ids) {
+        int updated = 0;
+        for (List<Long> chunk : InClauseUtils.chunks(ids)) {
+            updated += namedJdbcTemplate.update(sql, new MapSqlParameterSource()
+                    .addValue("owner", owner)
+                    .addValue("ids", chunk));
+        }
+        return updated;
+    }
+
+    /**
+     * Result of {@link #markFailed(Collection, BatchStatus)}.
+     *
+     * @param rescheduled batches scheduled for another attempt
+     * @param exhausted   batches that reached the attempt cap
+     */
+    public record FailureOutcome(int rescheduled, int exhausted) {
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String value = ProcessHandle.current().pid() + "@" + host;
+        return value.length() > 100 ? value.substring(0, 100) : value;
+    }
+}
@@ -0,0 +1,104 @@
+package com.shdev.omsdatabase.util;
+
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Supplier;
+
+import static com.shdev.omsdatabase.constants.OmsConstants.USER_ID_HEADER;
+import static com.shdev.omsdatabase.constants.OmsConstants.USER_ID_TOKEN;
+
+/**
+ * User identifiers written to the audit columns, captured from the MDC.
+ * <p>
+ * {@link #current()} reads the MDC once per transaction: the first call in a transaction with
+ * active synchronization binds the captured context to it, later calls (one per persisted
+ * entity) reuse it until the transaction completes. {@link #callWith(Supplier)} captures it once
+ * for a batch running outside a transaction. Without either, every call reads the MDC.
+ *
+ * @param headerUid user ID from the request header, or null
+ * @param tokenUid  user ID from the JWT token, or null
+ * @author Shailesh Halor
+ */
+public record AuditContext(String headerUid, String tokenUid) {
+
+    private static final ThreadLocal<AuditContext> BATCH = new ThreadLocal<>();
+
+    /**
+     * Audit context of the current batch, transaction or MDC, in that order.
+     *
+     * @return the audit context
+     */
+    public static AuditContext current() {
+        AuditContext batch = BATCH.get();
+        if (batch != null) {
+            return batch;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return fromMdc();
+        }
+        AuditContext bound = (AuditContext) TransactionSynchronizationManager.getResource(AuditContext.class);
+        if (bound == null) {
+            bound = fromMdc();
+            TransactionSynchronizationManager.bindResource(AuditContext.class, bound);
+            TransactionSynchronizationManager.registerSynchronization(new Binding(bound));
+        }
+        return bound;
+    }
+
+    /**
+     * Run a batch with the audit context captured once from the MDC.
+     *
+     * @param action the batch
+     * @param <T>    the result type
+     * @return the batch result
+     */
+    public static <T> T callWith(Supplier<T> action) {
+        AuditContext previous = BATCH.get();
+        BATCH.set(previous != null ? previous : fromMdc());
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                BATCH.remove();
+            }
+        }
+    }
+
+    /**
+     * Capture the audit context from the MDC, treating blank values as null.
+     *
+     * @return the audit context
+     */
+    public static AuditContext fromMdc() {
+        return new AuditContext(mdc(USER_ID_HEADER), mdc(USER_ID_TOKEN));
+    }
+
+    private static String mdc(String key) {
+        String value = MDC.get(key);
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    /**
+     * Keeps the captured context bound to its transaction only, across suspension by nested transactions.
+     */
+    private record Binding(AuditContext context) implements TransactionSynchronization {
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditContext.class);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AuditContext.class, context);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditContext.class);
+        }
+    }
+}
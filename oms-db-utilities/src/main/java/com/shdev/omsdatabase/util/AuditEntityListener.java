@@ -1,38 +1,34 @@
 package com.shdev.omsdatabase.util;
 
-import com.shdev.omsdatabase.entity.DocumentConfigEntity;
-import com.shdev.omsdatabase.entity.DocumentRequestEntity;
-import com.shdev.omsdatabase.entity.ReferenceDataEntity;
-import com.shdev.omsdatabase.entity.ThBatchEntity;
+import com.shdev.omsdatabase.entity.base.DualCreateUidEntity;
+import com.shdev.omsdatabase.entity.base.SingleAuditUidEntity;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
-import lombok.extern.slf4j.Slf4j;
-import org.slf4j.MDC;
-import org.springframework.util.StringUtils;
-
-import static com.shdev.omsdatabase.constants.OmsConstants.USER_ID_HEADER;
-import static com.shdev.omsdatabase.constants.OmsConstants.USER_ID_TOKEN;
 
 /**
  * JPA Entity Listener to automatically populate audit fields (create and update user IDs) based on MDC values.
+ * <p>
+ * The fields to set are decided by the audit base class of the entity ({@link DualCreateUidEntity}
+ * or {@link SingleAuditUidEntity}); the applier is resolved once per entity class through a
+ * {@link ClassValue}, so new entities on either base need no change here. The user IDs come from
+ * {@link AuditContext#current()}, which reads the MDC once per transaction instead of per entity.
  *
  * @author Shailesh Halor
  */
-@Slf4j
 public class AuditEntityListener {
 
-    /**
-     * Helper to get metadataValue from MDC, treating blank as null
-     *
-     * @param key the MDC metadataKey
-     * @return the metadataValue or null
-     */
-    private static String mdc(String key) {
-        log.trace("MDC metadataKey: {}", key);
-        var value = MDC.get(key);
-        return StringUtils.hasText(value) ? value : null;
-
-    }
+    private static final ClassValue<AuditApplier> APPLIERS = new ClassValue<>() {
+        @Override
+        protected AuditApplier computeValue(Class<?> type) {
+            if (DualCreateUidEntity.class.isAssignableFrom(type)) {
+                return AuditApplier.DUAL_CREATE_UID;
+            }
+            if (SingleAuditUidEntity.class.isAssignableFrom(type)) {
+                return AuditApplier.SINGLE_AUDIT_UID;
+            }
+            return AuditApplier.NONE;
+        }
+    };
 
     /**
      * Pre-persist lifecycle callback to set create user fields.
@@ -41,54 +37,9 @@ public class AuditEntityListener {
      */
     @PrePersist
     public void prePersist(Object entity) {
-
-        log.trace("Entering prePersist for entity: {}", entity.getClass().getSimpleName());
-
-        applyHeaderAndTokenUidCreateFields(entity);
-        applyGenericUidCreateAndUpdateFields(entity);
-
-        log.trace("Exiting prePersist for entity: {}", entity.getClass().getSimpleName());
-    }
-
-    /**
-     * Applies CREATE_UID_HEADER and CREATE_UID_TOKEN for entities that use header and token user identifiers.
-     *
-     * @param entity the entity being persisted
-     */
-    private static void applyHeaderAndTokenUidCreateFields(Object entity) {
-        var headerUid = mdc(USER_ID_HEADER);
-        var tokenUid = mdc(USER_ID_TOKEN);
-        log.trace("prePersist Header UID: {}, Token UID: {}", headerUid, tokenUid);
-
-        if (entity instanceof DocumentRequestEntity e) {
-            if (null != headerUid && null == e.getCreateUidHeader()) e.setCreateUidHeader(headerUid);
-            if (null != tokenUid && null == e.getCreateUidToken()) e.setCreateUidToken(tokenUid);
-            return;
-        }
-        if (entity instanceof ThBatchEntity e) {
-            if (null != headerUid && null == e.getCreateUidHeader()) e.setCreateUidHeader(headerUid);
-            if (null != tokenUid && null == e.getCreateUidToken()) e.setCreateUidToken(tokenUid);
-        }
-    }
-
-    /**
-     * Applies generic CREATE_UID and LAST_UPDATE_UID for entities that use common user identifiers.
-     *
-     * @param entity the entity being persisted
-     */
-    private static void applyGenericUidCreateAndUpdateFields(Object entity) {
-
-        var genericUid = mdc(USER_ID_HEADER);
-        log.trace("prePersist Generic UID: {}", genericUid);
-
-        if (entity instanceof DocumentConfigEntity d) {
-            if (null != genericUid && null == d.getCreateUid()) d.setCreateUid(genericUid);
-            if (null != genericUid && null == d.getLastUpdateUid()) d.setLastUpdateUid(genericUid);
-            return;
-        }
-        if (entity instanceof ReferenceDataEntity r) {
-            if (null != genericUid && null == r.getCreateUid()) r.setCreateUid(genericUid);
-            if (null != genericUid && null == r.getLastUpdateUid()) r.setLastUpdateUid(genericUid);
+        AuditApplier applier = APPLIERS.get(entity.getClass());
+        if (applier != AuditApplier.NONE) {
+            applier.applyCreate(entity, AuditContext.current());
         }
     }
 
@@ -99,22 +50,62 @@ public class AuditEntityListener {
      */
     @PreUpdate
     public void preUpdate(Object entity) {
+        AuditApplier applier = APPLIERS.get(entity.getClass());
+        if (applier != AuditApplier.NONE) {
+            applier.applyUpdate(entity, AuditContext.current());
+        }
+    }
 
-        log.trace("Entering preUpdate for entity: {}", entity.getClass().getSimpleName());
-
-        var genericUid = mdc(USER_ID_HEADER);
-        log.trace("preUpdate Generic UID: {}", genericUid);
-
-        if (null != genericUid) {
+    /**
+     * Audit field handling per audit base class.
+     */
+    enum AuditApplier {
+
+        /**
+         * CREATE_UID_HEADER and CREATE_UID_TOKEN, set on insert only.
+         */
+        DUAL_CREATE_UID {
+            @Override
+            void applyCreate(Object entity, AuditContext context) {
+                DualCreateUidEntity e = (DualCreateUidEntity) entity;
+                if (null != context.headerUid() && null == e.getCreateUidHeader()) e.setCreateUidHeader(context.headerUid());
+                if (null != context.tokenUid() && null == e.getCreateUidToken()) e.setCreateUidToken(context.tokenUid());
+            }
+        },
+
+        /**
+         * CREATE_UID and LAST_UPDATE_UID from the header user ID.
+         */
+        SINGLE_AUDIT_UID {
+            @Override
+            void applyCreate(Object entity, AuditContext context) {
+                SingleAuditUidEntity e = (SingleAuditUidEntity) entity;
+                if (null != context.headerUid() && null == e.getCreateUid()) e.setCreateUid(context.headerUid());
+                if (null != context.headerUid() && null == e.getLastUpdateUid()) e.setLastUpdateUid(context.headerUid());
+            }
 
-            if (entity instanceof DocumentConfigEntity d) {
-                d.setLastUpdateUid(genericUid);
-                return;
+            @Override
+            void applyUpdate(Object entity, AuditContext context) {
+                if (null != context.headerUid()) {
+                    ((SingleAuditUidEntity) entity).setLastUpdateUid(context.headerUid());
+                }
             }
-            if (entity instanceof ReferenceDataEntity r) {
-                r.setLastUpdateUid(genericUid);
+        },
+
+        /**
+         * No audit user fields.
+         */
+        NONE {
+            @Override
+            void applyCreate(Object entity, AuditContext context) {
+                // nothing to set
             }
+        };
+
+        abstract void applyCreate(Object entity, AuditContext context);
+
+        void applyUpdate(Object entity, AuditContext context) {
+            // create-only audit fields
         }
-        log.trace("Exiting preUpdate for entity: {}", entity.getClass().getSimpleName());
     }
 }
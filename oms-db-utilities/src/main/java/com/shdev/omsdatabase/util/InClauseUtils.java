@@ -0,0 +1,59 @@
+package com.shdev.omsdatabase.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Utility class for building IN-list query parameters within Oracle's limit of 1000 expressions
+ * per IN list (ORA-01795).
+ *
+ * @author Shailesh Halor
+ */
+@UtilityClass
+public class InClauseUtils {
+
+    /**
+     * Maximum number of expressions Oracle accepts in a single IN list.
+     */
+    public static final int ORACLE_IN_LIST_LIMIT = 1000;
+
+    /**
+     * Split the distinct non-null values into chunks of at most {@link #ORACLE_IN_LIST_LIMIT}.
+     *
+     * @param values the values to split
+     * @param <T>    the value type
+     * @return chunks in encounter order; empty if there are no values
+     */
+    public static <T> List<List<T>> chunks(Collection<T> values) {
+        return chunks(values, ORACLE_IN_LIST_LIMIT);
+    }
+
+    /**
+     * Split the distinct non-null values into chunks of at most {@code chunkSize}.
+     *
+     * @param values    the values to split
+     * @param chunkSize the maximum chunk size
+     * @param <T>       the value type
+     * @return chunks in encounter order; empty if there are no values
+     */
+    public static <T> List<List<T>> chunks(Collection<T> values, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        List<T> distinct = new ArrayList<>(values.size());
+        for (T value : new LinkedHashSet<>(values)) {
+            if (value != null) {
+                distinct.add(value);
+            }
+        }
+        List<List<T>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(List.copyOf(distinct.subList(from, Math.min(from + chunkSize, distinct.size()))));
+        }
+        return chunks;
+    }
+}
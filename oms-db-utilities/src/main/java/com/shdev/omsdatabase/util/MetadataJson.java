@@ -0,0 +1,93 @@
+package com.shdev.omsdatabase.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import lombok.experimental.UtilityClass;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact JSON form of a request's metadata as stored in TBOM_REQUEST_METADATA_DOCS.
+ * <p>
+ * The document is an object keyed by the METADATA_KEY reference data id, in ascending key order:
+ * {@code {"12":"POL-1","15":"C-42"}}. A key with several values holds an array of them in
+ * encounter order. The layout matches the {@code JSON_EXISTS(metadata, '$."<id>"?(@ == $v)')}
+ * searches of {@code JsonMetadataStore}, which match both forms.
+ *
+ * @author Shailesh Halor
+ */
+@UtilityClass
+public class MetadataJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Serialize metadata entries.
+     *
+     * @param entries the metadata entries
+     * @return the JSON document, or {@code null} if there are no entries
+     */
+    public static String write(Collection<MetadataEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+        Map<Long, List<String>> byKey = new TreeMap<>();
+        for (MetadataEntry entry : entries) {
+            byKey.computeIfAbsent(entry.metadataKeyId(), key -> new ArrayList<>(1)).add(entry.metadataValue());
+        }
+        ObjectNode document = MAPPER.createObjectNode();
+        byKey.forEach((keyId, values) -> {
+            if (values.size() == 1) {
+                document.put(keyId.toString(), values.getFirst());
+            } else {
+                ArrayNode array = document.putArray(keyId.toString());
+                values.forEach(array::add);
+            }
+        });
+        try {
+            return MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Failed to write metadata document", e);
+        }
+    }
+
+    /**
+     * Parse a metadata document.
+     *
+     * @param json the JSON document
+     * @return the metadata entries in document order
+     * @throws UncheckedIOException if the document is not valid JSON
+     */
+    public static List<MetadataEntry> read(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        JsonNode document;
+        try {
+            document = MAPPER.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Invalid metadata document", e);
+        }
+        List<MetadataEntry> entries = new ArrayList<>(document.size());
+        for (Iterator<Map.Entry<String, JsonNode>> fields = document.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Long keyId = Long.valueOf(field.getKey());
+            if (field.getValue().isArray()) {
+                field.getValue().forEach(value -> entries.add(new MetadataEntry(keyId, value.asText())));
+            } else {
+                entries.add(new MetadataEntry(keyId, field.getValue().asText()));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,110 @@
+package com.shdev.omsdatabase.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Utility class for compressed, content-addressed request payloads.
+ * <p>
+ * Payloads are encoded as UTF-8 and compressed with zlib deflate ({@link Deflater}); the content
+ * hash is the SHA-256 of the uncompressed UTF-8 bytes, as lowercase hex. Compression and hashing
+ * happen in one pass over a {@link Reader}, so the payload is never held as a {@code String}.
+ *
+ * @author Shailesh Halor
+ */
+@UtilityClass
+public class PayloadCompression {
+
+    /**
+     * Codec name stored with every compressed payload.
+     */
+    public static final String CODEC_DEFLATE = "DEFLATE";
+
+    /**
+     * Compressed payload.
+     *
+     * @param hash           SHA-256 of the uncompressed UTF-8 bytes, lowercase hex (64 characters)
+     * @param data           deflate-compressed bytes
+     * @param originalLength uncompressed length in bytes
+     */
+    public record Compressed(String hash, byte[] data, long originalLength) {
+    }
+
+    /**
+     * Compress a payload.
+     *
+     * @param payload the payload text
+     * @param level   the deflate level, 0-9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @return hash and compressed bytes
+     */
+    public static Compressed compress(String payload, int level) {
+        return compress(new StringReader(payload), level);
+    }
+
+    /**
+     * Compress a payload read from a character stream; the reader is read to the end, not closed.
+     *
+     * @param payload the payload text
+     * @param level   the deflate level, 0-9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @return hash and compressed bytes
+     * @throws UncheckedIOException if reading the payload fails
+     */
+    public static Compressed compress(Reader payload, int level) {
+        MessageDigest digest = sha256();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(level);
+        try {
+            try (Writer writer = new OutputStreamWriter(
+                    new DigestOutputStream(new DeflaterOutputStream(out, deflater, 8192), digest), StandardCharsets.UTF_8)) {
+                payload.transferTo(writer);
+            }
+            return new Compressed(HexFormat.of().formatHex(digest.digest()), out.toByteArray(), deflater.getBytesRead());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compress payload", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Character stream over a compressed payload.
+     *
+     * @param compressed the deflate-compressed bytes
+     * @return reader decoding the payload as UTF-8; closing it closes the input
+     */
+    public static Reader reader(InputStream compressed) {
+        return new InputStreamReader(new InflaterInputStream(compressed), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decompress a payload.
+     *
+     * @param compressed the deflate-compressed bytes
+     * @return the payload text
+     * @throws UncheckedIOException if the data is not valid deflate data
+     */
+    public static String decompress(byte[] compressed) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decompress payload", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
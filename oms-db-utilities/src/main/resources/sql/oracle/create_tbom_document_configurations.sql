@@ -9,6 +9,7 @@
 --        perform logical deletes by setting effect_to_dat to the desired (past) date.
 -- Changelog:
 --   2025-10-22 - Initial version.
+--   2026-10-19 - Sequence INCREMENT BY 50 CACHE 20 for pooled-lo id allocation.
 --
 
 -- Drop table and related objects
@@ -36,8 +37,8 @@ END;
 -- Create sequence for PK
 CREATE SEQUENCE sqomdcn_doc_config_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_document_configurations
@@ -8,6 +8,7 @@
 --        from API header and token; triggers set created_dat and last_update_dat automatically.
 -- Changelog:
 --   2025-10-23 - Initial version.
+--   2026-10-19 - Sequence INCREMENT BY 50 CACHE 20 for pooled-lo id allocation.
 --
 
 -- Drop table and related objects
@@ -35,8 +36,8 @@ END;
 -- Create sequence for PK
 CREATE SEQUENCE sqomrda_doc_request_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_document_requests
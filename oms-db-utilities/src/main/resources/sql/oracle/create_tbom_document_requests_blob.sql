@@ -3,8 +3,11 @@
 -- Purpose: Create table tbom_document_requests_blob to store JSON/XML request payloads
 --          in a 1:1 relationship with tbom_document_requests.
 -- Notes: omdrt_id is both the PK and an FK to tbom_document_requests(id); JSON is required, XML optional.
+--        A payload is stored either in its CLOB column or compressed in tbom_payload_contents (hash column);
+--        run create_tbom_payload_contents.sql first.
 -- Changelog:
 --   2025-10-23 - Initial version.
+--   2026-10-19 - Added json_content_hash / xml_content_hash for compressed, deduplicated payloads; json_request nullable.
 --
 
 -- Drop table and related objects
@@ -20,17 +23,31 @@ END;
 
 CREATE TABLE tbom_document_requests_blob
 (
-    omdrt_id     NUMBER NOT NULL,
-    json_request CLOB   NOT NULL,
-    xml_request  CLOB   NULL,
+    omdrt_id          NUMBER       NOT NULL,
+    json_request      CLOB         NULL,
+    xml_request       CLOB         NULL,
+    json_content_hash VARCHAR2(64) NULL,
+    xml_content_hash  VARCHAR2(64) NULL,
     CONSTRAINT pk_tbom_document_requests_blob
         PRIMARY KEY (omdrt_id),
     CONSTRAINT fk_tbom_document_requests_blob_req
         FOREIGN KEY (omdrt_id)
             REFERENCES tbom_document_requests (id)
-                ON DELETE CASCADE
+                ON DELETE CASCADE,
+    CONSTRAINT fk_tbom_document_requests_blob_json
+        FOREIGN KEY (json_content_hash)
+            REFERENCES tbom_payload_contents (content_hash),
+    CONSTRAINT fk_tbom_document_requests_blob_xml
+        FOREIGN KEY (xml_content_hash)
+            REFERENCES tbom_payload_contents (content_hash),
+    CONSTRAINT ck_tbom_document_requests_blob_json
+        CHECK (json_request IS NOT NULL OR json_content_hash IS NOT NULL)
 );
 
+-- Create indexes (content references, used when purging unreferenced contents)
+CREATE INDEX omdrb_01 ON tbom_document_requests_blob (json_content_hash);
+CREATE INDEX omdrb_02 ON tbom_document_requests_blob (xml_content_hash);
+
 -- Comments (canonical definitions)
 COMMENT ON TABLE tbom_document_requests_blob IS
     'Stores JSON and optional XML request payloads for a single tbom_document_requests row (1:1 mapping via PK=FK).';
@@ -39,7 +56,13 @@ COMMENT ON COLUMN tbom_document_requests_blob.omdrt_id IS
     'Identifier matching tbom_document_requests.id (1:1); serves as both primary key and foreign key.';
 
 COMMENT ON COLUMN tbom_document_requests_blob.json_request IS
-    'Request payload in JSON format; required.';
+    'Request payload in JSON format; required unless stored compressed (JSON_CONTENT_HASH).';
 
 COMMENT ON COLUMN tbom_document_requests_blob.xml_request IS
     'Request payload in XML format; optional.';
+
+COMMENT ON COLUMN tbom_document_requests_blob.json_content_hash IS
+    'SHA-256 of the uncompressed JSON payload, key of its compressed content in tbom_payload_contents; JSON_REQUEST is null when set.';
+
+COMMENT ON COLUMN tbom_document_requests_blob.xml_content_hash IS
+    'SHA-256 of the uncompressed XML payload, key of its compressed content in tbom_payload_contents; XML_REQUEST is null when set.';
@@ -9,6 +9,7 @@
 --        encountered for a batch/request. Primary key is assigned from sequence if NULL on insert.
 -- Changelog:
 --   2025-10-23 - Initial version.
+--   2026-10-19 - Sequence INCREMENT BY 50 CACHE 20 for pooled-lo id allocation.
 --
 
 -- Drop table and related objects
@@ -36,8 +37,8 @@ END;
 -- Create sequence for PK
 CREATE SEQUENCE sqomedl_error_details_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_error_details
@@ -0,0 +1,53 @@
+--
+-- File: create_tbom_payload_contents.sql
+-- Purpose: Create table tbom_payload_contents to store compressed request payloads once per distinct content.
+-- Notes: Rows are keyed by the SHA-256 (lowercase hex) of the uncompressed UTF-8 payload and referenced from
+--        tbom_document_requests_blob.json_content_hash / xml_content_hash. Rows are immutable and may be shared by
+--        many requests; they are written by PayloadContentStore (MERGE, insert if absent).
+--        Run before create_tbom_document_requests_blob.sql.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+-- Drop table and related objects
+BEGIN
+    EXECUTE IMMEDIATE 'DROP TABLE tbom_payload_contents CASCADE CONSTRAINTS PURGE';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE != -942 THEN
+            RAISE;
+        END IF;
+END;
+/
+
+CREATE TABLE tbom_payload_contents
+(
+    content_hash    VARCHAR2(64)                        NOT NULL,
+    codec           VARCHAR2(10) DEFAULT 'DEFLATE'      NOT NULL,
+    original_length NUMBER                              NOT NULL,
+    content         BLOB                                NOT NULL,
+    created_dat     TIMESTAMP    DEFAULT SYSTIMESTAMP   NOT NULL,
+    CONSTRAINT pk_tbom_payload_contents
+        PRIMARY KEY (content_hash),
+    CONSTRAINT ck_tbom_payload_contents_codec
+        CHECK (codec IN ('DEFLATE'))
+);
+
+-- Comments (canonical definitions)
+COMMENT ON TABLE tbom_payload_contents IS
+    'Compressed request payloads stored once per distinct content, referenced by tbom_document_requests_blob.';
+
+COMMENT ON COLUMN tbom_payload_contents.content_hash IS
+    'SHA-256 of the uncompressed UTF-8 payload, lowercase hex; primary key.';
+
+COMMENT ON COLUMN tbom_payload_contents.codec IS
+    'Compression codec of CONTENT; DEFLATE = zlib deflate (java.util.zip.Deflater).';
+
+COMMENT ON COLUMN tbom_payload_contents.original_length IS
+    'Uncompressed payload length in bytes (UTF-8).';
+
+COMMENT ON COLUMN tbom_payload_contents.content IS
+    'Compressed payload bytes.';
+
+COMMENT ON COLUMN tbom_payload_contents.created_dat IS
+    'Timestamp when the content was first stored.';
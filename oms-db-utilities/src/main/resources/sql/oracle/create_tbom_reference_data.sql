@@ -35,8 +35,8 @@ END;
 -- Create sequence for PK
 CREATE SEQUENCE sqomrda_ref_data_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_reference_data
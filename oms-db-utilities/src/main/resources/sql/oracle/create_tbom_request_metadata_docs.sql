@@ -0,0 +1,47 @@
+--
+-- File: create_tbom_request_metadata_docs.sql
+-- Purpose: Create tbom_request_metadata_docs to store all metadata values of a document request as one JSON document.
+-- Notes: Used instead of tbom_requests_metadata_values when oms.metadata.storage=JSON. One row per request; METADATA
+--        is a JSON object keyed by the tbom_reference_data.id (METADATA_KEY) as string, e.g. {"12":"POL-1","15":"C-42"}.
+--        A key with several values holds an array. The JSON search index omrmd_01 serves the JSON_EXISTS searches of
+--        JsonMetadataStore for every key, single values and array elements alike. Documents up to ~4000 bytes are
+--        stored inline in the row.
+-- Dependencies: Requires tbom_document_requests to exist.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+-- Drop table and related objects
+BEGIN
+    EXECUTE IMMEDIATE 'DROP TABLE tbom_request_metadata_docs CASCADE CONSTRAINTS PURGE';
+EXCEPTION
+    WHEN OTHERS THEN
+        IF SQLCODE != -942 THEN
+            RAISE;
+        END IF;
+END;
+/
+
+CREATE TABLE tbom_request_metadata_docs
+(
+    omdrt_id NUMBER NOT NULL,
+    metadata CLOB   NOT NULL,
+    CONSTRAINT pk_tbom_request_metadata_docs
+        PRIMARY KEY (omdrt_id),
+    CONSTRAINT ck_tbom_request_metadata_docs_json
+        CHECK (metadata IS JSON (STRICT))
+)
+LOB (metadata) STORE AS SECUREFILE (ENABLE STORAGE IN ROW);
+
+-- Add comments to table and columns
+COMMENT ON TABLE tbom_request_metadata_docs IS 'Compact metadata storage: all metadata values of a document request as one JSON document.';
+COMMENT ON COLUMN tbom_request_metadata_docs.omdrt_id IS 'Primary key and foreign key to tbom_document_requests.id (the owning document request).';
+COMMENT ON COLUMN tbom_request_metadata_docs.metadata IS 'JSON object keyed by METADATA_KEY reference data id; values are strings (arrays for repeated keys).';
+
+-- Add foreign key constraint
+ALTER TABLE tbom_request_metadata_docs
+    ADD CONSTRAINT omdrt_omrmd_fk1 FOREIGN KEY (omdrt_id)
+        REFERENCES tbom_document_requests (id);
+
+-- Add JSON search index (JsonMetadataStore.findRequestIds)
+CREATE SEARCH INDEX omrmd_01 ON tbom_request_metadata_docs (metadata) FOR JSON PARAMETERS ('SYNC (ON COMMIT)');
@@ -6,6 +6,8 @@
 -- Dependencies: Requires tbom_document_requests and tbom_reference_data to exist.
 -- Changelog:
 --   2025-10-23 - Initial version.
+--   2026-10-19 - Sequence INCREMENT BY 50 CACHE 20 for pooled-lo id allocation.
+--   2026-10-19 - omrme_01/omrme_02 composite for bulk metadata reads and metadata search.
 --
 
 -- Drop table and related objects
@@ -33,8 +35,8 @@ END;
 -- Create sequence for PK
 CREATE SEQUENCE sqomrme_metadata_value_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_requests_metadata_values
@@ -61,8 +63,11 @@ ALTER TABLE tbom_requests_metadata_values
         REFERENCES tbom_reference_data (id);
 
 -- Create indexes
-CREATE INDEX omrme_01 ON tbom_requests_metadata_values (omdrt_id);
-CREATE INDEX omrme_02 ON tbom_requests_metadata_values (omrda_id);
+-- omrme_01: metadata of a set of requests (RequestMetadataService.findByRequestIds); also covers the omdrt_id FK
+-- omrme_02: requests by metadata key and value (RequestMetadataService.findRequestIds), answered from the index alone;
+--           also covers the omrda_id FK
+CREATE INDEX omrme_01 ON tbom_requests_metadata_values (omdrt_id, omrda_id);
+CREATE INDEX omrme_02 ON tbom_requests_metadata_values (omrda_id, metadata_value, omdrt_id);
 CREATE INDEX omrme_03 ON tbom_requests_metadata_values (metadata_value);
 
 -- Trigger to set PK before insert
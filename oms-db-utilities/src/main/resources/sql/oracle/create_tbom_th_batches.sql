@@ -10,6 +10,9 @@
 --        automatically; creator UIDs default to USER when missing.
 -- Changelog:
 --   2025-10-23 - Initial version.
+--   2026-10-19 - Sequence INCREMENT BY 50 CACHE 20 for pooled-lo id allocation.
+--   2026-10-19 - Lease columns and claim index omtbe_07 for the SKIP LOCKED work queue.
+--   2026-10-19 - next_attempt_dat for retry backoff; omtbe_07 keyed on the due time of pending batches.
 --
 
 -- Drop table and related objects
@@ -37,8 +40,8 @@ END;
 -- Create sequence for PK (used if ID not provided on INSERT)
 CREATE SEQUENCE sqomthb_th_batch_id
     START WITH 1
-    INCREMENT BY 1
-    NOCACHE
+    INCREMENT BY 50 -- must equal OmsConstants.ID_ALLOCATION_SIZE (Hibernate pooled-lo)
+    CACHE 20
     NOCYCLE;
 
 CREATE TABLE tbom_th_batches
@@ -52,6 +55,9 @@ CREATE TABLE tbom_th_batches
     sync_status        CHAR(1)   DEFAULT 'N'   NOT NULL,
     event_status       CHAR(1)   DEFAULT 'N'   NOT NULL,
     retry_count        NUMBER    DEFAULT 0     NOT NULL,
+    next_attempt_dat   TIMESTAMP,
+    lease_owner        VARCHAR2(100),
+    lease_expires_dat  TIMESTAMP,
     created_dat        TIMESTAMP               NOT NULL,
     last_update_dat    TIMESTAMP               NOT NULL,
     create_uid_header  VARCHAR2(20)            NOT NULL,
@@ -69,18 +75,25 @@ COMMENT ON COLUMN tbom_th_batches.dms_document_id IS 'Identifier of the generate
 COMMENT ON COLUMN tbom_th_batches.sync_status IS 'Flag indicating whether the Thunderhead batch status has been synchronized back to OMS.';
 COMMENT ON COLUMN tbom_th_batches.event_status IS 'Flag indicating whether the batch status event has been published.';
 COMMENT ON COLUMN tbom_th_batches.retry_count IS 'Number of retry attempts for synchronization and event publishing.';
+COMMENT ON COLUMN tbom_th_batches.next_attempt_dat IS 'Earliest time of the next synchronization or publishing attempt; null once retries are exhausted.';
+COMMENT ON COLUMN tbom_th_batches.lease_owner IS 'Worker node currently holding the claim on this batch (null when not claimed).';
+COMMENT ON COLUMN tbom_th_batches.lease_expires_dat IS 'Expiry of the current claim; the batch can be claimed again afterwards.';
 COMMENT ON COLUMN tbom_th_batches.created_dat IS 'Record creation timestamp set at insert.';
 COMMENT ON COLUMN tbom_th_batches.last_update_dat IS 'Record last update timestamp set on insert/update.';
 COMMENT ON COLUMN tbom_th_batches.create_uid_header IS 'User ID (from request header) that created the record; defaults to USER when missing.';
 COMMENT ON COLUMN tbom_th_batches.create_uid_token IS 'User ID (from JWT token) that created the record; defaults to USER when missing.';
 
--- Create indexes (omtbe_01..06)
+-- Create indexes (omtbe_01..07)
 CREATE INDEX omtbe_01 ON tbom_th_batches (omrda_th_status_id);
 CREATE INDEX omtbe_02 ON tbom_th_batches (th_batch_id);
 CREATE INDEX omtbe_03 ON tbom_th_batches (sync_status);
 CREATE INDEX omtbe_04 ON tbom_th_batches (event_status);
 CREATE INDEX omtbe_05 ON tbom_th_batches (omdrt_id);
 CREATE INDEX omtbe_06 ON tbom_th_batches (retry_count);
+-- Claim index for ThBatchWorkQueue: the key is the due time of pending batches (not synced or not published) and is
+-- null for completed and exhausted batches, so the index stays as small as the backlog and a claim range-scans only
+-- due rows. The expression must match the claim query exactly.
+CREATE INDEX omtbe_07 ON tbom_th_batches (CASE WHEN sync_status = 'N' OR event_status = 'N' THEN next_attempt_dat END, lease_expires_dat);
 
 -- Add foreign key constraints
 ALTER TABLE tbom_th_batches
@@ -90,7 +103,7 @@ ALTER TABLE tbom_th_batches
     ADD CONSTRAINT omrda_omtbe_fk2 FOREIGN KEY (omrda_th_status_id)
         REFERENCES tbom_reference_data (id);
 
--- Trigger to set PK (if missing), created_dat, last_update_dat, create_uid_header, and create_uid_token before insert
+-- Trigger to set PK (if missing), created_dat, last_update_dat, next_attempt_dat, create_uid_header, and create_uid_token before insert
 CREATE OR REPLACE TRIGGER omtbe_01t_bir
     BEFORE INSERT
     ON tbom_th_batches
@@ -103,6 +116,9 @@ BEGIN
         :NEW.created_dat := SYSTIMESTAMP;
     END IF;
     :NEW.last_update_dat := SYSTIMESTAMP;
+    IF :NEW.next_attempt_dat IS NULL THEN
+        :NEW.next_attempt_dat := SYSTIMESTAMP;
+    END IF;
     IF :NEW.create_uid_header IS NULL THEN
         :NEW.create_uid_header := USER;
     END IF;
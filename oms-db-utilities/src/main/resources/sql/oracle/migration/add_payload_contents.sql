@@ -0,0 +1,72 @@
+--
+-- File: add_payload_contents.sql
+-- Purpose: Enable compressed, deduplicated request payload storage on existing schemas.
+-- Summary: Creates tbom_payload_contents (deflate-compressed payloads keyed by SHA-256 content hash) and adds
+--          json_content_hash / xml_content_hash to tbom_document_requests_blob. json_request becomes nullable; a check
+--          constraint still requires either the CLOB or the hash. Existing rows are not touched: readers handle both
+--          layouts, and only payloads written with oms.payload.compressed=true use the new table.
+-- Usage: Run once BEFORE enabling oms.payload.compressed. Services on this version read both layouts, so the flag can
+--        be switched per service after deployment. Older services cannot read compressed rows; enable the flag only
+--        when every reader runs this version.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+CREATE TABLE tbom_payload_contents
+(
+    content_hash    VARCHAR2(64)                        NOT NULL,
+    codec           VARCHAR2(10) DEFAULT 'DEFLATE'      NOT NULL,
+    original_length NUMBER                              NOT NULL,
+    content         BLOB                                NOT NULL,
+    created_dat     TIMESTAMP    DEFAULT SYSTIMESTAMP   NOT NULL,
+    CONSTRAINT pk_tbom_payload_contents
+        PRIMARY KEY (content_hash),
+    CONSTRAINT ck_tbom_payload_contents_codec
+        CHECK (codec IN ('DEFLATE'))
+);
+
+COMMENT ON TABLE tbom_payload_contents IS
+    'Compressed request payloads stored once per distinct content, referenced by tbom_document_requests_blob.';
+COMMENT ON COLUMN tbom_payload_contents.content_hash IS
+    'SHA-256 of the uncompressed UTF-8 payload, lowercase hex; primary key.';
+COMMENT ON COLUMN tbom_payload_contents.codec IS
+    'Compression codec of CONTENT; DEFLATE = zlib deflate (java.util.zip.Deflater).';
+COMMENT ON COLUMN tbom_payload_contents.original_length IS
+    'Uncompressed payload length in bytes (UTF-8).';
+COMMENT ON COLUMN tbom_payload_contents.content IS
+    'Compressed payload bytes.';
+COMMENT ON COLUMN tbom_payload_contents.created_dat IS
+    'Timestamp when the content was first stored.';
+
+ALTER TABLE tbom_document_requests_blob ADD (
+    json_content_hash VARCHAR2(64) NULL,
+    xml_content_hash  VARCHAR2(64) NULL
+);
+
+ALTER TABLE tbom_document_requests_blob MODIFY (json_request NULL);
+
+ALTER TABLE tbom_document_requests_blob ADD (
+    CONSTRAINT fk_tbom_document_requests_blob_json
+        FOREIGN KEY (json_content_hash) REFERENCES tbom_payload_contents (content_hash),
+    CONSTRAINT fk_tbom_document_requests_blob_xml
+        FOREIGN KEY (xml_content_hash) REFERENCES tbom_payload_contents (content_hash),
+    CONSTRAINT ck_tbom_document_requests_blob_json
+        CHECK (json_request IS NOT NULL OR json_content_hash IS NOT NULL)
+);
+
+CREATE INDEX omdrb_01 ON tbom_document_requests_blob (json_content_hash);
+CREATE INDEX omdrb_02 ON tbom_document_requests_blob (xml_content_hash);
+
+COMMENT ON COLUMN tbom_document_requests_blob.json_request IS
+    'Request payload in JSON format; required unless stored compressed (JSON_CONTENT_HASH).';
+COMMENT ON COLUMN tbom_document_requests_blob.json_content_hash IS
+    'SHA-256 of the uncompressed JSON payload, key of its compressed content in tbom_payload_contents; JSON_REQUEST is null when set.';
+COMMENT ON COLUMN tbom_document_requests_blob.xml_content_hash IS
+    'SHA-256 of the uncompressed XML payload, key of its compressed content in tbom_payload_contents; XML_REQUEST is null when set.';
+
+-- Storage check after some traffic: compressed bytes vs. original bytes and sharing factor
+SELECT COUNT(*)                                             AS distinct_payloads,
+       SUM(original_length)                                 AS original_bytes,
+       SUM(DBMS_LOB.GETLENGTH(content))                     AS stored_bytes,
+       ROUND(SUM(DBMS_LOB.GETLENGTH(content)) / NULLIF(SUM(original_length), 0), 3) AS ratio
+FROM tbom_payload_contents;
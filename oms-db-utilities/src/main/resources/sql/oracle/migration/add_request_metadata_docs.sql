@@ -0,0 +1,15 @@
+--
+-- File: add_request_metadata_docs.sql
+-- Purpose: Enable JSON metadata storage (oms.metadata.storage=JSON) on existing schemas.
+-- Summary: Creates tbom_request_metadata_docs (one JSON document per request, keyed by METADATA_KEY id) with its JSON
+--          search index. Existing rows of tbom_requests_metadata_values are not touched; copy
+--          them with MetadataStorageMigrationService.migrateToJson, which is idempotent and resumable.
+-- Usage: 1. Run create_tbom_request_metadata_docs.sql.
+--        2. Deploy with oms.metadata.storage=ROWS and run MetadataStorageMigrationService.migrateToJson.
+--        3. Switch every service to oms.metadata.storage=JSON and run migrateToJson once more for requests written
+--           in between. The EAV rows can be purged once the switch is verified.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+@@../create_tbom_request_metadata_docs.sql
@@ -0,0 +1,22 @@
+--
+-- File: add_th_batch_leases.sql
+-- Purpose: Add the lease columns and claim index used by the Thunderhead batch work queue.
+-- Summary: Adds lease_owner / lease_expires_dat to tbom_th_batches and the function-based index omtbe_07 over pending
+--          batches (sync_status = 'N' OR event_status = 'N'). Workers claim batches with SELECT ... FOR UPDATE SKIP
+--          LOCKED through this index and lease them until lease_expires_dat. Existing rows start unleased.
+-- Usage: Run once on existing schemas BEFORE deploying services that use ThBatchWorkQueue. Adding nullable columns
+--        without a default is a dictionary-only change; the index build scans the table once (use ONLINE on large
+--        tables). New schemas created from create_tbom_th_batches.sql already contain these objects.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+ALTER TABLE tbom_th_batches ADD (
+    lease_owner       VARCHAR2(100),
+    lease_expires_dat TIMESTAMP
+);
+
+COMMENT ON COLUMN tbom_th_batches.lease_owner IS 'Worker node currently holding the claim on this batch (null when not claimed).';
+COMMENT ON COLUMN tbom_th_batches.lease_expires_dat IS 'Expiry of the current claim; the batch can be claimed again afterwards.';
+
+CREATE INDEX omtbe_07 ON tbom_th_batches (CASE WHEN sync_status = 'N' OR event_status = 'N' THEN 'Y' END, lease_expires_dat) ONLINE;
@@ -0,0 +1,49 @@
+--
+-- File: add_th_batch_retry_schedule.sql
+-- Purpose: Add retry scheduling (exponential backoff) to tbom_th_batches.
+-- Summary: Adds next_attempt_dat, sets it on insert in omtbe_01t_bir, and rebuilds the claim index omtbe_07 on the
+--          due time of pending batches (sync_status = 'N' OR event_status = 'N'). ThBatchWorkQueue only claims due
+--          batches; failed batches are rescheduled with backoff, and batches that reach the attempt cap get a null
+--          next_attempt_dat and drop out of the index.
+-- Usage: Run once on existing schemas after add_th_batch_leases.sql and BEFORE deploying services built with retry
+--        scheduling. Pending batches are backfilled as due at their creation time. New schemas created from
+--        create_tbom_th_batches.sql already contain these objects.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+ALTER TABLE tbom_th_batches ADD (next_attempt_dat TIMESTAMP);
+
+COMMENT ON COLUMN tbom_th_batches.next_attempt_dat IS 'Earliest time of the next synchronization or publishing attempt; null once retries are exhausted.';
+
+UPDATE tbom_th_batches
+SET next_attempt_dat = created_dat
+WHERE sync_status = 'N' OR event_status = 'N';
+COMMIT;
+
+DROP INDEX omtbe_07;
+CREATE INDEX omtbe_07 ON tbom_th_batches (CASE WHEN sync_status = 'N' OR event_status = 'N' THEN next_attempt_dat END, lease_expires_dat) ONLINE;
+
+CREATE OR REPLACE TRIGGER omtbe_01t_bir
+    BEFORE INSERT
+    ON tbom_th_batches
+    FOR EACH ROW
+BEGIN
+    IF :NEW.id IS NULL THEN
+        SELECT sqomthb_th_batch_id.NEXTVAL INTO :NEW.id FROM dual;
+    END IF;
+    IF :NEW.created_dat IS NULL THEN
+        :NEW.created_dat := SYSTIMESTAMP;
+    END IF;
+    :NEW.last_update_dat := SYSTIMESTAMP;
+    IF :NEW.next_attempt_dat IS NULL THEN
+        :NEW.next_attempt_dat := SYSTIMESTAMP;
+    END IF;
+    IF :NEW.create_uid_header IS NULL THEN
+        :NEW.create_uid_header := USER;
+    END IF;
+    IF :NEW.create_uid_token IS NULL THEN
+        :NEW.create_uid_token := USER;
+    END IF;
+END omtbe_01t_bir;
+/
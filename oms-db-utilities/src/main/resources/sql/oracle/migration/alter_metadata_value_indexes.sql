@@ -0,0 +1,20 @@
+--
+-- File: alter_metadata_value_indexes.sql
+-- Purpose: Replace the single-column metadata value indexes with composite indexes.
+-- Summary: omrme_01 becomes (omdrt_id, omrda_id) for bulk metadata reads per request set; omrme_02 becomes
+--          (omrda_id, metadata_value, omdrt_id) so a (metadata key, value) search is answered from the index without
+--          touching the table. Both keep their foreign key column leading, so FK locking is unaffected.
+-- Usage: Run once on existing schemas. Each index is rebuilt ONLINE; the old index is dropped only after the new one
+--        exists under a temporary name, so lookups never lose index support. New schemas created from
+--        create_tbom_requests_metadata_values.sql already contain these indexes.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+CREATE INDEX omrme_01n ON tbom_requests_metadata_values (omdrt_id, omrda_id) ONLINE;
+DROP INDEX omrme_01;
+ALTER INDEX omrme_01n RENAME TO omrme_01;
+
+CREATE INDEX omrme_02n ON tbom_requests_metadata_values (omrda_id, metadata_value, omdrt_id) ONLINE;
+DROP INDEX omrme_02;
+ALTER INDEX omrme_02n RENAME TO omrme_02;
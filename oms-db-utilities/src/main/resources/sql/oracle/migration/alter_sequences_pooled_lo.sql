@@ -0,0 +1,29 @@
+--
+-- File: alter_sequences_pooled_lo.sql
+-- Purpose: Migrate existing OMS sequences to pooled-lo id allocation.
+-- Summary: Changes every OMS primary key sequence from INCREMENT BY 1 NOCACHE to INCREMENT BY 50 CACHE 20, so that
+--          Hibernate reserves 50 ids per NEXTVAL (OmsConstants.ID_ALLOCATION_SIZE) instead of one round trip per insert.
+--          With pooled-lo each NEXTVAL value is the first id of a reserved block; the next NEXTVAL after the ALTER is
+--          last_number + 50, so already used ids are never handed out again. Inserts that still take a single NEXTVAL
+--          (triggers, add_reference_data, add_document_configuration) keep working and only leave gaps.
+-- Usage: Run once on existing schemas BEFORE deploying services built with ID_ALLOCATION_SIZE = 50. Services still
+--        running with allocationSize = 1 are unaffected by the new increment (they only leave gaps). Deploying the new
+--        services against INCREMENT BY 1 sequences would produce duplicate keys.
+--        New schemas created from the create_*.sql scripts already use these settings.
+-- Changelog:
+--   2026-10-19 - Initial version.
+--
+
+ALTER SEQUENCE sqomrda_ref_data_id INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE sqomdcn_doc_config_id INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE sqomrda_doc_request_id INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE sqomrme_metadata_value_id INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE sqomthb_th_batch_id INCREMENT BY 50 CACHE 20;
+ALTER SEQUENCE sqomedl_error_details_id INCREMENT BY 50 CACHE 20;
+
+-- Verify: every row must show INCREMENT_BY = 50
+SELECT sequence_name, increment_by, cache_size, last_number
+FROM user_sequences
+WHERE sequence_name IN ('SQOMRDA_REF_DATA_ID', 'SQOMDCN_DOC_CONFIG_ID', 'SQOMRDA_DOC_REQUEST_ID',
+                        'SQOMRME_METADATA_VALUE_ID', 'SQOMTHB_TH_BATCH_ID', 'SQOMEDL_ERROR_DETAILS_ID')
+ORDER BY sequence_name;
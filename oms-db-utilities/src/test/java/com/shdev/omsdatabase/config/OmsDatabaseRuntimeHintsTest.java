@@ -0,0 +1,120 @@
+package com.shdev.omsdatabase.config;
+
+import com.shdev.omsdatabase.dto.DocumentRequestInDto;
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto;
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.base.OmsSequenceGenerator;
+import com.shdev.omsdatabase.entity.base.TriggerTimestampGenerator;
+import com.shdev.omsdatabase.util.AuditEntityListener;
+import jakarta.persistence.Entity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OmsDatabaseRuntimeHints} verifying that all reflectively used types
+ * are registered for native images.
+ */
+@DisplayName("OmsDatabaseRuntimeHints unit tests")
+class OmsDatabaseRuntimeHintsTest {
+
+    private final RuntimeHints hints = registerHints();
+
+    /**
+     * Test: every JPA entity in the module is covered
+     * Given: All top-level classes annotated with @Entity in the entity package
+     * When: Runtime hints are registered
+     * Then: Each entity has reflection hints
+     */
+    @Test
+    @DisplayName("registerHints: covers every @Entity class")
+    void registerHints_coversAllEntities() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        // nested entities are test fixtures (GeneratedTimestampsTest), not part of the module
+        scanner.addExcludeFilter((reader, factory) -> reader.getClassMetadata().hasEnclosingClass());
+        Set<String> entities = scanner.findCandidateComponents("com.shdev.omsdatabase.entity").stream()
+                .map(BeanDefinition::getBeanClassName)
+                .collect(Collectors.toSet());
+
+        assertThat(entities).isNotEmpty();
+        assertThat(entities).allSatisfy(entity ->
+                assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(entity))).accepts(hints));
+        assertThat(RuntimeHintsPredicates.reflection().onType(DocumentRequestEntity.class)).accepts(hints);
+    }
+
+    /**
+     * Test: every DTO record in the module is covered
+     * Given: All records in the dto package, including nested ones
+     * When: Runtime hints are registered
+     * Then: Each record has reflection hints
+     */
+    @Test
+    @DisplayName("registerHints: covers every DTO record")
+    void registerHints_coversAllDtos() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(Record.class));
+        Set<String> dtos = scanner.findCandidateComponents("com.shdev.omsdatabase.dto").stream()
+                .map(BeanDefinition::getBeanClassName)
+                .collect(Collectors.toSet());
+
+        assertThat(dtos).contains(DocumentRequestIngestDto.class.getName(), MetadataCondition.class.getName());
+        assertThat(dtos).allSatisfy(dto ->
+                assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(dto))).accepts(hints));
+    }
+
+    /**
+     * Test: listener, DTO and deserializer hints are registered
+     * Given: The registered hints
+     * When: Predicates are evaluated
+     * Then: AuditEntityListener, the region factory, DTO records and the flexible deserializer are covered
+     */
+    @Test
+    @DisplayName("registerHints: covers listener, DTOs and custom deserializer")
+    void registerHints_coversListenerDtosAndDeserializer() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(AuditEntityListener.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("org.hibernate.cache.jcache.internal.JCacheRegionFactory"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(OmsSequenceGenerator.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TriggerTimestampGenerator.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(DocumentRequestInDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of(OmsDatabaseRuntimeHints.FLEXIBLE_OFFSET_DATE_TIME_DESERIALIZER))).accepts(hints);
+    }
+
+    /**
+     * Test: name-based type references resolve to real classes
+     * Given: The MapStruct mapper interfaces and the nested deserializer name
+     * When: The referenced implementation classes are loaded
+     * Then: Every generated mapper implementation and the deserializer exist
+     */
+    @Test
+    @DisplayName("registerHints: name-based references resolve to existing classes")
+    void registerHints_nameReferencesResolve() throws ClassNotFoundException {
+        ClassLoader classLoader = getClass().getClassLoader();
+        for (Class<?> mapperType : OmsDatabaseRuntimeHints.MAPPER_TYPES) {
+            Class<?> impl = Class.forName(mapperType.getName() + "Impl", false, classLoader);
+            assertThat(RuntimeHintsPredicates.reflection().onType(impl)).accepts(hints);
+        }
+        assertThat(Class.forName(OmsDatabaseRuntimeHints.FLEXIBLE_OFFSET_DATE_TIME_DESERIALIZER, false, classLoader))
+                .isNotNull();
+    }
+
+    private static RuntimeHints registerHints() {
+        RuntimeHints runtimeHints = new RuntimeHints();
+        new OmsDatabaseRuntimeHints().registerHints(runtimeHints, OmsDatabaseRuntimeHintsTest.class.getClassLoader());
+        return runtimeHints;
+    }
+}
@@ -0,0 +1,166 @@
+package com.shdev.omsdatabase.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.shdev.omsdatabase.constants.OmsConstants;
+import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import com.shdev.omsdatabase.entity.ThBatchEntity;
+import com.shdev.omsdatabase.repository.OfflineSessionFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SecondLevelCacheConfig} and {@link ReadMostlyCacheInvalidator} over the
+ * offline session factory with JCache regions on Caffeine.
+ */
+@DisplayName("SecondLevelCacheConfig unit tests")
+class SecondLevelCacheConfigTest {
+
+    /**
+     * Test: only the read-mostly entities get a region, sized by the properties
+     * Given: A session factory on the OMS cache manager with 5 entries per region and 3 for reference data
+     * When: Entries beyond the limits are put into both entity regions
+     * Then: Reference data and document configuration are cached, Thunderhead batches are not,
+     * and each region keeps its configured number of entries
+     */
+    @Test
+    @DisplayName("createCacheManager: bounds entity regions per properties")
+    void regions_boundedPerProperties() {
+        SecondLevelCacheProperties properties = new SecondLevelCacheProperties();
+        properties.setMaxEntries(5);
+        properties.getRegionMaxEntries().put(OmsConstants.CACHE_REGION_REFERENCE_DATA, 3);
+        CacheManager cacheManager = SecondLevelCacheConfig.createCacheManager(properties);
+
+        try (SessionFactory sessionFactory = buildCached(cacheManager)) {
+            var factory = (SessionFactoryImplementor) sessionFactory;
+            fill(factory, OmsConstants.CACHE_REGION_REFERENCE_DATA, 10);
+            fill(factory, OmsConstants.CACHE_REGION_DOCUMENT_CONFIG, 10);
+
+            assertThat(persister(factory, ReferenceDataEntity.class).canReadFromCache()).isTrue();
+            assertThat(persister(factory, DocumentConfigEntity.class).canReadFromCache()).isTrue();
+            assertThat(persister(factory, ThBatchEntity.class).canReadFromCache()).isFalse();
+            assertThat(size(cacheManager, OmsConstants.CACHE_REGION_REFERENCE_DATA)).isEqualTo(3);
+            assertThat(size(cacheManager, OmsConstants.CACHE_REGION_DOCUMENT_CONFIG)).isEqualTo(5);
+            assertThat(cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)).isNotNull();
+        }
+        assertThat(cacheManager.isClosed()).isTrue();
+    }
+
+    /**
+     * Test: a committed update of reference data clears the whole reference data region
+     * Given: Both entity regions holding entries
+     * When: The invalidator handles a post-commit update of a reference data row
+     * Then: The reference data region is empty, the document configuration region is untouched
+     */
+    @Test
+    @DisplayName("ReadMostlyCacheInvalidator: evicts the region of the updated entity")
+    void invalidator_evictsRegion() {
+        CacheManager cacheManager = SecondLevelCacheConfig.createCacheManager(new SecondLevelCacheProperties());
+
+        try (SessionFactory sessionFactory = buildCached(cacheManager)) {
+            var factory = (SessionFactoryImplementor) sessionFactory;
+            fill(factory, OmsConstants.CACHE_REGION_REFERENCE_DATA, 2);
+            fill(factory, OmsConstants.CACHE_REGION_DOCUMENT_CONFIG, 2);
+            var invalidator = new ReadMostlyCacheInvalidator();
+            PostUpdateEvent event = mock(PostUpdateEvent.class);
+            when(event.getPersister()).thenReturn(persister(factory, ReferenceDataEntity.class));
+
+            assertThat(invalidator.requiresPostCommitHandling(event.getPersister())).isTrue();
+            assertThat(invalidator.requiresPostCommitHandling(persister(factory, ThBatchEntity.class))).isFalse();
+            invalidator.onPostUpdate(event);
+
+            assertThat(size(cacheManager, OmsConstants.CACHE_REGION_REFERENCE_DATA)).isZero();
+            assertThat(size(cacheManager, OmsConstants.CACHE_REGION_DOCUMENT_CONFIG)).isEqualTo(2);
+        }
+    }
+
+    /**
+     * Test: the customizer keeps the host's integrators
+     * Given: Hibernate properties with a host integrator provider
+     * When: The OMS cache customizer is applied
+     * Then: The JCache region factory is selected and the provider returns the host integrator and the invalidator
+     */
+    @Test
+    @DisplayName("omsSecondLevelCacheCustomizer: adds the invalidator to the host integrator provider")
+    void customizer_keepsHostIntegrators() {
+        Integrator hostIntegrator = mock(Integrator.class);
+        Map<String, Object> hibernateProperties = new HashMap<>();
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(hostIntegrator));
+
+        new SecondLevelCacheConfig().omsSecondLevelCacheCustomizer(new SecondLevelCacheProperties())
+                .customize(hibernateProperties);
+
+        assertThat(hibernateProperties).containsEntry(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+        assertThat(((IntegratorProvider) hibernateProperties.get(JpaSettings.INTEGRATOR_PROVIDER)).getIntegrators())
+                .hasSize(2)
+                .startsWith(hostIntegrator)
+                .last().isInstanceOf(ReadMostlyCacheInvalidator.class);
+        ((CacheManager) hibernateProperties.get(ConfigSettings.CACHE_MANAGER)).close();
+    }
+
+    /**
+     * Test: a host region factory is left alone
+     * Given: Hibernate properties naming another region factory
+     * When: The OMS cache customizer is applied
+     * Then: The region factory is unchanged and no OMS cache manager is created
+     */
+    @Test
+    @DisplayName("omsSecondLevelCacheCustomizer: keeps a host region factory")
+    void customizer_keepsHostRegionFactory() {
+        Map<String, Object> hibernateProperties = new HashMap<>();
+        hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "host.RegionFactory");
+
+        new SecondLevelCacheConfig().omsSecondLevelCacheCustomizer(new SecondLevelCacheProperties())
+                .customize(hibernateProperties);
+
+        assertThat(hibernateProperties).containsEntry(AvailableSettings.CACHE_REGION_FACTORY, "host.RegionFactory")
+                .doesNotContainKey(ConfigSettings.CACHE_MANAGER);
+    }
+
+    private static SessionFactory buildCached(CacheManager cacheManager) {
+        return OfflineSessionFactory.build(Map.of(
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, "true",
+                AvailableSettings.USE_QUERY_CACHE, "true",
+                AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE",
+                AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME,
+                ConfigSettings.CACHE_MANAGER, cacheManager));
+    }
+
+    private static void fill(SessionFactoryImplementor factory, String regionName, int entries) {
+        var region = (DomainDataRegionTemplate) factory.getCache().getRegion(regionName);
+        for (int i = 0; i < entries; i++) {
+            region.getCacheStorageAccess().putIntoCache(i, "entry-" + i, null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long size(CacheManager cacheManager, String regionName) {
+        Cache<Object, Object> cache = cacheManager.getCache(regionName).unwrap(Cache.class);
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static EntityPersister persister(SessionFactoryImplementor factory, Class<?> entityClass) {
+        return factory.getMappingMetamodel().getEntityDescriptor(entityClass);
+    }
+}
@@ -0,0 +1,87 @@
+package com.shdev.omsdatabase.entity;
+
+import com.shdev.omsdatabase.dto.DocumentContentDto;
+import com.shdev.omsdatabase.util.PayloadCompression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link DocumentRequestBlobEntity} and the {@link DocumentContentDto} projection
+ * verifying payload access for both storage layouts.
+ */
+@DisplayName("DocumentRequestBlobEntity unit tests")
+class DocumentRequestBlobEntityTest {
+
+    private static final String JSON = "{\"policy\":\"P-1\"}";
+
+    /**
+     * Test: CLOB payloads are returned as stored
+     * Given: An entity with a JSON payload and no XML payload in the CLOB columns
+     * When: The payload getters are called
+     * Then: Returns the JSON payload and null for XML
+     */
+    @Test
+    @DisplayName("getJsonRequest/getXmlRequest: return CLOB payloads")
+    void getters_clobPayloads() {
+        DocumentRequestBlobEntity entity = DocumentRequestBlobEntity.builder().id(1L).jsonRequest("{}").build();
+
+        assertThat(entity.getJsonRequest()).isEqualTo("{}");
+        assertThat(entity.getXmlRequest()).isNull();
+    }
+
+    /**
+     * Test: compressed payloads are inflated transparently
+     * Given: An entity whose JSON payload is stored compressed (content hash set, CLOB null) with its content loaded
+     * When: getJsonRequest is called
+     * Then: Returns the original JSON payload
+     */
+    @Test
+    @DisplayName("getJsonRequest: inflates a compressed payload")
+    void getJsonRequest_compressed_inflates() {
+        PayloadCompression.Compressed compressed = PayloadCompression.compress(JSON, 6);
+        DocumentRequestBlobEntity entity = DocumentRequestBlobEntity.builder()
+                .id(1L)
+                .jsonContentHash(compressed.hash())
+                .jsonContent(new PayloadContentEntity(compressed.hash(), PayloadCompression.CODEC_DEFLATE,
+                        compressed.originalLength(), compressed.data()))
+                .build();
+
+        assertThat(entity.getJsonRequest()).isEqualTo(JSON);
+        assertThat(entity.getXmlRequest()).isNull();
+    }
+
+    /**
+     * Test: a content hash without its loaded content is not read as null
+     * Given: A new entity with a content hash set but no content association
+     * When: getJsonRequest is called
+     * Then: IllegalStateException names the hash
+     */
+    @Test
+    @DisplayName("getJsonRequest: fails when the compressed content is not loaded")
+    void getJsonRequest_contentNotLoaded_fails() {
+        DocumentRequestBlobEntity entity = DocumentRequestBlobEntity.builder().id(1L).jsonContentHash("ab12").build();
+
+        assertThatThrownBy(entity::getJsonRequest)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ab12");
+    }
+
+    /**
+     * Test: the repository projection constructor reads both layouts
+     * Given: A CLOB row and a compressed row as selected by the find...ContentById projections
+     * When: The DTOs are constructed
+     * Then: Both carry the plain payload
+     */
+    @Test
+    @DisplayName("DocumentContentDto: projection inflates compressed content")
+    void contentDto_projection_bothLayouts() {
+        PayloadCompression.Compressed compressed = PayloadCompression.compress(JSON, 6);
+
+        assertThat(new DocumentContentDto(1L, "JSON", JSON, null).content()).isEqualTo(JSON);
+        assertThat(new DocumentContentDto(2L, "JSON", null, compressed.data()).content()).isEqualTo(JSON);
+        assertThat(new DocumentContentDto(3L, "XML", null, null).content()).isNull();
+    }
+}
@@ -0,0 +1,179 @@
+package com.shdev.omsdatabase.entity;
+
+import com.shdev.omsdatabase.entity.base.ReadBackTimestamps;
+import com.shdev.omsdatabase.entity.base.TimestampedEntity;
+import com.shdev.omsdatabase.repository.OfflineSessionFactory;
+import com.shdev.omsdatabase.repository.StubJdbcConnectionProvider;
+import com.shdev.omsdatabase.util.QueryBudget;
+import com.shdev.omsdatabase.util.QueryCountInspector;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
+import org.hibernate.metamodel.mapping.ModelPart;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests verifying that trigger-set timestamps are read back by the statement that writes the row
+ * only for {@link ReadBackTimestamps} entities, and that the other timestamped entities keep JDBC batching.
+ */
+@DisplayName("Generated timestamps unit tests")
+class GeneratedTimestampsTest {
+
+    private static final List<Class<?>> BATCHABLE_ENTITIES = List.of(
+            DocumentConfigEntity.class,
+            ReferenceDataEntity.class,
+            ThBatchEntity.class
+    );
+
+    private static final int ROWS = 10;
+
+    /**
+     * Test: the insert of a read-back entity returns both timestamps
+     * Given: The offline session factory with the Oracle dialect
+     * When: The persister of DocumentRequestEntity is inspected
+     * Then: createdDat and lastUpdateDat are insert-generated and read through getGeneratedKeys
+     */
+    @Test
+    @DisplayName("insert: returns createdDat and lastUpdateDat in the same statement")
+    void insert_returnsTimestamps() {
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build()) {
+            EntityPersister persister = persister(sessionFactory, DocumentRequestEntity.class);
+
+            assertThat(names(persister.getInsertGeneratedProperties()))
+                    .containsExactlyInAnyOrder("createdDat", "lastUpdateDat");
+            assertThat(persister.getInsertDelegate()).isInstanceOf(GetGeneratedKeysDelegate.class);
+        }
+    }
+
+    /**
+     * Test: the update of a read-back entity returns the last update timestamp only
+     * Given: The offline session factory with the Oracle dialect
+     * When: The persister of DocumentRequestEntity is inspected
+     * Then: Only lastUpdateDat is update-generated and it is read through getGeneratedKeys
+     */
+    @Test
+    @DisplayName("update: returns lastUpdateDat in the same statement")
+    void update_returnsLastUpdateDat() {
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build()) {
+            EntityPersister persister = persister(sessionFactory, DocumentRequestEntity.class);
+
+            assertThat(names(persister.getUpdateGeneratedProperties())).containsExactly("lastUpdateDat");
+            assertThat(persister.getUpdateDelegate()).isInstanceOf(GetGeneratedKeysDelegate.class);
+        }
+    }
+
+    /**
+     * Test: entities without the opt-in do not read timestamps back
+     * Given: The offline session factory with the Oracle dialect
+     * When: The persisters of the other timestamped entities are inspected
+     * Then: No attribute is insert- or update-generated and no getGeneratedKeys delegate is used
+     */
+    @Test
+    @DisplayName("insert/update: other timestamped entities have no generated timestamps")
+    void withoutOptIn_noGeneratedTimestamps() {
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build()) {
+            for (Class<?> entity : BATCHABLE_ENTITIES) {
+                EntityPersister persister = persister(sessionFactory, entity);
+
+                assertThat(persister.getInsertGeneratedProperties()).as(entity.getSimpleName()).isEmpty();
+                assertThat(persister.getUpdateGeneratedProperties()).as(entity.getSimpleName()).isEmpty();
+                assertThat(persister.getInsertDelegate()).as(entity.getSimpleName()).isNull();
+                assertThat(persister.getUpdateDelegate()).as(entity.getSimpleName()).isNull();
+            }
+        }
+    }
+
+    /**
+     * Test: inserts of a timestamped entity are JDBC-batched unless it reads its timestamps back
+     * Given: A session factory with hibernate.jdbc.batch_size=50 over a stub connection, and two
+     * timestamped entities without @DynamicInsert, one of them with {@link ReadBackTimestamps}
+     * When: 10 rows of each are persisted and flushed
+     * Then: The plain entity prepares its INSERT once for the batch; the read-back entity once per row
+     */
+    @Test
+    @DisplayName("insert: timestamped entities batch unless they read timestamps back")
+    void insert_batchedWithoutReadBack() {
+        var registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.OracleDialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.connection.provider_class", new StubJdbcConnectionProvider())
+                .applySetting("hibernate.session_factory.statement_inspector", QueryCountInspector.class.getName())
+                .applySetting("hibernate.jdbc.batch_size", "50")
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(BatchedRow.class)
+                .addAnnotatedClass(ReadBackRow.class)
+                .buildMetadata()
+                .buildSessionFactory()) {
+
+            persistRows(sessionFactory, 1, BatchedRow::new);
+            persistRows(sessionFactory, ROWS, ReadBackRow::new);
+        }
+    }
+
+    private static void persistRows(SessionFactory sessionFactory, int maxStatements, LongFunction<Object> row) {
+        sessionFactory.inTransaction(session -> QueryBudget.assertAtMost(maxStatements, () -> {
+            for (long id = 1; id <= ROWS; id++) {
+                session.persist(row.apply(id));
+            }
+            session.flush();
+        }));
+    }
+
+    private static EntityPersister persister(SessionFactory sessionFactory, Class<?> entity) {
+        return sessionFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel().getEntityDescriptor(entity);
+    }
+
+    private static List<String> names(List<? extends ModelPart> attributes) {
+        return attributes.stream().map(ModelPart::getPartName).toList();
+    }
+
+    /**
+     * Timestamped entity with a static INSERT, as JDBC batching requires.
+     */
+    @Entity
+    @Table(name = "TEST_BATCHED_ROWS")
+    public static class BatchedRow extends TimestampedEntity {
+
+        @Id
+        private Long id;
+
+        protected BatchedRow() {
+        }
+
+        BatchedRow(long id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * Same shape as {@link BatchedRow}, but reading its timestamps back.
+     */
+    @Entity
+    @ReadBackTimestamps
+    @Table(name = "TEST_READ_BACK_ROWS")
+    public static class ReadBackRow extends TimestampedEntity {
+
+        @Id
+        private Long id;
+
+        protected ReadBackRow() {
+        }
+
+        ReadBackRow(long id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.shdev.omsdatabase.entity;
+
+import com.shdev.omsdatabase.constants.OmsConstants;
+import com.shdev.omsdatabase.entity.base.OmsSequence;
+import com.shdev.omsdatabase.repository.OfflineSessionFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests verifying that entity sequence allocation and the Oracle DDL agree.
+ */
+@DisplayName("Sequence allocation unit tests")
+class SequenceAllocationTest {
+
+    private static final List<Class<?>> SEQUENCE_ENTITIES = List.of(
+            DocumentConfigEntity.class,
+            DocumentRequestEntity.class,
+            ErrorDetailEntity.class,
+            ReferenceDataEntity.class,
+            RequestsMetadataValueEntity.class,
+            ThBatchEntity.class
+    );
+
+    /**
+     * Test: every sequence generator uses the shared allocation size
+     * Given: All sequence-generated entities
+     * When: The @OmsSequence on the id field is inspected
+     * Then: allocationSize equals OmsConstants.ID_ALLOCATION_SIZE
+     */
+    @Test
+    @DisplayName("@OmsSequence: allocationSize matches ID_ALLOCATION_SIZE")
+    void sequenceGenerators_useSharedAllocationSize() throws NoSuchFieldException {
+        for (Class<?> entity : SEQUENCE_ENTITIES) {
+            Field id = entity.getDeclaredField("id");
+            OmsSequence sequence = id.getAnnotation(OmsSequence.class);
+            assertThat(sequence).as(entity.getSimpleName()).isNotNull();
+            assertThat(sequence.allocationSize()).as(entity.getSimpleName()).isEqualTo(OmsConstants.ID_ALLOCATION_SIZE);
+        }
+    }
+
+    /**
+     * Test: OMS sequences use pooled-lo without a global optimizer setting
+     * Given: The offline session factory without hibernate.id.optimizer.pooled.preferred
+     * When: The id generator of every sequence-generated entity is inspected
+     * Then: It uses the annotated sequence, the pooled-lo optimizer and the shared increment
+     */
+    @Test
+    @DisplayName("@OmsSequence: pooled-lo optimizer scoped to OMS entities")
+    void sequenceGenerators_usePooledLo() throws NoSuchFieldException {
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build()) {
+            for (Class<?> entity : SEQUENCE_ENTITIES) {
+                SequenceStyleGenerator generator = (SequenceStyleGenerator) sessionFactory
+                        .unwrap(SessionFactoryImplementor.class).getMappingMetamodel()
+                        .getEntityDescriptor(entity).getGenerator();
+
+                assertThat(generator.getDatabaseStructure().getPhysicalName().render()).as(entity.getSimpleName())
+                        .isEqualTo(entity.getDeclaredField("id").getAnnotation(OmsSequence.class).name());
+                assertThat(generator.getOptimizer()).as(entity.getSimpleName()).isInstanceOf(PooledLoOptimizer.class);
+                assertThat(generator.getOptimizer().getIncrementSize()).as(entity.getSimpleName())
+                        .isEqualTo(OmsConstants.ID_ALLOCATION_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Test: DDL sequences increment by the allocation size
+     * Given: The create_*.sql scripts
+     * When: The CREATE SEQUENCE statements are read
+     * Then: Each one uses INCREMENT BY ID_ALLOCATION_SIZE
+     */
+    @Test
+    @DisplayName("create_*.sql: sequences INCREMENT BY ID_ALLOCATION_SIZE")
+    void ddlSequences_incrementByAllocationSize() throws IOException {
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:sql/oracle/create_*.sql");
+        int sequences = 0;
+        for (Resource script : scripts) {
+            String sql = script.getContentAsString(StandardCharsets.UTF_8);
+            if (sql.contains("CREATE SEQUENCE")) {
+                sequences++;
+                assertThat(sql).as(script.getFilename())
+                        .contains("INCREMENT BY " + OmsConstants.ID_ALLOCATION_SIZE)
+                        .doesNotContain("INCREMENT BY 1\n");
+            }
+        }
+        assertThat(sequences).isEqualTo(SEQUENCE_ENTITIES.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link JsonMetadataStore} verifying document writes and the search condition.
+ */
+@DisplayName("JsonMetadataStore unit tests")
+class JsonMetadataStoreTest {
+
+    /**
+     * Test: one document row per request with metadata
+     * Given: Two requests, one without metadata
+     * When: insertAll and replaceAll are called
+     * Then: One INSERT row and one MERGE row are batched for the request with metadata
+     */
+    @Test
+    @DisplayName("insertAll/replaceAll: one JSON document per request")
+    @SuppressWarnings("unchecked")
+    void write_documents() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        JsonMetadataStore store = new JsonMetadataStore(jdbcTemplate, mock(ReferenceDataEntityRepository.class));
+        Map<Long, List<MetadataEntry>> metadata = new LinkedHashMap<>();
+        metadata.put(100L, List.of(new MetadataEntry(12L, "POL-1")));
+        metadata.put(101L, List.of());
+
+        store.insertAll(metadata);
+        assertThat(store.replaceAll(metadata)).isEqualTo(1);
+
+        ArgumentCaptor<List<Object[]>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(JsonMetadataStore.INSERT_DOCUMENT), inserts.capture());
+        assertThat(inserts.getValue()).hasSize(1);
+        assertThat(inserts.getValue().getFirst()[0]).isEqualTo(100L);
+        assertThat(((SqlParameterValue) inserts.getValue().getFirst()[1]).getValue()).isEqualTo("{\"12\":\"POL-1\"}");
+        ArgumentCaptor<List<Object[]>> merges = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(JsonMetadataStore.MERGE_DOCUMENT), merges.capture());
+        assertThat(merges.getValue().getFirst()).hasSize(3);
+    }
+
+    /**
+     * Test: the search condition matches single values and array elements through one bind
+     * Given: Metadata key 12
+     * When: The search condition is built
+     * Then: It is a JSON_EXISTS filter on key 12 passing :value as the only named parameter, so repeated
+     * keys stored as an array match as well
+     */
+    @Test
+    @DisplayName("searchCondition: JSON_EXISTS filter binds the value once")
+    void searchCondition_matchesArrays() {
+        String condition = JsonMetadataStore.searchCondition(12L);
+
+        assertThat(condition).isEqualTo("JSON_EXISTS(metadata, '$.\"12\"?(@ == $v)' PASSING :value AS \"v\")");
+        assertThat(NamedParameterUtils.parseSqlStatementIntoString(condition))
+                .isEqualTo("JSON_EXISTS(metadata, '$.\"12\"?(@ == $v)' PASSING ? AS \"v\")");
+    }
+
+    /**
+     * Test: the searched column is covered by a JSON search index
+     * Given: create_tbom_request_metadata_docs.sql
+     * When: The script is read
+     * Then: It creates the JSON search index omrmd_01 on the metadata column
+     */
+    @Test
+    @DisplayName("searchCondition: the metadata column has a JSON search index")
+    void searchIndex_inDdl() throws IOException {
+        String ddl;
+        try (InputStream in = getClass().getResourceAsStream("/sql/oracle/create_tbom_request_metadata_docs.sql")) {
+            assertThat(in).isNotNull();
+            ddl = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertThat(ddl).contains("CREATE SEARCH INDEX omrmd_01 ON tbom_request_metadata_docs (metadata) FOR JSON");
+    }
+}
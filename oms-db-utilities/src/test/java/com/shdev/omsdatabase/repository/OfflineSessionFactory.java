@@ -0,0 +1,86 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.entity.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import java.sql.Connection;
+import java.util.Map;
+
+/**
+ * Hibernate session factory over the OMS entity model without a database (Oracle dialect, no JDBC
+ * metadata access). Queries can be created and semantically checked, but not executed.
+ */
+public final class OfflineSessionFactory {
+
+    private OfflineSessionFactory() {
+    }
+
+    /**
+     * Build a session factory for all OMS entities; the caller closes it.
+     *
+     * @return the offline session factory
+     */
+    public static SessionFactory build() {
+        return build(Map.of());
+    }
+
+    /**
+     * Build a session factory for all OMS entities with additional Hibernate settings; the caller closes it.
+     *
+     * @param settings additional settings, e.g. second-level cache configuration
+     * @return the offline session factory
+     */
+    public static SessionFactory build(Map<String, Object> settings) {
+        var registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.dialect", "org.hibernate.dialect.OracleDialect")
+                .applySetting("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .applySetting("hibernate.connection.provider_class", NoConnectionProvider.class.getName())
+                .applySettings(settings)
+                .build();
+        return new MetadataSources(registry)
+                .addAnnotatedClass(ReferenceDataEntity.class)
+                .addAnnotatedClass(DocumentConfigEntity.class)
+                .addAnnotatedClass(DocumentRequestEntity.class)
+                .addAnnotatedClass(DocumentRequestBlobEntity.class)
+                .addAnnotatedClass(PayloadContentEntity.class)
+                .addAnnotatedClass(RequestsMetadataValueEntity.class)
+                .addAnnotatedClass(ThBatchEntity.class)
+                .addAnnotatedClass(ErrorDetailEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    /**
+     * Connection provider for the offline session factory; queries are only interpreted, never executed.
+     */
+    public static class NoConnectionProvider implements ConnectionProvider {
+
+        @Override
+        public Connection getConnection() {
+            throw new UnsupportedOperationException("No database in unit tests");
+        }
+
+        @Override
+        public void closeConnection(Connection connection) {
+            // nothing to close
+        }
+
+        @Override
+        public boolean supportsAggressiveRelease() {
+            return false;
+        }
+
+        @Override
+        public boolean isUnwrappableAs(Class<?> unwrapType) {
+            return false;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> unwrapType) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
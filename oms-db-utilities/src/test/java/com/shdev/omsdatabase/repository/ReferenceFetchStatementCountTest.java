@@ -0,0 +1,122 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.constants.OmsConstants;
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.mapper.DocumentRequestMapper;
+import com.shdev.omsdatabase.mapper.MapperTestConfig;
+import com.shdev.omsdatabase.util.QueryBudget;
+import com.shdev.omsdatabase.util.QueryCountInspector;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.SpecHints;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests counting the statements needed to map document requests to DTOs. Queries run against a
+ * {@link StubJdbcConnectionProvider} and are counted by {@link QueryCountInspector}, so the entity graph
+ * and {@code @BatchSize} on the reference data associations are checked without a database.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = MapperTestConfig.class)
+@DisplayName("Reference fetch statement count unit tests")
+class ReferenceFetchStatementCountTest {
+
+    private static final int REQUESTS = 120;
+
+    private static final List<Long> IDS = LongStream.rangeClosed(1, REQUESTS).boxed().toList();
+
+    private static final String BY_IDS = "from DocumentRequestEntity r where r.id in :ids";
+
+    private static SessionFactory sessionFactory;
+
+    @Autowired
+    private DocumentRequestMapper mapper;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        sessionFactory = OfflineSessionFactory.build(Map.of(
+                "hibernate.connection.provider_class", new StubJdbcConnectionProvider(),
+                "hibernate.session_factory.statement_inspector", QueryCountInspector.class.getName()));
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Test: the reference entity graph maps a list of requests with a single statement
+     * Given: 120 document requests loaded with {@link DocumentRequestEntity#GRAPH_REFERENCES}
+     * When: Every request is mapped with toDto
+     * Then: Only the query itself is executed and all reference values are populated
+     */
+    @Test
+    @DisplayName("toDto: entity graph maps all requests with one statement")
+    void toDto_entityGraph_singleStatement() {
+        List<DocumentRequestOutDto> dtos = sessionFactory.fromTransaction(session ->
+                QueryBudget.assertAtMost(1, () -> session.createSelectionQuery(BY_IDS, DocumentRequestEntity.class)
+                        .setParameter("ids", IDS)
+                        .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, session.getEntityGraph(DocumentRequestEntity.GRAPH_REFERENCES))
+                        .getResultList()
+                        .stream()
+                        .map(mapper::toDto)
+                        .toList()));
+
+        assertThat(dtos).hasSize(REQUESTS);
+        assertThat(dtos.get(0).documentStatus().refDataValue()).isEqualTo("V1");
+    }
+
+    /**
+     * Test: lazy references are initialized in batches instead of one select per request
+     * Given: 120 document requests loaded without an entity graph
+     * When: Every request is mapped with toDto
+     * Then: The references are loaded with one statement per {@link OmsConstants#FETCH_BATCH_SIZE} IDs
+     */
+    @Test
+    @DisplayName("toDto: lazy references load in batches of FETCH_BATCH_SIZE")
+    void toDto_lazyReferences_batched() {
+        int batches = (REQUESTS + OmsConstants.FETCH_BATCH_SIZE - 1) / OmsConstants.FETCH_BATCH_SIZE;
+
+        List<DocumentRequestOutDto> dtos = sessionFactory.fromTransaction(session ->
+                QueryBudget.assertAtMost(1 + batches, () -> session.createSelectionQuery(BY_IDS, DocumentRequestEntity.class)
+                        .setParameter("ids", IDS)
+                        .getResultList()
+                        .stream()
+                        .map(mapper::toDto)
+                        .toList()));
+
+        assertThat(dtos).hasSize(REQUESTS);
+    }
+
+    /**
+     * Test: the budget detects lazy loading when the entity graph is missing
+     * Given: Document requests loaded without an entity graph
+     * When: They are mapped within a budget of one statement
+     * Then: AssertionError lists the reference data selects
+     */
+    @Test
+    @DisplayName("toDto: budget of one fails without the entity graph")
+    void toDto_withoutEntityGraph_exceedsBudget() {
+        assertThatThrownBy(() -> sessionFactory.inTransaction(session ->
+                QueryBudget.assertAtMost(1, () -> session.createSelectionQuery(BY_IDS, DocumentRequestEntity.class)
+                        .setParameter("ids", IDS)
+                        .getResultList()
+                        .forEach(mapper::toDto))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("from TBOM_REFERENCE_DATA");
+    }
+}
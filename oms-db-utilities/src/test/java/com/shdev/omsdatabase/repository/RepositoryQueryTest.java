@@ -0,0 +1,120 @@
+package com.shdev.omsdatabase.repository;
+
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import com.shdev.omsdatabase.dto.ThBatchOutDto;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.lang.reflect.Method;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for repository JPQL. Every {@link Query} is parsed and semantically checked against
+ * the entity model by an {@link OfflineSessionFactory}, including constructor resolution of DTO projections.
+ */
+@DisplayName("Repository query unit tests")
+class RepositoryQueryTest {
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            DocumentConfigEntityRepository.class,
+            DocumentRequestBlobEntityRepository.class,
+            DocumentRequestEntityRepository.class,
+            ErrorDetailEntityRepository.class,
+            ReferenceDataEntityRepository.class,
+            RequestsMetadataValueEntityRepository.class,
+            ThBatchEntityRepository.class);
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void buildSessionFactory() {
+        sessionFactory = OfflineSessionFactory.build();
+    }
+
+    @AfterAll
+    static void closeSessionFactory() {
+        sessionFactory.close();
+    }
+
+    /**
+     * Test: all repository queries are valid JPQL for the entity model
+     * Given: All @Query methods of the OMS repositories (native queries excluded)
+     * When: Each query and count query is interpreted by Hibernate
+     * Then: No query fails semantic analysis
+     */
+    @Test
+    @DisplayName("@Query: all JPQL queries resolve against the entity model")
+    void allQueriesResolve() {
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+        try (Session session = sessionFactory.openSession()) {
+            for (Class<?> repository : REPOSITORIES) {
+                for (Method method : repository.getDeclaredMethods()) {
+                    Query query = method.getAnnotation(Query.class);
+                    if (query == null || query.nativeQuery()) {
+                        continue;
+                    }
+                    boolean modifying = method.isAnnotationPresent(Modifying.class);
+                    checked += check(session, query.value(), modifying, repository, method, failures);
+                    if (!query.countQuery().isEmpty()) {
+                        checked += check(session, query.countQuery(), false, repository, method, failures);
+                    }
+                }
+            }
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(checked).isGreaterThan(0);
+    }
+
+    /**
+     * Test: flat projection constructors build the nested reference DTOs
+     * Given: Flat id/value/description columns as selected by the DTO queries
+     * When: The projection constructors are called
+     * Then: The nested ReferenceDataLiteDto values are populated in order
+     */
+    @Test
+    @DisplayName("projection constructors: nest flat reference columns")
+    void projectionConstructors() {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        DocumentRequestOutDto request = new DocumentRequestOutDto(1L,
+                10L, "SRC", "Source", 20L, "TYPE", "Type", 30L, "NAME", "Name", 40L, "NEW", "New",
+                now, now, "hdr", "tok");
+        ThBatchOutDto batch = new ThBatchOutDto(2L, 1L, 10000L, 50L, "QUEUED", "Queued",
+                "batch", null, false, true, 0L, now, now, "hdr", "tok");
+        MetadataValueOutDto metadata = new MetadataValueOutDto(3L, 1L, 60L, "POLICY_NO", "Policy", "P-1");
+
+        assertThat(request.sourceSystem()).isEqualTo(new ReferenceDataLiteDto(10L, "SRC", "Source"));
+        assertThat(request.documentStatus()).isEqualTo(new ReferenceDataLiteDto(40L, "NEW", "New"));
+        assertThat(batch.batchStatus()).isEqualTo(new ReferenceDataLiteDto(50L, "QUEUED", "Queued"));
+        assertThat(batch.eventStatus()).isTrue();
+        assertThat(metadata.metadataKey()).isEqualTo(new ReferenceDataLiteDto(60L, "POLICY_NO", "Policy"));
+    }
+
+    private static int check(Session session, String jpql, boolean modifying, Class<?> repository, Method method,
+                             List<String> failures) {
+        try {
+            if (modifying) {
+                session.createMutationQuery(jpql);
+            } else {
+                session.createSelectionQuery(jpql, Object.class);
+            }
+        } catch (RuntimeException e) {
+            failures.add(repository.getSimpleName() + "." + method.getName() + ": " + e.getMessage());
+        }
+        return 1;
+    }
+}
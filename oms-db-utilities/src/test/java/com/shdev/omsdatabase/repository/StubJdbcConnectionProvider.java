@@ -0,0 +1,159 @@
+package com.shdev.omsdatabase.repository;
+
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Connection provider answering every query with one row per bound {@code Long} parameter, so
+ * statements can be executed by an {@link OfflineSessionFactory} without a database. All numeric
+ * columns of a row, including primary and foreign keys, read as the bound ID; string columns read
+ * as {@code "V<id>"} and temporal columns as the current time. Every insert or update, single or
+ * batched, affects one row; generated keys are returned as one row of the first bound ID with the
+ * requested key columns.
+ * <p>
+ * Only meant for counting statements: the returned data has no meaning beyond consistent IDs.
+ */
+public class StubJdbcConnectionProvider implements ConnectionProvider {
+
+    @Override
+    public Connection getConnection() {
+        return proxy(Connection.class, (p, method, args) -> switch (method.getName()) {
+            case "prepareStatement" -> preparedStatement(args.length > 1 && args[1] instanceof String[] columns
+                    ? List.of(columns) : List.of());
+            case "isClosed", "isReadOnly" -> false;
+            case "getAutoCommit", "isValid" -> true;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    @Override
+    public void closeConnection(Connection connection) {
+        // nothing to close
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        throw new UnsupportedOperationException();
+    }
+
+    private static PreparedStatement preparedStatement(List<String> generatedColumns) {
+        List<Long> ids = new ArrayList<>();
+        int[] batched = {0};
+        return proxy(PreparedStatement.class, (p, method, args) -> switch (method.getName()) {
+            case "setLong", "setObject" -> {
+                if (args[1] instanceof Long id) {
+                    ids.add(id);
+                }
+                yield null;
+            }
+            case "executeQuery" -> resultSet(List.copyOf(ids), List.of());
+            case "executeUpdate" -> 1;
+            case "getGeneratedKeys" -> resultSet(ids.isEmpty() ? List.of() : List.of(ids.getFirst()), generatedColumns);
+            case "addBatch" -> {
+                batched[0]++;
+                ids.clear();
+                yield null;
+            }
+            case "executeBatch" -> {
+                int[] counts = new int[batched[0]];
+                Arrays.fill(counts, 1);
+                batched[0] = 0;
+                yield counts;
+            }
+            case "clearParameters" -> {
+                ids.clear();
+                yield null;
+            }
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private static ResultSet resultSet(List<Long> ids, List<String> columns) {
+        int[] row = {-1};
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (p, method, args) -> switch (method.getName()) {
+            case "getColumnCount" -> columns.size();
+            case "getColumnName", "getColumnLabel" -> columns.get((Integer) args[0] - 1);
+            default -> defaultValue(method.getReturnType());
+        });
+        return proxy(ResultSet.class, (p, method, args) -> switch (method.getName()) {
+            case "getMetaData" -> metaData;
+            case "findColumn" -> indexOf(columns, (String) args[0]);
+            case "next" -> ++row[0] < ids.size();
+            case "getLong", "getInt", "getShort", "getByte" -> convert(ids.get(row[0]), method.getReturnType());
+            case "getString", "getNString" -> "V" + ids.get(row[0]);
+            case "getTimestamp" -> Timestamp.from(OffsetDateTime.now().toInstant());
+            case "getObject" -> args.length > 1 && args[1] instanceof Class<?> type
+                    ? objectValue(ids.get(row[0]), type) : ids.get(row[0]);
+            case "wasNull", "isClosed" -> false;
+            default -> defaultValue(method.getReturnType());
+        });
+    }
+
+    private static int indexOf(List<String> columns, String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).equalsIgnoreCase(column)) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + column);
+    }
+
+    private static Object objectValue(Long id, Class<?> type) {
+        if (type == OffsetDateTime.class) {
+            return OffsetDateTime.now();
+        }
+        if (type == String.class) {
+            return "V" + id;
+        }
+        return convert(id, type);
+    }
+
+    private static Object convert(Long id, Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return id.intValue();
+        }
+        if (type == short.class || type == Short.class) {
+            return id.shortValue();
+        }
+        if (type == byte.class || type == Byte.class) {
+            return id.byteValue();
+        }
+        return id;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class || type == long.class || type == short.class || type == byte.class) {
+            return convert(0L, type);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubJdbcConnectionProvider.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,95 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DocumentConfigIndex} verifying prefix/wildcard resolution, ordering,
+ * best-match precedence and incremental updates.
+ */
+@DisplayName("DocumentConfigIndex unit tests")
+class DocumentConfigIndexTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-06-01T00:00:00Z");
+    private static final OffsetDateTime END = OffsetDateTime.parse("4712-12-31T00:00:00Z");
+
+    private static final DocumentConfigOutDto WILDCARD = config(1L, "F1", "*", "C1", "2025-01-01", END);
+    private static final DocumentConfigOutDto PREFIX = config(2L, "F1", "IVZ", "C1", "2025-02-01", END);
+    private static final DocumentConfigOutDto LONG_PREFIX = config(3L, "F1", "IVZREC", "C1", "2025-03-01", END);
+    private static final DocumentConfigOutDto EXACT = config(4L, "F1", "IVZRECPA", "C1", "2024-12-01", END);
+    private static final DocumentConfigOutDto EXPIRED = config(5L, "F1", "IVZRECPA", "C1", "2025-04-01",
+            OffsetDateTime.parse("2025-05-01T00:00:00Z"));
+    private static final DocumentConfigOutDto OTHER_CODE = config(6L, "F1", "IVZ", "C2", "2025-01-01", END);
+
+    private final DocumentConfigIndex index =
+            DocumentConfigIndex.of(List.of(WILDCARD, PREFIX, LONG_PREFIX, EXACT, EXPIRED, OTHER_CODE));
+
+    /**
+     * Test: resolve returns wildcard, prefix and exact matches like the LIKE CONCAT query
+     * Given: Configurations with wildcard, prefix, longer prefix, exact and expired specs
+     * When: resolve is called for a document name
+     * Then: All active matches of the (footer, code) group are returned by effectFromDat DESC
+     */
+    @Test
+    @DisplayName("resolve: returns all active matches ordered by effectFromDat descending")
+    void resolve_allMatchesOrdered() {
+        assertThat(index.resolve("F1", "IVZRECPA", "C1", NOW))
+                .containsExactly(LONG_PREFIX, PREFIX, WILDCARD, EXACT);
+        assertThat(index.resolve("F1", "POSHOOFF", "C1", NOW)).containsExactly(WILDCARD);
+        assertThat(index.resolve("F1", "IVZRECPA", "C3", NOW)).isEmpty();
+    }
+
+    /**
+     * Test: best match precedence
+     * Given: The same configurations
+     * When: resolveBestMatch is called for names with exact, prefix-only and no spec match
+     * Then: Exact wins over longest prefix, which wins over wildcard
+     */
+    @Test
+    @DisplayName("resolveBestMatch: exact, then longest prefix, then wildcard")
+    void resolveBestMatch_precedence() {
+        assertThat(index.resolveBestMatch("F1", "IVZRECPA", "C1", NOW)).contains(EXACT);
+        assertThat(index.resolveBestMatch("F1", "IVZRECXX", "C1", NOW)).contains(LONG_PREFIX);
+        assertThat(index.resolveBestMatch("F1", "IVZA", "C1", NOW)).contains(PREFIX);
+        assertThat(index.resolveBestMatch("F1", "POSHOOFF", "C1", NOW)).contains(WILDCARD);
+        assertThat(index.resolveBestMatch("F2", "IVZ", "C1", NOW)).isEmpty();
+    }
+
+    /**
+     * Test: incremental update replaces rows and moves them between groups
+     * Given: An index and a changed row that moves the exact match to another code
+     * When: withChanges is applied
+     * Then: The new index reflects the move, the original index is unchanged, untouched groups are shared
+     */
+    @Test
+    @DisplayName("withChanges: replaces rows by id without mutating the original index")
+    void withChanges_replacesRows() {
+        DocumentConfigOutDto moved = config(4L, "F1", "IVZRECPA", "C2", "2024-12-01", END);
+
+        DocumentConfigIndex updated = index.withChanges(List.of(moved));
+
+        assertThat(updated.resolveBestMatch("F1", "IVZRECPA", "C1", NOW)).contains(LONG_PREFIX);
+        assertThat(updated.resolveBestMatch("F1", "IVZRECPA", "C2", NOW)).contains(moved);
+        assertThat(updated.size()).isEqualTo(index.size());
+        assertThat(index.resolveBestMatch("F1", "IVZRECPA", "C1", NOW)).contains(EXACT);
+        assertThat(index.withChanges(List.of())).isSameAs(index);
+    }
+
+    private static DocumentConfigOutDto config(Long id, String footer, String spec, String code,
+                                               String effectFrom, OffsetDateTime effectTo) {
+        return new DocumentConfigOutDto(id,
+                new ReferenceDataLiteDto(10L, footer, null),
+                new ReferenceDataLiteDto(20L, spec, null),
+                new ReferenceDataLiteDto(30L, code, null),
+                "VAL" + id, null,
+                OffsetDateTime.parse(effectFrom + "T00:00:00Z"), effectTo,
+                null, null, null, null);
+    }
+}
@@ -0,0 +1,109 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentConfigLookupKey;
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import com.shdev.omsdatabase.mapper.DocumentConfigurationMapper;
+import com.shdev.omsdatabase.mapper.MapperTestConfig;
+import com.shdev.omsdatabase.repository.DocumentConfigEntityRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DocumentConfigLookupService} verifying set-based multi-key lookup.
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = MapperTestConfig.class)
+@DisplayName("DocumentConfigLookupService unit tests")
+class DocumentConfigLookupServiceTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-06-01T00:00:00Z");
+
+    @Autowired
+    private DocumentConfigurationMapper mapper;
+
+    /**
+     * Test: keys are resolved from one candidate query
+     * Given: Three keys sharing footers/codes and candidate configurations for them
+     * When: findActive is called
+     * Then: One query is issued and each key gets its prefix/wildcard matches in effectFromDat DESC order
+     */
+    @Test
+    @DisplayName("findActive: resolves all keys with a single set-based query")
+    void findActive_singleQuery() {
+        DocumentConfigEntityRepository repository = mock(DocumentConfigEntityRepository.class);
+        when(repository.findActiveByFooterValuesAndCodeValues(anyCollection(), anyCollection(), eq(NOW)))
+                .thenReturn(List.of(
+                        entity(1L, "F1", "IVZ", "C1", "2025-03-01"),
+                        entity(2L, "F1", "*", "C1", "2025-01-01"),
+                        entity(3L, "F2", "POS", "C1", "2025-02-01")));
+        DocumentConfigLookupService service = new DocumentConfigLookupService(repository, mapper);
+
+        DocumentConfigLookupKey invoice = new DocumentConfigLookupKey("F1", "IVZRECPA", "C1");
+        DocumentConfigLookupKey policy = new DocumentConfigLookupKey("F1", "POSHOOFF", "C1");
+        DocumentConfigLookupKey missing = new DocumentConfigLookupKey("F2", "IVZRECPA", "C1");
+        Map<DocumentConfigLookupKey, List<DocumentConfigOutDto>> result =
+                service.findActive(List.of(invoice, policy, missing, invoice), NOW);
+
+        verify(repository, times(1)).findActiveByFooterValuesAndCodeValues(anyCollection(), anyCollection(), any());
+        assertThat(result).containsOnlyKeys(invoice, policy, missing);
+        assertThat(result.get(invoice)).extracting(DocumentConfigOutDto::id).containsExactly(1L, 2L);
+        assertThat(result.get(policy)).extracting(DocumentConfigOutDto::id).containsExactly(2L);
+        assertThat(result.get(missing)).isEmpty();
+    }
+
+    /**
+     * Test: IN lists are chunked
+     * Given: 1500 keys with distinct footer values and one code
+     * When: findActive is called
+     * Then: Two queries are issued, each with at most 1000 footer values
+     */
+    @Test
+    @DisplayName("findActive: chunks IN lists at the Oracle limit")
+    void findActive_chunksInLists() {
+        DocumentConfigEntityRepository repository = mock(DocumentConfigEntityRepository.class);
+        when(repository.findActiveByFooterValuesAndCodeValues(anyCollection(), anyCollection(), any()))
+                .thenReturn(List.of());
+        DocumentConfigLookupService service = new DocumentConfigLookupService(repository, mapper);
+        List<DocumentConfigLookupKey> keys = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            keys.add(new DocumentConfigLookupKey("F" + i, "DOC", "C1"));
+        }
+
+        Map<DocumentConfigLookupKey, List<DocumentConfigOutDto>> result = service.findActive(keys, NOW);
+
+        verify(repository, times(2)).findActiveByFooterValuesAndCodeValues(anyCollection(), anyCollection(), any());
+        assertThat(result).hasSize(1500);
+    }
+
+    private static DocumentConfigEntity entity(Long id, String footer, String spec, String code, String effectFrom) {
+        return DocumentConfigEntity.builder()
+                .id(id)
+                .omrdaFooter(ReferenceDataEntity.builder().id(10L).refDataValue(footer).build())
+                .omrdaAppDocSpec(ReferenceDataEntity.builder().id(20L).refDataValue(spec).build())
+                .omrdaCode(ReferenceDataEntity.builder().id(30L).refDataValue(code).build())
+                .value("VAL" + id)
+                .effectFromDat(OffsetDateTime.parse(effectFrom + "T00:00:00Z"))
+                .effectToDat(OffsetDateTime.parse("4712-12-31T00:00:00Z"))
+                .build();
+    }
+}
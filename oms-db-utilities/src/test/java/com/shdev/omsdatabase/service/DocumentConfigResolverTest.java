@@ -0,0 +1,145 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.DocumentConfigResolverProperties;
+import com.shdev.omsdatabase.dto.DocumentConfigOutDto;
+import com.shdev.omsdatabase.dto.ReferenceDataLiteDto;
+import com.shdev.omsdatabase.entity.DocumentConfigEntity;
+import com.shdev.omsdatabase.mapper.DocumentConfigurationMapper;
+import com.shdev.omsdatabase.repository.DocumentConfigEntityRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DocumentConfigResolver} verifying that loads run in one read-only transaction.
+ */
+@DisplayName("DocumentConfigResolver unit tests")
+class DocumentConfigResolverTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-06-01T00:00:00Z");
+
+    private final DocumentConfigEntityRepository repository = mock(DocumentConfigEntityRepository.class);
+    private final DocumentConfigurationMapper mapper = mock(DocumentConfigurationMapper.class);
+    private final RecordingTransaction transaction = new RecordingTransaction();
+    private final DocumentConfigResolver resolver = new DocumentConfigResolver(repository, mapper,
+            new DocumentConfigResolverProperties(), transaction, Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+
+    /**
+     * Test: a full reload queries inside the transaction
+     * Given: One active configuration; the repository records whether it is called in a transaction
+     * When: reload is called directly, as startup and the refresh thread do
+     * Then: One transaction is opened, the query runs inside it and the index holds the configuration
+     */
+    @Test
+    @DisplayName("reload: loads the index inside one transaction")
+    void reload_runsInTransaction() {
+        DocumentConfigEntity entity = DocumentConfigEntity.builder().build();
+        when(repository.findAllActiveWithReferences(any())).thenAnswer(invocation -> {
+            assertThat(transaction.active).isTrue();
+            return List.of(entity);
+        });
+        when(mapper.toDto(entity)).thenReturn(config());
+
+        resolver.reload();
+
+        assertThat(transaction.executions).isEqualTo(1);
+        assertThat(resolver.resolve("F1", "IVZRECPA", "C1", NOW)).containsExactly(config());
+    }
+
+    /**
+     * Test: the first incremental refresh falls back to a full reload in the same transaction
+     * Given: No load has happened yet
+     * When: refreshChanged is called
+     * Then: The full reload query runs inside one transaction and no change query is issued
+     */
+    @Test
+    @DisplayName("refreshChanged: falls back to a full reload in the same transaction")
+    void refreshChanged_firstLoad_fullReload() {
+        when(repository.findAllActiveWithReferences(any())).thenAnswer(invocation -> {
+            assertThat(transaction.active).isTrue();
+            return List.of();
+        });
+
+        resolver.refreshChanged();
+
+        assertThat(transaction.executions).isEqualTo(1);
+        verify(repository, never()).findChangedSinceWithReferences(any());
+    }
+
+    /**
+     * Test: the incremental refresh looks back by the overlap and picks up late commits
+     * Given: A loaded index whose latest change is 10:00 and a row stamped 09:58 that committed after the load
+     * When: refreshChanged is called with the default 5 minute overlap
+     * Then: Changes are queried from 09:55, the late row is applied and the watermark stays at 10:00
+     */
+    @Test
+    @DisplayName("refreshChanged: queries from the watermark minus the overlap")
+    void refreshChanged_overlap_appliesLateCommit() {
+        OffsetDateTime watermark = OffsetDateTime.parse("2025-05-31T10:00:00Z");
+        DocumentConfigEntity loaded = DocumentConfigEntity.builder().build();
+        DocumentConfigEntity late = DocumentConfigEntity.builder().build();
+        when(repository.findAllActiveWithReferences(any())).thenReturn(List.of(loaded));
+        when(mapper.toDto(loaded)).thenReturn(config(1L, watermark));
+        when(mapper.toDto(late)).thenReturn(config(2L, watermark.minusMinutes(2)));
+        when(repository.findChangedSinceWithReferences(watermark.minusMinutes(5))).thenReturn(List.of(late));
+        resolver.reload();
+
+        resolver.refreshChanged();
+        resolver.refreshChanged();
+
+        verify(repository, times(2)).findChangedSinceWithReferences(watermark.minusMinutes(5));
+        assertThat(resolver.resolve("F1", "IVZRECPA", "C1", NOW)).extracting(DocumentConfigOutDto::id)
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static DocumentConfigOutDto config() {
+        return config(1L, null);
+    }
+
+    private static DocumentConfigOutDto config(Long id, OffsetDateTime lastUpdateDat) {
+        return new DocumentConfigOutDto(id,
+                new ReferenceDataLiteDto(10L, "F1", null),
+                new ReferenceDataLiteDto(20L, "*", null),
+                new ReferenceDataLiteDto(30L, "C1", null),
+                "VAL1", null,
+                OffsetDateTime.ofInstant(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC),
+                OffsetDateTime.parse("4712-12-31T00:00:00Z"),
+                null, lastUpdateDat, null, null);
+    }
+
+    /**
+     * Transaction stub that counts executions and exposes whether a callback is running.
+     */
+    private static final class RecordingTransaction implements TransactionOperations {
+
+        private int executions;
+        private boolean active;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            executions++;
+            active = true;
+            try {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                active = false;
+            }
+        }
+    }
+}
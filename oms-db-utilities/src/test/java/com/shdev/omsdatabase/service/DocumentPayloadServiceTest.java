@@ -0,0 +1,161 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.PayloadStorageProperties;
+import com.shdev.omsdatabase.constants.PayloadFormat;
+import com.shdev.omsdatabase.dto.DocumentContentDto;
+import com.shdev.omsdatabase.repository.PayloadContentStore;
+import com.shdev.omsdatabase.util.PayloadCompression;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DocumentPayloadService} verifying single-column CLOB streaming.
+ */
+@DisplayName("DocumentPayloadService unit tests")
+@ExtendWith(MockitoExtension.class)
+class DocumentPayloadServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PayloadContentStore contentStore;
+
+    @Spy
+    private PayloadStorageProperties properties = new PayloadStorageProperties();
+
+    @InjectMocks
+    private DocumentPayloadService service;
+
+    /**
+     * Test: payload is streamed to an output stream as UTF-8
+     * Given: A row whose XML column contains non-ASCII characters
+     * When: copyTo is called with an output stream
+     * Then: Only the XML column is selected and the bytes are written as UTF-8
+     */
+    @Test
+    @DisplayName("copyTo: streams the selected column as UTF-8")
+    void copyTo_outputStream() throws Exception {
+        String xml = "<doc>Zürich</doc>";
+        answerWithRow(new StringReader(xml));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        boolean copied = service.copyTo(7L, PayloadFormat.XML, out);
+
+        assertThat(copied).isTrue();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(xml);
+        verify(jdbcTemplate).query(eq("SELECT b.XML_REQUEST, c.content FROM tbom_document_requests_blob b "
+                        + "LEFT JOIN tbom_payload_contents c ON c.content_hash = b.XML_CONTENT_HASH WHERE b.omdrt_id = ?"),
+                any(ResultSetExtractor.class), eq(7L));
+    }
+
+    /**
+     * Test: missing rows and null payloads yield no result
+     * Given: A row without an XML payload
+     * When: read is called
+     * Then: Returns empty without invoking the callback
+     */
+    @Test
+    @DisplayName("read: returns empty for a null payload")
+    void read_nullPayload() throws Exception {
+        answerWithRow(null);
+
+        assertThat(service.read(7L, PayloadFormat.XML, reader -> "called")).isEmpty();
+    }
+
+    /**
+     * Test: writes bind the content as a character stream
+     * Given: A reader over a new JSON payload
+     * When: write is called
+     * Then: The JSON column is updated with the reader bound as character stream
+     */
+    @Test
+    @DisplayName("write: binds the reader as character stream")
+    void write_bindsCharacterStream() throws Exception {
+        Reader content = new StringReader("{\"a\":1}");
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        when(jdbcTemplate.update(eq("UPDATE tbom_document_requests_blob SET JSON_REQUEST = ?, JSON_CONTENT_HASH = ? WHERE omdrt_id = ?"),
+                setter.capture())).thenReturn(1);
+
+        assertThat(service.write(9L, PayloadFormat.JSON, content)).isTrue();
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+        verify(ps).setCharacterStream(1, content);
+        verify(ps).setLong(3, 9L);
+    }
+
+    /**
+     * Test: compressed payloads are inflated transparently
+     * Given: A row referencing a compressed payload in TBOM_PAYLOAD_CONTENTS
+     * When: findContent is called
+     * Then: Returns the decompressed payload as content DTO
+     */
+    @Test
+    @DisplayName("findContent: inflates compressed payloads")
+    void findContent_compressed() throws Exception {
+        byte[] compressed = PayloadCompression.compress("{\"a\":1}", 6).data();
+        when(resultSet.getBinaryStream(2)).thenReturn(new ByteArrayInputStream(compressed));
+        answerWithRow(null);
+
+        assertThat(service.findContent(3L, PayloadFormat.JSON))
+                .contains(new DocumentContentDto(3L, "JSON", "{\"a\":1}"));
+    }
+
+    /**
+     * Test: compressed writes store the content and reference it by hash
+     * Given: Compressed storage enabled
+     * When: write is called
+     * Then: The content is saved once and the row gets a null CLOB and the content hash
+     */
+    @Test
+    @DisplayName("write: compressed storage stores content by hash")
+    void write_compressed() throws Exception {
+        properties.setCompressed(true);
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        when(jdbcTemplate.update(anyString(), setter.capture())).thenReturn(1);
+
+        assertThat(service.write(9L, PayloadFormat.XML, new StringReader("<a/>"))).isTrue();
+
+        String hash = PayloadCompression.compress("<a/>", 6).hash();
+        verify(contentStore).saveAll(argThat(contents -> contents.iterator().next().hash().equals(hash)));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+        verify(ps).setString(2, hash);
+        verify(ps).setLong(3, 9L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void answerWithRow(Reader clob) throws Exception {
+        when(resultSet.next()).thenReturn(true);
+        if (clob != null) {
+            when(resultSet.getCharacterStream(1)).thenReturn(clob);
+        }
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<Object>>getArgument(1).extractData(resultSet));
+    }
+}
@@ -0,0 +1,129 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ExportProperties;
+import com.shdev.omsdatabase.dto.DocumentRequestOutDto;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.repository.OfflineSessionFactory;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DocumentRequestExportService} verifying keyset iteration and the page query.
+ */
+@DisplayName("DocumentRequestExportService unit tests")
+class DocumentRequestExportServiceTest {
+
+    private final ExportProperties properties = new ExportProperties();
+
+    /**
+     * Test: pages are requested after the last id of the previous page
+     * Given: 2500 matching rows and a page size of 1000
+     * When: export is called
+     * Then: All rows are passed in order and three pages are loaded with keyset positions null, 1000, 2000
+     */
+    @Test
+    @DisplayName("export: iterates pages by keyset until a short page")
+    void export_keysetPages() {
+        properties.setPageSize(1000);
+        PagedService service = new PagedService(2500);
+        List<Long> exported = new ArrayList<>();
+
+        long count = service.export(null, dto -> exported.add(dto.id()));
+
+        assertThat(count).isEqualTo(2500);
+        assertThat(exported).first().isEqualTo(1L);
+        assertThat(exported).last().isEqualTo(2500L);
+        assertThat(service.afterIds).containsExactly(null, 1000L, 2000L);
+    }
+
+    /**
+     * Test: pages are loaded on demand
+     * Given: 2500 matching rows and a page size of 1000
+     * When: Only the first 10 elements of the stream are consumed
+     * Then: Only the first page is loaded
+     */
+    @Test
+    @DisplayName("stream: loads pages lazily")
+    void stream_lazy() {
+        properties.setPageSize(1000);
+        PagedService service = new PagedService(2500);
+
+        assertThat(service.stream(null).limit(10).count()).isEqualTo(10);
+        assertThat(service.afterIds).containsExactly((Long) null);
+    }
+
+    /**
+     * Test: an exact multiple of the page size ends with an empty page
+     * Given: 2000 matching rows and a page size of 1000
+     * When: The stream is consumed
+     * Then: Three pages are loaded, the last one empty
+     */
+    @Test
+    @DisplayName("stream: stops on an empty page")
+    void stream_exactMultiple() {
+        properties.setPageSize(1000);
+        PagedService service = new PagedService(2000);
+
+        assertThat(service.stream(null).count()).isEqualTo(2000);
+        assertThat(service.afterIds).containsExactly(null, 1000L, 2000L);
+    }
+
+    /**
+     * Test: the page query combines projection, specification and keyset with read-only hints
+     * Given: An offline session and a status specification
+     * When: pageQuery is built
+     * Then: Hibernate accepts the criteria query and the read-only and fetch size hints are set
+     */
+    @Test
+    @DisplayName("pageQuery: builds a read-only keyset projection")
+    void pageQuery_builds() {
+        properties.setFetchSize(250);
+        DocumentRequestExportService service = new DocumentRequestExportService(null, properties);
+        Specification<DocumentRequestEntity> byStatus =
+                (root, query, cb) -> cb.equal(root.get("omrdaDocStatus").get("id"), 5L);
+
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build();
+             Session session = sessionFactory.openSession()) {
+            TypedQuery<DocumentRequestOutDto> query = service.pageQuery(session, byStatus, 42L, 100);
+
+            assertThat(query.getMaxResults()).isEqualTo(100);
+            assertThat(query.getHints())
+                    .containsEntry(HibernateHints.HINT_READ_ONLY, true)
+                    .containsEntry(HibernateHints.HINT_FETCH_SIZE, 250);
+        }
+    }
+
+    /**
+     * Service serving synthetic rows with ids 1..total instead of querying the database.
+     */
+    private final class PagedService extends DocumentRequestExportService {
+
+        private final long total;
+        private final List<Long> afterIds = new ArrayList<>();
+
+        private PagedService(long total) {
+            super(null, properties);
+            this.total = total;
+        }
+
+        @Override
+        List<DocumentRequestOutDto> loadPage(Specification<DocumentRequestEntity> spec, Long afterId, int limit) {
+            afterIds.add(afterId);
+            long from = afterId == null ? 1 : afterId + 1;
+            return LongStream.rangeClosed(from, Math.min(total, from + limit - 1))
+                    .mapToObj(id -> new DocumentRequestOutDto(id, null, null, null, null, null, null, null, null))
+                    .toList();
+        }
+    }
+}
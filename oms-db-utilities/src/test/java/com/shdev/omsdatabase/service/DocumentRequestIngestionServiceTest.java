@@ -0,0 +1,204 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.IngestionProperties;
+import com.shdev.omsdatabase.config.PayloadStorageProperties;
+import com.shdev.omsdatabase.dto.DocumentRequestInDto;
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto;
+import com.shdev.omsdatabase.repository.MetadataStore;
+import com.shdev.omsdatabase.repository.PayloadContentStore;
+import com.shdev.omsdatabase.repository.RequestsMetadataValueEntityRepository;
+import com.shdev.omsdatabase.repository.RowMetadataStore;
+import com.shdev.omsdatabase.repository.SequenceIdAllocator;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DocumentRequestIngestionService} verifying chunked, fixed-shape JDBC batching.
+ */
+@DisplayName("DocumentRequestIngestionService unit tests")
+class DocumentRequestIngestionServiceTest {
+
+    /**
+     * Test: requests are written in chunks with pre-allocated ids
+     * Given: 60 requests with one metadata value each, a batch size of 25 and row metadata storage
+     * When: ingest is called
+     * Then: Request ids come from two pooled-lo blocks, each table gets three batches in FK order and
+     * the metadata rows are written by {@link RowMetadataStore} with ids allocated per chunk
+     */
+    @Test
+    @DisplayName("ingest: writes fixed-shape batches per chunk and returns ids in input order")
+    void ingest_chunkedBatches() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicLong metadataBlock = new AtomicLong();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).contains("SQOMRDA_DOC_REQUEST_ID")
+                        ? List.of(100L, 300L)
+                        : List.of(metadataBlock.addAndGet(1000L)));
+        IngestionProperties properties = new IngestionProperties();
+        properties.setBatchSize(25);
+        SequenceIdAllocator idAllocator = new SequenceIdAllocator(jdbcTemplate);
+        DocumentRequestIngestionService service =
+                new DocumentRequestIngestionService(jdbcTemplate, idAllocator, properties,
+                        new PayloadContentStore(jdbcTemplate), new PayloadStorageProperties(),
+                        new RowMetadataStore(mock(RequestsMetadataValueEntityRepository.class), jdbcTemplate, idAllocator));
+
+        List<DocumentRequestIngestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            requests.add(new DocumentRequestIngestDto(new DocumentRequestInDto(1L, 2L, 3L, 4L), "{}", null,
+                    List.of(new DocumentRequestIngestDto.MetadataEntry(7L, "V" + i))));
+        }
+
+        List<Long> ids = service.ingest(requests);
+
+        assertThat(ids).hasSize(60).startsWith(100L, 101L).contains(149L, 300L).endsWith(309L);
+        ArgumentCaptor<List<Object[]>> requestBatches = batchCaptor();
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(DocumentRequestIngestionService.INSERT_REQUEST), requestBatches.capture());
+        assertThat(requestBatches.getAllValues()).extracting(List::size).containsExactly(25, 25, 10);
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(DocumentRequestIngestionService.INSERT_BLOB), batchCaptor().capture());
+        ArgumentCaptor<List<Object[]>> metadataBatches = batchCaptor();
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO tbom_requests_metadata_values"), metadataBatches.capture());
+        Object[] lastMetadata = metadataBatches.getAllValues().get(2).get(9);
+        assertThat(lastMetadata).containsExactly(3009L, 309L, 7L, "V59");
+    }
+
+    /**
+     * Test: compressed storage writes each distinct payload once and references it by hash
+     * Given: Compressed storage and 3 requests, two with the same JSON payload and one with XML
+     * When: ingest is called
+     * Then: Three distinct contents (of four payloads) are merged and the payload rows carry hashes only
+     */
+    @Test
+    @DisplayName("ingest: compressed storage deduplicates payloads by hash")
+    void ingest_compressed() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenReturn(List.of(100L));
+        PayloadStorageProperties payloadProperties = new PayloadStorageProperties();
+        payloadProperties.setCompressed(true);
+        DocumentRequestIngestionService service = new DocumentRequestIngestionService(
+                jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), new IngestionProperties(),
+                new PayloadContentStore(jdbcTemplate), payloadProperties, mock(MetadataStore.class));
+        DocumentRequestInDto request = new DocumentRequestInDto(1L, 2L, 3L, 4L);
+
+        service.ingest(List.of(
+                new DocumentRequestIngestDto(request, "{\"a\":1}", null, null),
+                new DocumentRequestIngestDto(request, "{\"a\":1}", null, null),
+                new DocumentRequestIngestDto(request, "{\"a\":2}", "<a>2</a>", null)));
+
+        ArgumentCaptor<List<Object[]>> contents = batchCaptor();
+        verify(jdbcTemplate).batchUpdate(startsWith("MERGE INTO tbom_payload_contents"), contents.capture());
+        assertThat(contents.getValue()).hasSize(3);
+        ArgumentCaptor<List<Object[]>> blobs = batchCaptor();
+        verify(jdbcTemplate).batchUpdate(eq(DocumentRequestIngestionService.INSERT_BLOB_COMPRESSED), blobs.capture());
+        List<Object[]> rows = blobs.getValue();
+        assertThat(rows.get(0)[1]).isEqualTo(rows.get(1)[1]).asString().hasSize(64);
+        assertThat(rows.get(1)[2]).isNull();
+        assertThat(rows.get(2)[2]).isNotNull();
+        verify(jdbcTemplate, times(0)).batchUpdate(eq(DocumentRequestIngestionService.INSERT_BLOB), batchCaptor().capture());
+    }
+
+    /**
+     * Test: metadata is handed to the configured metadata store
+     * Given: A metadata store and two requests, one with two metadata values and one without
+     * When: ingest is called
+     * Then: Only request ids are allocated by the service, no metadata rows are inserted by it and the
+     * store gets both requests
+     */
+    @Test
+    @DisplayName("ingest: hands metadata to the metadata store")
+    @SuppressWarnings("unchecked")
+    void ingest_metadataStore() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenReturn(List.of(100L));
+        MetadataStore metadataStore = mock(MetadataStore.class);
+        DocumentRequestIngestionService service = new DocumentRequestIngestionService(
+                jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), new IngestionProperties(),
+                new PayloadContentStore(jdbcTemplate), new PayloadStorageProperties(), metadataStore);
+        DocumentRequestInDto request = new DocumentRequestInDto(1L, 2L, 3L, 4L);
+
+        service.ingest(List.of(
+                new DocumentRequestIngestDto(request, "{}", null, List.of(
+                        new DocumentRequestIngestDto.MetadataEntry(7L, "POL-1"),
+                        new DocumentRequestIngestDto.MetadataEntry(8L, "C-42"))),
+                new DocumentRequestIngestDto(request, "{}", null, null)));
+
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), any());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO tbom_requests_metadata_values"), anyList());
+        ArgumentCaptor<Map<Long, List<DocumentRequestIngestDto.MetadataEntry>>> documents =
+                ArgumentCaptor.forClass(Map.class);
+        verify(metadataStore).insertAll(documents.capture());
+        assertThat(documents.getValue()).containsOnlyKeys(100L, 101L);
+        assertThat(documents.getValue().get(100L)).hasSize(2);
+        assertThat(documents.getValue().get(101L)).isEmpty();
+    }
+
+    /**
+     * Test: invalid requests are rejected before anything is written
+     * Given: The service behind Spring's method validation and a request without JSON payload and document type
+     * When: ingest is called through the proxy
+     * Then: ConstraintViolationException names both violations and no statement is executed
+     */
+    @Test
+    @DisplayName("ingest: validates requests before writing")
+    void ingest_invalidRequest_rejected() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ProxyFactory proxyFactory = new ProxyFactory(new DocumentRequestIngestionService(
+                jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), new IngestionProperties(),
+                new PayloadContentStore(jdbcTemplate), new PayloadStorageProperties(), mock(MetadataStore.class)));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new MethodValidationInterceptor());
+        DocumentRequestIngestionService service = (DocumentRequestIngestionService) proxyFactory.getProxy();
+        List<DocumentRequestIngestDto> requests = List.of(
+                new DocumentRequestIngestDto(new DocumentRequestInDto(1L, null, 3L, 4L), null, null, List.of()));
+
+        assertThatThrownBy(() -> service.ingest(requests))
+                .isInstanceOf(ConstraintViolationException.class)
+                .satisfies(e -> assertThat(((ConstraintViolationException) e).getConstraintViolations()).hasSize(2));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Test: empty input issues no statements
+     * Given: An empty request list
+     * When: ingest is called
+     * Then: Returns an empty list
+     */
+    @Test
+    @DisplayName("ingest: returns empty list for empty input")
+    void ingest_empty() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        DocumentRequestIngestionService service = new DocumentRequestIngestionService(
+                jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), new IngestionProperties(),
+                new PayloadContentStore(jdbcTemplate), new PayloadStorageProperties(), mock(MetadataStore.class));
+
+        assertThat(service.ingest(List.of())).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
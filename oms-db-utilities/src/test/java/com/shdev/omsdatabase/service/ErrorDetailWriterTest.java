@@ -0,0 +1,264 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ErrorDetailWriterProperties;
+import com.shdev.omsdatabase.config.ErrorDetailWriterProperties.OverflowPolicy;
+import com.shdev.omsdatabase.repository.SequenceIdAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ErrorDetailWriter} verifying queueing, overflow policies and batched writes.
+ */
+@DisplayName("ErrorDetailWriter unit tests")
+class ErrorDetailWriterTest {
+
+    /**
+     * Test: queued error details are written in JDBC batches with pre-allocated ids
+     * Given: Batch size 2 and five recorded error details, writer thread not started
+     * When: flush is called
+     * Then: Three batches (2, 2, 1) are written and the counters reflect five written rows
+     */
+    @Test
+    @DisplayName("flush: writes queued error details in batches")
+    void flush_batches() {
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        ErrorDetailWriterProperties properties = new ErrorDetailWriterProperties();
+        properties.setBatchSize(2);
+        ErrorDetailWriter writer = new ErrorDetailWriter(jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), properties,
+                TransactionOperations.withoutTransaction());
+        for (long i = 1; i <= 5; i++) {
+            assertThat(writer.record(i, "TIMEOUT", "Thunderhead timed out")).isTrue();
+        }
+        assertThat(writer.getQueueDepth()).isEqualTo(5);
+
+        assertThat(writer.flush()).isEqualTo(5);
+
+        ArgumentCaptor<List<Object[]>> batches = batchCaptor();
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.getAllValues().get(0).get(1)).startsWith(101L, 2L, "TIMEOUT");
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(writer.getWrittenCount()).isEqualTo(5);
+    }
+
+    /**
+     * Test: DROP_NEWEST rejects error details when the queue is full
+     * Given: Capacity 2 and DROP_NEWEST
+     * When: Three error details are recorded
+     * Then: The third is rejected and counted as dropped
+     */
+    @Test
+    @DisplayName("record: DROP_NEWEST rejects when full")
+    void record_dropNewest() {
+        ErrorDetailWriter writer = writer(OverflowPolicy.DROP_NEWEST, mock(JdbcTemplate.class));
+
+        assertThat(writer.record(1L, "A", "a")).isTrue();
+        assertThat(writer.record(2L, "B", "b")).isTrue();
+        assertThat(writer.record(3L, "C", "c")).isFalse();
+
+        assertThat(writer.getQueueDepth()).isEqualTo(2);
+        assertThat(writer.getRemainingCapacity()).isZero();
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test: DROP_OLDEST makes room for new error details
+     * Given: Capacity 2 and DROP_OLDEST
+     * When: Three error details are recorded and flushed
+     * Then: The first one is dropped, the last two are written
+     */
+    @Test
+    @DisplayName("record: DROP_OLDEST evicts the oldest entry")
+    void record_dropOldest() {
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        ErrorDetailWriter writer = writer(OverflowPolicy.DROP_OLDEST, jdbcTemplate);
+
+        writer.record(1L, "A", "a");
+        writer.record(2L, "B", "b");
+        assertThat(writer.record(3L, "C", "c")).isTrue();
+        writer.flush();
+
+        ArgumentCaptor<List<Object[]>> batches = batchCaptor();
+        verify(jdbcTemplate).batchUpdate(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), batches.capture());
+        assertThat(batches.getValue()).extracting(row -> row[1]).containsExactly(2L, 3L);
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test: CALLER_RUNS writes on the calling thread when the queue is full
+     * Given: Capacity 2 and CALLER_RUNS
+     * When: Three error details are recorded
+     * Then: The third is written synchronously and the queue keeps the first two
+     */
+    @Test
+    @DisplayName("record: CALLER_RUNS writes synchronously when full")
+    void record_callerRuns() {
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        ErrorDetailWriter writer = writer(OverflowPolicy.CALLER_RUNS, jdbcTemplate);
+
+        writer.record(1L, "A", "a");
+        writer.record(2L, "B", "b");
+        assertThat(writer.record(3L, "C", "c")).isTrue();
+
+        verify(jdbcTemplate).batchUpdate(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), anyList());
+        assertThat(writer.getQueueDepth()).isEqualTo(2);
+        assertThat(writer.getWrittenCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test: a failing batch is rolled back and retried row by row
+     * Given: The batch insert fails inside its transaction and the second single-row insert fails too
+     * When: Two error details are flushed
+     * Then: The batch transaction is rolled back before the single-row inserts, one row is written
+     * and one counted as failed
+     */
+    @Test
+    @DisplayName("flush: rolls back a failed batch and falls back to single-row writes")
+    void flush_batchFailure() {
+        List<String> events = new ArrayList<>();
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        when(jdbcTemplate.batchUpdate(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), anyList()))
+                .thenThrow(new DataIntegrityViolationException("ORA-02291"));
+        when(jdbcTemplate.update(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    events.add("insert");
+                    return 1;
+                })
+                .thenThrow(new DataIntegrityViolationException("ORA-02291"));
+        ErrorDetailWriterProperties properties = new ErrorDetailWriterProperties();
+        ErrorDetailWriter writer = new ErrorDetailWriter(jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), properties,
+                new RecordingTransaction(events));
+        writer.record(1L, "A", "a");
+        writer.record(999L, "B", "b");
+
+        writer.flush();
+
+        assertThat(events).containsExactly("begin", "rollback", "insert");
+        verify(jdbcTemplate, times(2)).update(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), any(Object[].class));
+        assertThat(writer.getWrittenCount()).isEqualTo(1);
+        assertThat(writer.getFailedCount()).isEqualTo(1);
+    }
+
+    /**
+     * Test: error details left behind by a writer that misses the shutdown timeout count as dropped
+     * Given: A started writer blocked in a batch insert and two more queued error details
+     * When: The writer is destroyed with a 50 ms shutdown timeout
+     * Then: The queue is emptied and both queued error details are counted as dropped
+     */
+    @Test
+    @DisplayName("destroy: counts unwritten error details as dropped after the timeout")
+    void destroy_timeout_countsDropped() throws Exception {
+        CountDownLatch inWrite = new CountDownLatch(1);
+        Semaphore release = new Semaphore(0);
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        when(jdbcTemplate.batchUpdate(eq(ErrorDetailWriter.INSERT_ERROR_DETAIL), anyList())).thenAnswer(invocation -> {
+            inWrite.countDown();
+            release.acquireUninterruptibly();
+            return new int[]{1};
+        });
+        ErrorDetailWriterProperties properties = new ErrorDetailWriterProperties();
+        properties.setBatchSize(1);
+        properties.setFlushInterval(Duration.ofMillis(20));
+        properties.setShutdownTimeout(Duration.ofMillis(50));
+        ErrorDetailWriter writer = new ErrorDetailWriter(jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), properties,
+                TransactionOperations.withoutTransaction());
+        writer.afterSingletonsInstantiated();
+        writer.record(1L, "A", "a");
+        assertThat(inWrite.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.record(2L, "B", "b");
+        writer.record(3L, "C", "c");
+
+        writer.destroy();
+        release.release();
+
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(writer.getDroppedCount()).isEqualTo(2);
+    }
+
+    /**
+     * Test: the background writer flushes on the time trigger and drains the queue on shutdown
+     * Given: A started writer with a 20 ms flush interval
+     * When: An error detail is recorded, then the writer is destroyed and another one is recorded
+     * Then: The first is written by the writer thread, the second is rejected
+     */
+    @Test
+    @DisplayName("afterSingletonsInstantiated/destroy: background flush and drain on shutdown")
+    void background_flushAndShutdown() throws Exception {
+        JdbcTemplate jdbcTemplate = jdbcTemplate();
+        ErrorDetailWriterProperties properties = new ErrorDetailWriterProperties();
+        properties.setFlushInterval(Duration.ofMillis(20));
+        ErrorDetailWriter writer = new ErrorDetailWriter(jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), properties,
+                TransactionOperations.withoutTransaction());
+        writer.afterSingletonsInstantiated();
+
+        writer.record(1L, "A", "a");
+        writer.destroy();
+
+        assertThat(writer.getWrittenCount()).isEqualTo(1);
+        assertThat(writer.getQueueDepth()).isZero();
+        assertThat(writer.record(2L, "B", "b")).isFalse();
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    private static ErrorDetailWriter writer(OverflowPolicy policy, JdbcTemplate jdbcTemplate) {
+        ErrorDetailWriterProperties properties = new ErrorDetailWriterProperties();
+        properties.setQueueCapacity(2);
+        properties.setOverflowPolicy(policy);
+        return new ErrorDetailWriter(jdbcTemplate, new SequenceIdAllocator(jdbcTemplate), properties,
+                TransactionOperations.withoutTransaction());
+    }
+
+    private static JdbcTemplate jdbcTemplate() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any())).thenReturn(List.of(100L));
+        return jdbcTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Object[]>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    /**
+     * Transaction recording begin, commit and rollback into a shared event list.
+     */
+    private record RecordingTransaction(List<String> events) implements TransactionOperations {
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            events.add("begin");
+            try {
+                T result = action.doInTransaction(new SimpleTransactionStatus());
+                events.add("commit");
+                return result;
+            } catch (RuntimeException e) {
+                events.add("rollback");
+                throw e;
+            }
+        }
+    }
+}
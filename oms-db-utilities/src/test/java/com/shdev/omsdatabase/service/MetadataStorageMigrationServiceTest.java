@@ -0,0 +1,63 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.repository.JsonMetadataStore;
+import com.shdev.omsdatabase.repository.RowMetadataStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MetadataStorageMigrationService} verifying keyset-paged copying to JSON documents.
+ */
+@DisplayName("MetadataStorageMigrationService unit tests")
+class MetadataStorageMigrationServiceTest {
+
+    /**
+     * Test: requests are copied page by page, continuing after the last id of each page
+     * Given: Page size 2 and three requests with metadata
+     * When: migrateToJson is called
+     * Then: Two pages are read (after 0, after 2), each written as documents, and 3 is returned
+     */
+    @Test
+    @DisplayName("migrateToJson: copies keyset pages of requests")
+    @SuppressWarnings("unchecked")
+    void migrateToJson_pages() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(eq(MetadataStorageMigrationService.SELECT_REQUEST_IDS), eq(Long.class), anyLong(), anyInt()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        RowMetadataStore rowStore = mock(RowMetadataStore.class);
+        when(rowStore.findByRequestIds(anyCollection())).thenReturn(
+                Map.of(1L, List.of(value(1L, "POL-1")), 2L, List.of(value(2L, "POL-2"))),
+                Map.of(3L, List.of(value(3L, "POL-3"))));
+        JsonMetadataStore jsonStore = mock(JsonMetadataStore.class);
+        MetadataStorageMigrationService service = new MetadataStorageMigrationService(jdbcTemplate, rowStore, jsonStore);
+
+        assertThat(service.migrateToJson(2)).isEqualTo(3);
+
+        verify(jdbcTemplate).queryForList(MetadataStorageMigrationService.SELECT_REQUEST_IDS, Long.class, 0L, 2);
+        verify(jdbcTemplate).queryForList(MetadataStorageMigrationService.SELECT_REQUEST_IDS, Long.class, 2L, 2);
+        ArgumentCaptor<Map<Long, List<MetadataEntry>>> documents = ArgumentCaptor.forClass(Map.class);
+        verify(jsonStore, times(2)).replaceAll(documents.capture());
+        assertThat(documents.getAllValues().get(1)).containsEntry(3L, List.of(new MetadataEntry(7L, "POL-3")));
+    }
+
+    private static MetadataValueOutDto value(Long requestId, String value) {
+        return new MetadataValueOutDto(null, requestId, 7L, "POLICY_NUMBER", null, value);
+    }
+}
@@ -0,0 +1,169 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ReferenceDataSnapshotProperties;
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.constants.DocumentStatus;
+import com.shdev.omsdatabase.dto.ReferenceDataDto;
+import com.shdev.omsdatabase.repository.ReferenceDataEntityRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReferenceDataSnapshot} and {@link ReferenceDataSnapshotService}
+ * verifying indexed, effective-dated lookups and atomic refresh.
+ */
+@DisplayName("ReferenceDataSnapshot unit tests")
+class ReferenceDataSnapshotTest {
+
+    private static final OffsetDateTime JAN = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime JUN = JAN.plusMonths(5);
+    private static final OffsetDateTime END = OffsetDateTime.of(4712, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final ReferenceDataDto INVOICE_OLD = row(1L, "DOCUMENT_TYPE", "INVOICE", "Invoice (old)", JAN, JUN.minusDays(1));
+    private static final ReferenceDataDto INVOICE_NEW = row(2L, "DOCUMENT_TYPE", "INVOICE", "Invoice", JUN, END);
+    private static final ReferenceDataDto POLICY = row(3L, "DOCUMENT_TYPE", "POLICY", "Policy", JAN, END);
+    private static final ReferenceDataDto SOURCE = row(4L, "SOURCE_SYSTEM", "IV", "IV", JAN, END);
+
+    private static final List<ReferenceDataDto> STATUSES = statusRows();
+
+    private final ReferenceDataSnapshot snapshot =
+            ReferenceDataSnapshot.of(List.of(INVOICE_OLD, INVOICE_NEW, POLICY, SOURCE), 1, Instant.EPOCH);
+
+    /**
+     * Test: type and value lookup honours effective dates
+     * Given: Two INVOICE rows with consecutive effective periods
+     * When: findByTypeAndValue is called as of dates in each period and before both
+     * Then: Returns the row effective at that date, or empty
+     */
+    @Test
+    @DisplayName("findByTypeAndValue: returns the row effective at the as-of date")
+    void findByTypeAndValue_asOf() {
+        assertThat(snapshot.findByTypeAndValue("DOCUMENT_TYPE", "INVOICE", JAN.plusDays(10))).contains(INVOICE_OLD);
+        assertThat(snapshot.findByTypeAndValue("DOCUMENT_TYPE", "INVOICE", JUN.plusDays(10))).contains(INVOICE_NEW);
+        assertThat(snapshot.findByTypeAndValue("DOCUMENT_TYPE", "INVOICE", JAN.minusDays(1))).isEmpty();
+        assertThat(snapshot.findLiteByTypeAndValue("DOCUMENT_TYPE", "POLICY", JUN))
+                .hasValueSatisfying(lite -> assertThat(lite.id()).isEqualTo(3L));
+    }
+
+    /**
+     * Test: type and id indexes
+     * Given: Rows of two types
+     * When: findByType and findById are called
+     * Then: Only effective rows of the requested type are returned, id lookup ignores dates
+     */
+    @Test
+    @DisplayName("findByType/findById: use type and id indexes")
+    void findByType_findById() {
+        assertThat(snapshot.findByType("DOCUMENT_TYPE", JUN.plusDays(1))).containsExactly(INVOICE_NEW, POLICY);
+        assertThat(snapshot.findByType("UNKNOWN", JUN)).isEmpty();
+        assertThat(snapshot.findById(1L)).contains(INVOICE_OLD);
+        assertThat(snapshot.findById(null)).isEmpty();
+        assertThat(snapshot.size()).isEqualTo(4);
+    }
+
+    /**
+     * Test: refresh swaps in a new snapshot with a higher version
+     * Given: A repository whose content changes between loads
+     * When: refresh is called twice
+     * Then: Each refresh publishes a new snapshot, previously obtained snapshots are unchanged
+     */
+    @Test
+    @DisplayName("refresh: atomically swaps snapshots and increments version")
+    void refresh_swapsSnapshot() {
+        ReferenceDataEntityRepository repository = mock(ReferenceDataEntityRepository.class);
+        when(repository.findAllAsDto()).thenReturn(with(STATUSES, POLICY), with(STATUSES, POLICY, SOURCE));
+        ReferenceDataSnapshotService service = new ReferenceDataSnapshotService(
+                repository, new ReferenceDataSnapshotProperties(), Clock.fixed(JUN.toInstant(), ZoneOffset.UTC));
+
+        assertThat(service.getSnapshotVersion()).isZero();
+        ReferenceDataSnapshot first = service.refresh();
+        ReferenceDataSnapshot second = service.refresh();
+
+        assertThat(first.size()).isEqualTo(STATUSES.size() + 1);
+        assertThat(second.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(service.getSnapshot()).isSameAs(second);
+        assertThat(service.findActiveByTypeAndValue("SOURCE_SYSTEM", "IV")).contains(SOURCE);
+        assertThat(service.getSnapshotAge()).isZero();
+    }
+
+    /**
+     * Test: status ids resolve in both directions
+     * Given: A snapshot with one row per DocumentStatus and BatchStatus constant
+     * When: Ids are looked up by status and statuses by id
+     * Then: Each status maps to its row id and back; foreign ids map to null
+     */
+    @Test
+    @DisplayName("getDocumentStatusIds/getBatchStatusIds: map statuses to ids and back")
+    void statusIds_bothDirections() {
+        ReferenceDataSnapshot loaded = ReferenceDataSnapshot.of(with(STATUSES, POLICY), 1, JUN.toInstant());
+
+        assertThat(loaded.getDocumentStatusIds().idOf(DocumentStatus.QUEUED)).isEqualTo(100L);
+        assertThat(loaded.getDocumentStatusIds().statusOf(104L)).isEqualTo(DocumentStatus.COMPLETED);
+        assertThat(loaded.getDocumentStatusIds().statusOf(3L)).isNull();
+        assertThat(loaded.getBatchStatusIds().idOf(BatchStatus.FAILED_OMS)).isEqualTo(203L);
+        assertThat(loaded.getBatchStatusIds().statusOf(200L)).isEqualTo(BatchStatus.PROCESSING_OMS);
+        assertThat(loaded.getBatchStatusIds().statusOf(100L)).isNull();
+        assertThat(loaded.getBatchStatusIds().asMap()).hasSize(BatchStatus.values().length);
+    }
+
+    /**
+     * Test: a load without all status rows fails and keeps the previous snapshot
+     * Given: A first load with all statuses and a second load missing COMPLETED
+     * When: refresh is called twice
+     * Then: The second refresh throws naming the missing status, the first snapshot stays current
+     */
+    @Test
+    @DisplayName("refresh: fails fast when a status row is missing")
+    void refresh_missingStatus() {
+        List<ReferenceDataDto> incomplete = STATUSES.stream()
+                .filter(row -> !(row.refDataType().equals(DocumentStatus.REF_DATA_TYPE) && row.refDataValue().equals("COMPLETED")))
+                .toList();
+        ReferenceDataEntityRepository repository = mock(ReferenceDataEntityRepository.class);
+        when(repository.findAllAsDto()).thenReturn(STATUSES, incomplete);
+        ReferenceDataSnapshotService service = new ReferenceDataSnapshotService(
+                repository, new ReferenceDataSnapshotProperties(), Clock.fixed(JUN.toInstant(), ZoneOffset.UTC));
+
+        ReferenceDataSnapshot first = service.refresh();
+
+        assertThatThrownBy(service::refresh)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("COMPLETED");
+        assertThat(service.getSnapshot()).isSameAs(first);
+        assertThat(service.getDocumentStatusId(DocumentStatus.COMPLETED)).isEqualTo(104L);
+        assertThat(service.getBatchStatus(201L)).isEqualTo(BatchStatus.PROCESSING_THUNDERHEAD);
+    }
+
+    private static List<ReferenceDataDto> statusRows() {
+        List<ReferenceDataDto> rows = new ArrayList<>();
+        for (DocumentStatus status : DocumentStatus.values()) {
+            rows.add(row(100L + status.ordinal(), DocumentStatus.REF_DATA_TYPE, status.getCode(), status.getDescription(), JAN, END));
+        }
+        for (BatchStatus status : BatchStatus.values()) {
+            rows.add(row(200L + status.ordinal(), BatchStatus.REF_DATA_TYPE, status.getCode(), status.getDescription(), JAN, END));
+        }
+        return List.copyOf(rows);
+    }
+
+    private static List<ReferenceDataDto> with(List<ReferenceDataDto> rows, ReferenceDataDto... more) {
+        List<ReferenceDataDto> all = new ArrayList<>(rows);
+        all.addAll(List.of(more));
+        return all;
+    }
+
+    private static ReferenceDataDto row(Long id, String type, String value, String description,
+                                        OffsetDateTime from, OffsetDateTime to) {
+        return new ReferenceDataDto(id, type, value, description, false, from, to, null, null, null, null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.dto.MetadataCondition;
+import com.shdev.omsdatabase.dto.MetadataValueOutDto;
+import com.shdev.omsdatabase.repository.RequestsMetadataValueEntityRepository;
+import com.shdev.omsdatabase.repository.RowMetadataStore;
+import com.shdev.omsdatabase.repository.SequenceIdAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link RequestMetadataService} verifying chunked bulk reads and condition intersection.
+ */
+@DisplayName("RequestMetadataService unit tests")
+class RequestMetadataServiceTest {
+
+    /**
+     * Test: metadata of many requests is loaded per 1000-id chunk and grouped by request
+     * Given: 1500 request ids, metadata for request 1 (two values) and request 1200
+     * When: findByRequestIds is called
+     * Then: Two queries are issued, every id is a key and values are grouped under their request
+     */
+    @Test
+    @DisplayName("findByRequestIds: groups chunked results by request id")
+    void findByRequestIds_chunked() {
+        RequestsMetadataValueEntityRepository repository = mock(RequestsMetadataValueEntityRepository.class);
+        when(repository.findDtosByRequestIdIn(anyCollection())).thenReturn(
+                List.of(value(10L, 1L, "POL-1"), value(11L, 1L, "CUST-1")),
+                List.of(value(12L, 1200L, "POL-2")));
+        RequestMetadataService service = new RequestMetadataService(rowStore(repository));
+
+        Map<Long, List<MetadataValueOutDto>> result =
+                service.findByRequestIds(LongStream.rangeClosed(1, 1500).boxed().toList());
+
+        verify(repository, times(2)).findDtosByRequestIdIn(anyCollection());
+        assertThat(result).hasSize(1500);
+        assertThat(result.get(1L)).extracting(MetadataValueOutDto::metadataValue).containsExactly("POL-1", "CUST-1");
+        assertThat(result.get(1200L)).extracting(MetadataValueOutDto::id).containsExactly(12L);
+        assertThat(result.get(2L)).isEmpty();
+    }
+
+    /**
+     * Test: conditions are intersected, later ones restricted to the candidates
+     * Given: Policy number matches requests 3, 1, 2 and customer id matches 2 and 3 among them
+     * When: findRequestIds is called with both conditions
+     * Then: The second query gets the candidates and the result is {2, 3} in ascending order
+     */
+    @Test
+    @DisplayName("findRequestIds: intersects per-condition results")
+    void findRequestIds_intersects() {
+        RequestsMetadataValueEntityRepository repository = mock(RequestsMetadataValueEntityRepository.class);
+        when(repository.findRequestIdsByKeyAndValue(7L, "POL-1")).thenReturn(List.of(3L, 1L, 2L));
+        when(repository.findRequestIdsByKeyAndValueAndRequestIdIn(8L, "CUST-1", List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(3L, 2L));
+        RequestMetadataService service = new RequestMetadataService(rowStore(repository));
+
+        assertThat(service.findRequestIds(List.of(
+                new MetadataCondition(7L, "POL-1"), new MetadataCondition(8L, "CUST-1"))))
+                .containsExactly(2L, 3L);
+    }
+
+    /**
+     * Test: the search stops when no candidate is left
+     * Given: The first condition matches nothing
+     * When: findRequestIds is called with two conditions
+     * Then: The second condition is not queried
+     */
+    @Test
+    @DisplayName("findRequestIds: short-circuits on empty intermediate result")
+    void findRequestIds_shortCircuit() {
+        RequestsMetadataValueEntityRepository repository = mock(RequestsMetadataValueEntityRepository.class);
+        when(repository.findRequestIdsByKeyAndValue(anyLong(), anyString())).thenReturn(List.of());
+        RequestMetadataService service = new RequestMetadataService(rowStore(repository));
+
+        assertThat(service.findRequestIds(List.of(
+                new MetadataCondition(7L, "POL-404"), new MetadataCondition(8L, "CUST-1")))).isEmpty();
+        verify(repository, never()).findRequestIdsByKeyAndValueAndRequestIdIn(any(), any(), anyList());
+    }
+
+    /**
+     * Test: a search without conditions would scan everything and is rejected
+     * Given: No conditions, or a condition without value
+     * When: findRequestIds is called
+     * Then: IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("findRequestIds: rejects empty or incomplete conditions")
+    void findRequestIds_invalid() {
+        RequestMetadataService service = new RequestMetadataService(rowStore(mock(RequestsMetadataValueEntityRepository.class)));
+
+        assertThatThrownBy(() -> service.findRequestIds(List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.findRequestIds(List.of(new MetadataCondition(7L, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RowMetadataStore rowStore(RequestsMetadataValueEntityRepository repository) {
+        return new RowMetadataStore(repository, mock(JdbcTemplate.class), mock(SequenceIdAllocator.class));
+    }
+
+    private static MetadataValueOutDto value(Long id, Long requestId, String value) {
+        return new MetadataValueOutDto(id, requestId, 7L, "POLICY_NUMBER", null, value);
+    }
+}
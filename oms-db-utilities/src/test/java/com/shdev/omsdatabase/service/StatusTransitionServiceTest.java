@@ -0,0 +1,153 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.constants.BatchStatus;
+import com.shdev.omsdatabase.constants.DocumentStatus;
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ThBatchEntity;
+import com.shdev.omsdatabase.repository.OfflineSessionFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link StatusTransitionService} verifying chunked, guarded status updates.
+ */
+@DisplayName("StatusTransitionService unit tests")
+class StatusTransitionServiceTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final ReferenceDataSnapshotService referenceData = referenceData();
+
+    /**
+     * Test: ids are moved in IN-list chunks guarded by the expected statuses
+     * Given: 2500 document request ids, each chunk updating all of its rows
+     * When: transitionDocuments moves QUEUED and STOPPED requests to PROCESSING
+     * Then: Three updates carry the target id and both expected ids, and the counts are summed
+     */
+    @Test
+    @DisplayName("transitionDocuments: updates chunks of ids with the status guard")
+    @SuppressWarnings("unchecked")
+    void transitionDocuments_chunkedIds() {
+        when(jdbcTemplate.update(eq(StatusTransitionService.UPDATE_DOCUMENT_STATUS), any(MapSqlParameterSource.class)))
+                .thenReturn(1000, 1000, 480);
+        StatusTransitionService service = new StatusTransitionService(jdbcTemplate, mock(EntityManager.class), referenceData);
+
+        int moved = service.transitionDocuments(LongStream.rangeClosed(1, 2500).boxed().toList(),
+                Set.of(DocumentStatus.QUEUED, DocumentStatus.STOPPED), DocumentStatus.PROCESSING);
+
+        assertThat(moved).isEqualTo(2480);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, times(3)).update(eq(StatusTransitionService.UPDATE_DOCUMENT_STATUS), params.capture());
+        MapSqlParameterSource last = params.getAllValues().get(2);
+        assertThat((List<?>) last.getValue("ids")).hasSize(500);
+        assertThat((List<Object>) last.getValue("expected")).containsExactlyInAnyOrder(100L, 102L);
+        assertThat(last.getValue("target")).isEqualTo(101L);
+    }
+
+    /**
+     * Test: specification transitions page through matching ids by keyset
+     * Given: A first id page of 1000 ids and a second page of 3 ids
+     * When: transitionBatches moves FAILED_THUNDERHEAD batches to PROCESSING_THUNDERHEAD
+     * Then: The second page starts after the last id of the first, each page is updated once
+     */
+    @Test
+    @DisplayName("transitionBatches: updates specification matches page by page")
+    @SuppressWarnings("unchecked")
+    void transitionBatches_specificationPages() {
+        when(jdbcTemplate.update(eq(StatusTransitionService.UPDATE_BATCH_STATUS), any(MapSqlParameterSource.class)))
+                .thenReturn(1000, 3);
+        EntityManager entityManager = mock(EntityManager.class);
+        StatusTransitionService service = spy(new StatusTransitionService(jdbcTemplate, entityManager, referenceData));
+        TypedQuery<Long> firstPage = mock(TypedQuery.class);
+        when(firstPage.getResultList()).thenReturn(LongStream.rangeClosed(1, 1000).boxed().toList());
+        TypedQuery<Long> secondPage = mock(TypedQuery.class);
+        when(secondPage.getResultList()).thenReturn(List.of(1500L, 1501L, 1502L));
+        doReturn(firstPage).when(service).idPageQuery(eq(entityManager), eq(ThBatchEntity.class), eq("omrdaThStatus"),
+                any(), eq(List.of(204L)), isNull(), anyInt());
+        doReturn(secondPage).when(service).idPageQuery(eq(entityManager), eq(ThBatchEntity.class), eq("omrdaThStatus"),
+                any(), eq(List.of(204L)), eq(1000L), anyInt());
+
+        int moved = service.transitionBatches((Specification<ThBatchEntity>) null,
+                Set.of(BatchStatus.FAILED_THUNDERHEAD), BatchStatus.PROCESSING_THUNDERHEAD);
+
+        assertThat(moved).isEqualTo(1003);
+        verify(jdbcTemplate, times(2)).update(eq(StatusTransitionService.UPDATE_BATCH_STATUS), any(MapSqlParameterSource.class));
+    }
+
+    /**
+     * Test: the id page query is accepted by Hibernate
+     * Given: The offline session factory and a specification on the source system
+     * When: idPageQuery is built for document requests after id 42
+     * Then: The query is created with the page limit
+     */
+    @Test
+    @DisplayName("idPageQuery: builds a keyset id query with the status guard")
+    void idPageQuery_builds() {
+        StatusTransitionService service = new StatusTransitionService(jdbcTemplate, mock(EntityManager.class), referenceData);
+        Specification<DocumentRequestEntity> bySourceSystem =
+                (root, query, cb) -> cb.equal(root.get("omrdaSourceSystem").get("id"), 7L);
+
+        try (SessionFactory sessionFactory = OfflineSessionFactory.build();
+             Session session = sessionFactory.openSession()) {
+            TypedQuery<Long> query = service.idPageQuery(session, DocumentRequestEntity.class, "omrdaDocStatus",
+                    bySourceSystem, List.of(100L, 102L), 42L, 1000);
+
+            assertThat(query.getMaxResults()).isEqualTo(1000);
+        }
+    }
+
+    /**
+     * Test: transitions without a valid guard are rejected
+     * Given: No expected status, or the target among the expected statuses
+     * When: transitionDocuments is called
+     * Then: IllegalArgumentException is thrown and no statement is executed
+     */
+    @Test
+    @DisplayName("transitionDocuments: rejects missing or self-including expected statuses")
+    void transitionDocuments_invalidGuard() {
+        StatusTransitionService service = new StatusTransitionService(jdbcTemplate, mock(EntityManager.class), referenceData);
+
+        assertThatThrownBy(() -> service.transitionDocuments(List.of(1L), Set.of(), DocumentStatus.FAILED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.transitionDocuments(List.of(1L),
+                Set.of(DocumentStatus.FAILED, DocumentStatus.PROCESSING), DocumentStatus.FAILED))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private static ReferenceDataSnapshotService referenceData() {
+        ReferenceDataSnapshotService referenceData = mock(ReferenceDataSnapshotService.class);
+        for (DocumentStatus status : DocumentStatus.values()) {
+            when(referenceData.getDocumentStatusId(status)).thenReturn(100L + status.ordinal());
+        }
+        for (BatchStatus status : BatchStatus.values()) {
+            when(referenceData.getBatchStatusId(status)).thenReturn(200L + status.ordinal());
+        }
+        return referenceData;
+    }
+}
@@ -0,0 +1,275 @@
+package com.shdev.omsdatabase.service;
+
+import com.shdev.omsdatabase.config.ThBatchQueueProperties;
+import com.shdev.omsdatabase.config.ThBatchRetryProperties;
+import com.shdev.omsdatabase.constants.BatchStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ThBatchWorkQueue} verifying SKIP LOCKED claims and owner-guarded set-based updates.
+ */
+@DisplayName("ThBatchWorkQueue unit tests")
+class ThBatchWorkQueueTest {
+
+    /**
+     * Test: claim locks at most N rows and leases them to this node
+     * Given: Owner "node-1", a 2 minute lease and two pending batches
+     * When: claim(10) is called
+     * Then: The SKIP LOCKED select is capped at 10 rows and both ids are leased in one batch
+     */
+    @Test
+    @DisplayName("claim: caps locked rows and leases claimed ids in one batch")
+    @SuppressWarnings("unchecked")
+    void claim_leasesClaimedRows() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(new ArrayList<>(List.of(7L, 9L)));
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, properties("node-1"), new ThBatchRetryProperties());
+
+        List<Long> ids = queue.claim(10);
+
+        assertThat(ids).containsExactly(7L, 9L);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(ThBatchWorkQueue.CLAIM_SELECT)).thenReturn(statement);
+        creator.getValue().createPreparedStatement(connection);
+        verify(statement).setMaxRows(10);
+        assertThat(ThBatchWorkQueue.CLAIM_SELECT)
+                .contains("next_attempt_dat END) <= CAST(SYSTIMESTAMP AS TIMESTAMP)", "FOR UPDATE SKIP LOCKED")
+                .doesNotContain("< SYSTIMESTAMP")
+                .doesNotContain("ORDER BY");
+
+        ArgumentCaptor<List<Object[]>> leases = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(ThBatchWorkQueue.CLAIM_LEASE), leases.capture());
+        assertThat(leases.getValue()).containsExactly(
+                new Object[]{"node-1", 120L, 7L},
+                new Object[]{"node-1", 120L, 9L});
+    }
+
+    /**
+     * Test: nothing pending means no lease update
+     * Given: The select returns no rows
+     * When: claim(10) is called
+     * Then: Returns an empty list without a batch update
+     */
+    @Test
+    @DisplayName("claim: skips the lease update when nothing is pending")
+    @SuppressWarnings("unchecked")
+    void claim_nothingPending() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(new ArrayList<>());
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, properties("node-1"), new ThBatchRetryProperties());
+
+        assertThat(queue.claim(10)).isEmpty();
+        assertThat(queue.claim(0)).isEmpty();
+        verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowMapper.class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    /**
+     * Test: completion is one owner-guarded UPDATE per IN-list chunk
+     * Given: 1500 claimed ids
+     * When: markSynced is called
+     * Then: Two UPDATE statements are executed (1000 + 500 ids)
+     */
+    @Test
+    @DisplayName("markSynced: issues one set-based update per 1000 ids")
+    void markSynced_chunked() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1000, 500);
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, properties("node-1"), new ThBatchRetryProperties());
+        List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+
+        assertThat(queue.markSynced(ids)).isEqualTo(1500);
+        verify(jdbcTemplate, times(2)).update(any(PreparedStatementCreator.class));
+        assertThat(ThBatchWorkQueue.MARK_SYNCED).contains("lease_owner = :owner");
+    }
+
+    /**
+     * Test: sync then publish completes both steps under one lease
+     * Given: A batch leased to "node-1" that is neither synchronized nor published
+     * When: markSynced and then markPublished are called
+     * Then: The lease is kept after the sync, so the publish matches the owner; both flags end as 'Y'
+     * and the lease is released
+     */
+    @Test
+    @DisplayName("markSynced/markPublished: lease is released only once both steps are done")
+    void markSyncedThenPublished_completesBoth() {
+        BatchRow row = new BatchRow("node-1");
+        NamedParameterJdbcTemplate namedJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(namedJdbcTemplate.update(anyString(), any(MapSqlParameterSource.class)))
+                .thenAnswer(invocation -> row.update(invocation.getArgument(0), invocation.getArgument(1)));
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(mock(JdbcTemplate.class), namedJdbcTemplate,
+                properties("node-1"), new ThBatchRetryProperties());
+
+        assertThat(queue.markSynced(List.of(1L))).isEqualTo(1);
+        assertThat(row.leaseOwner).isEqualTo("node-1");
+        assertThat(queue.markPublished(List.of(1L))).isEqualTo(1);
+
+        assertThat(row.status).containsEntry("sync_status", "Y").containsEntry("event_status", "Y");
+        assertThat(row.leaseOwner).isNull();
+    }
+
+    /**
+     * Test: empty completion issues no statement
+     * Given: No ids
+     * When: markPublished and release are called
+     * Then: The database is not touched
+     */
+    @Test
+    @DisplayName("markPublished/release: no statement for empty ids")
+    void completion_emptyIds() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, properties("node-1"), new ThBatchRetryProperties());
+
+        assertThat(queue.markPublished(List.of())).isZero();
+        assertThat(queue.release(List.of())).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    /**
+     * Test: failures are split into exhausted and rescheduled batches in two set-based updates
+     * Given: Max 5 attempts, 10s initial delay, 2x multiplier, 10m cap and jitter configured above 1
+     * When: markFailed is called with FAILED_THUNDERHEAD
+     * Then: The exhausted update runs first, the retry update gets the backoff binds in seconds and clamped jitter
+     */
+    @Test
+    @DisplayName("markFailed: reschedules with backoff binds and reports exhausted batches")
+    void markFailed_backoffBinds() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        NamedParameterJdbcTemplate namedJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        when(namedJdbcTemplate.update(eq(ThBatchWorkQueue.MARK_EXHAUSTED), any(MapSqlParameterSource.class))).thenReturn(1);
+        when(namedJdbcTemplate.update(eq(ThBatchWorkQueue.MARK_RETRY), any(MapSqlParameterSource.class))).thenReturn(2);
+        ThBatchRetryProperties retry = new ThBatchRetryProperties();
+        retry.setMaxAttempts(5);
+        retry.setInitialDelay(Duration.ofSeconds(10));
+        retry.setMaxDelay(Duration.ofMinutes(10));
+        retry.setJitter(1.5);
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, namedJdbcTemplate, properties("node-1"), retry);
+
+        ThBatchWorkQueue.FailureOutcome outcome = queue.markFailed(List.of(1L, 2L, 3L), BatchStatus.FAILED_THUNDERHEAD);
+
+        assertThat(outcome).isEqualTo(new ThBatchWorkQueue.FailureOutcome(2, 1));
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(namedJdbcTemplate).update(eq(ThBatchWorkQueue.MARK_RETRY), params.capture());
+        assertThat(params.getValue().getValues())
+                .containsEntry("owner", "node-1")
+                .containsEntry("ids", List.of(1L, 2L, 3L))
+                .containsEntry("status", "FAILED_THUNDERHEAD")
+                .containsEntry("statusType", BatchStatus.REF_DATA_TYPE)
+                .containsEntry("maxAttempts", 5)
+                .containsEntry("initialDelay", 10.0)
+                .containsEntry("maxDelay", 600.0)
+                .containsEntry("multiplier", 2.0)
+                .containsEntry("jitter", 1.0);
+        assertThat(ThBatchWorkQueue.MARK_RETRY).contains("retry_count + 1 < :maxAttempts");
+        assertThat(ThBatchWorkQueue.MARK_EXHAUSTED).contains("next_attempt_dat = NULL", "retry_count + 1 >= :maxAttempts");
+    }
+
+    /**
+     * Test: only failed statuses are accepted
+     * Given: A queue
+     * When: markFailed is called with COMPLETED
+     * Then: IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("markFailed: rejects non-failed status")
+    void markFailed_rejectsStatus() {
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(mock(JdbcTemplate.class), properties("node-1"), new ThBatchRetryProperties());
+
+        assertThatThrownBy(() -> queue.markFailed(List.of(1L), BatchStatus.COMPLETED))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Test: leases held by this node are released on shutdown
+     * Given: A blank owner property
+     * When: destroy is called
+     * Then: The generated pid@host owner is used to release all leases
+     */
+    @Test
+    @DisplayName("destroy: releases all leases of the generated owner")
+    void destroy_releasesAll() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        ThBatchWorkQueue queue = new ThBatchWorkQueue(jdbcTemplate, properties(" "), new ThBatchRetryProperties());
+
+        queue.destroy();
+
+        assertThat(queue.getOwner()).startsWith(ProcessHandle.current().pid() + "@");
+        verify(jdbcTemplate).update(ThBatchWorkQueue.RELEASE_ALL, queue.getOwner());
+    }
+
+    /**
+     * One TBOM_TH_BATCHES row applying the completion UPDATEs: sets the flag in the SET clause and clears
+     * the lease unconditionally or, for {@code CASE WHEN <flag> = 'Y' THEN NULL}, by the flag value before
+     * the update (Oracle evaluates all SET expressions against the old row).
+     */
+    private static final class BatchRow {
+
+        private static final Pattern SET_FLAG = Pattern.compile("SET (\\w+) = 'Y'");
+        private static final Pattern CONDITIONAL_RELEASE = Pattern.compile("lease_owner = CASE WHEN (\\w+) = 'Y' THEN NULL");
+
+        private final Map<String, String> status = new HashMap<>(Map.of("sync_status", "N", "event_status", "N"));
+        private String leaseOwner;
+
+        private BatchRow(String leaseOwner) {
+            this.leaseOwner = leaseOwner;
+        }
+
+        private int update(String sql, MapSqlParameterSource params) {
+            if (!Objects.equals(leaseOwner, params.getValue("owner"))) {
+                return 0;
+            }
+            Matcher flag = SET_FLAG.matcher(sql);
+            assertThat(flag.find()).isTrue();
+            Matcher conditional = CONDITIONAL_RELEASE.matcher(sql);
+            boolean release = conditional.find() ? "Y".equals(status.get(conditional.group(1))) : sql.contains("lease_owner = NULL");
+            status.put(flag.group(1), "Y");
+            if (release) {
+                leaseOwner = null;
+            }
+            return 1;
+        }
+    }
+
+    private static ThBatchQueueProperties properties(String owner) {
+        ThBatchQueueProperties properties = new ThBatchQueueProperties();
+        properties.setOwner(owner);
+        properties.setLeaseDuration(Duration.ofMinutes(2));
+        return properties;
+    }
+}
@@ -0,0 +1,70 @@
+package com.shdev.omsdatabase.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuditContext} verifying capture per transaction and per batch.
+ */
+@DisplayName("AuditContext unit tests")
+class AuditContextTest {
+
+    @AfterEach
+    void cleanUp() {
+        MDC.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(AuditContext.class);
+    }
+
+    /**
+     * Test: the MDC is read once per transaction
+     * Given: Active transaction synchronization and an MDC user that changes mid-transaction
+     * When: current is called before and after the change, and after completion
+     * Then: Both calls in the transaction return the first user; the binding is gone after completion
+     */
+    @Test
+    @DisplayName("current: captures the MDC once per transaction")
+    void current_capturedPerTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        MDC.put("userIdHeader", "first");
+
+        AuditContext captured = AuditContext.current();
+        MDC.put("userIdHeader", "second");
+
+        assertThat(AuditContext.current()).isSameAs(captured);
+        assertThat(captured.headerUid()).isEqualTo("first");
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(TransactionSynchronizationManager.hasResource(AuditContext.class)).isFalse();
+    }
+
+    /**
+     * Test: a batch reuses one captured context and reads the MDC again afterwards
+     * Given: No transaction and an MDC user that changes inside the batch
+     * When: current is called inside callWith and after it
+     * Then: Inside the batch the captured user is returned, afterwards the MDC is read per call
+     */
+    @Test
+    @DisplayName("callWith: captures the MDC once per batch")
+    void callWith_capturedPerBatch() {
+        MDC.put("userIdHeader", "batchUser");
+        MDC.put("userIdToken", " ");
+
+        AuditContext inside = AuditContext.callWith(() -> {
+            MDC.put("userIdHeader", "other");
+            return AuditContext.current();
+        });
+
+        assertThat(inside).isEqualTo(new AuditContext("batchUser", null));
+        assertThat(AuditContext.current().headerUid()).isEqualTo("other");
+    }
+}
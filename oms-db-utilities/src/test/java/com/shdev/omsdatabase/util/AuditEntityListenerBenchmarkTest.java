@@ -0,0 +1,80 @@
+package com.shdev.omsdatabase.util;
+
+import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import com.shdev.omsdatabase.entity.base.TimestampedEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-row cost of {@link AuditEntityListener#prePersist(Object)} over a 100k-row insert, with the
+ * audit context read from the MDC per row and captured once per batch. Wall-clock timing is
+ * machine dependent, so it only runs with {@code -Doms.benchmark=true} and only logs the results:
+ * {@code mvn -pl oms-db-utilities test -Dtest=AuditEntityListenerBenchmarkTest -Doms.benchmark=true}.
+ */
+@DisplayName("AuditEntityListener benchmark")
+@EnabledIfSystemProperty(named = "oms.benchmark", matches = "true")
+class AuditEntityListenerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEntityListenerBenchmarkTest.class);
+    private static final int ROWS = 100_000;
+    private static final int ROUNDS = 10;
+
+    private final AuditEntityListener listener = new AuditEntityListener();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    /**
+     * Test: per-row prePersist cost for 100k mixed entities
+     * Given: MDC user IDs and 100k new document request and reference data entities per round
+     * When: prePersist runs for every row, warmed up, with per-row MDC reads and within one batch
+     * Then: Every row is audited; nanoseconds per row are logged for both modes
+     */
+    @Test
+    @DisplayName("prePersist: per-row cost over 100k rows")
+    void prePersist_perRowCost() {
+        MDC.put("userIdHeader", "hdrUser");
+        MDC.put("userIdToken", "tokUser");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            List<TimestampedEntity> perRow = entities();
+            long perRowNanos = time(() -> perRow.forEach(listener::prePersist));
+            List<TimestampedEntity> batched = entities();
+            long batchNanos = time(() -> AuditContext.callWith(() -> {
+                batched.forEach(listener::prePersist);
+                return null;
+            }));
+            log.info("Round {}: {} rows, MDC per row {} ns/row, captured per batch {} ns/row",
+                    round + 1, ROWS, perRowNanos / ROWS, batchNanos / ROWS);
+            assertThat(((DocumentRequestEntity) batched.getFirst()).getCreateUidToken()).isEqualTo("tokUser");
+            assertThat(((ReferenceDataEntity) batched.getLast()).getLastUpdateUid()).isEqualTo("hdrUser");
+        }
+    }
+
+    private static List<TimestampedEntity> entities() {
+        List<TimestampedEntity> entities = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            entities.add(i % 2 == 0 ? DocumentRequestEntity.builder().build() : ReferenceDataEntity.builder().build());
+        }
+        return entities;
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return System.nanoTime() - start;
+    }
+}
@@ -2,6 +2,8 @@ package com.shdev.omsdatabase.util;
 
 import com.shdev.omsdatabase.entity.DocumentConfigEntity;
 import com.shdev.omsdatabase.entity.DocumentRequestEntity;
+import com.shdev.omsdatabase.entity.ReferenceDataEntity;
+import com.shdev.omsdatabase.entity.ThBatchEntity;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -71,4 +73,33 @@ class AuditEntityListenerMdcTest {
         new AuditEntityListener().preUpdate(e2);
         assertEquals("genericUser2", e2.getLastUpdateUid());
     }
+
+    /**
+     * Test: audit fields follow the audit base class
+     * Given: ThBatchEntity (dual create UIDs) and ReferenceDataEntity (create and update UID)
+     * When: prePersist and preUpdate are called with MDC values
+     * Then: Each entity gets the fields of its base class; an existing creator is kept
+     */
+    @Test
+    @DisplayName("prePersist and preUpdate: apply the fields of the audit base class")
+    void prePersist_and_preUpdate_follow_base_class() {
+        MDC.put("userIdHeader", "hdrUser");
+        MDC.put("userIdToken", "tokUser");
+        ThBatchEntity batch = ThBatchEntity.builder().build();
+        ReferenceDataEntity referenceData = ReferenceDataEntity.builder().build();
+        referenceData.setCreateUid("seed");
+
+        new AuditEntityListener().prePersist(batch);
+        new AuditEntityListener().prePersist(referenceData);
+        assertEquals("hdrUser", batch.getCreateUidHeader());
+        assertEquals("tokUser", batch.getCreateUidToken());
+        assertEquals("seed", referenceData.getCreateUid());
+        assertEquals("hdrUser", referenceData.getLastUpdateUid());
+
+        MDC.put("userIdHeader", "updater");
+        new AuditEntityListener().preUpdate(batch);
+        new AuditEntityListener().preUpdate(referenceData);
+        assertEquals("hdrUser", batch.getCreateUidHeader());
+        assertEquals("updater", referenceData.getLastUpdateUid());
+    }
 }
@@ -0,0 +1,49 @@
+package com.shdev.omsdatabase.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link InClauseUtils} verifying IN-list chunking.
+ */
+@DisplayName("InClauseUtils unit tests")
+class InClauseUtilsTest {
+
+    /**
+     * Test: values are split at the Oracle IN-list limit
+     * Given: 2500 distinct values
+     * When: chunks is called
+     * Then: Returns chunks of 1000, 1000 and 500 values
+     */
+    @Test
+    @DisplayName("chunks: splits at the Oracle IN-list limit")
+    void chunks_splitsAtLimit() {
+        List<Integer> values = IntStream.range(0, 2500).boxed().toList();
+
+        List<List<Integer>> chunks = InClauseUtils.chunks(values);
+
+        assertThat(chunks).extracting(List::size).containsExactly(1000, 1000, 500);
+        assertThat(chunks.get(2).getLast()).isEqualTo(2499);
+    }
+
+    /**
+     * Test: duplicates and nulls are removed
+     * Given: Values with duplicates and nulls
+     * When: chunks is called
+     * Then: Returns distinct non-null values in encounter order
+     */
+    @Test
+    @DisplayName("chunks: removes duplicates and nulls")
+    void chunks_distinctNonNull() {
+        assertThat(InClauseUtils.chunks(Arrays.asList("b", null, "a", "b"), 10)).containsExactly(List.of("b", "a"));
+        assertThat(InClauseUtils.chunks(List.of())).isEmpty();
+        assertThatThrownBy(() -> InClauseUtils.chunks(List.of("a"), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.shdev.omsdatabase.util;
+
+import com.shdev.omsdatabase.dto.DocumentRequestIngestDto.MetadataEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MetadataJson} verifying the compact metadata document layout.
+ */
+@DisplayName("MetadataJson unit tests")
+class MetadataJsonTest {
+
+    /**
+     * Test: entries are written keyed by metadata key id in ascending order
+     * Given: Three entries, one key repeated
+     * When: write is called
+     * Then: The document has string values, an array for the repeated key and sorted keys
+     */
+    @Test
+    @DisplayName("write: compact object keyed by metadata key id")
+    void write_layout() {
+        String json = MetadataJson.write(List.of(
+                new MetadataEntry(15L, "C-42"),
+                new MetadataEntry(12L, "POL-1"),
+                new MetadataEntry(15L, "C-43")));
+
+        assertThat(json).isEqualTo("{\"12\":\"POL-1\",\"15\":[\"C-42\",\"C-43\"]}");
+    }
+
+    /**
+     * Test: a written document reads back to the same entries
+     * Given: A document written from entries
+     * When: read is called
+     * Then: All entries are returned in key order, repeated values in encounter order
+     */
+    @Test
+    @DisplayName("read: round trip of write")
+    void read_roundTrip() {
+        List<MetadataEntry> entries = List.of(
+                new MetadataEntry(12L, "POL-1"),
+                new MetadataEntry(15L, "C-42"),
+                new MetadataEntry(15L, "C-43"));
+
+        assertThat(MetadataJson.read(MetadataJson.write(entries))).containsExactlyElementsOf(entries);
+    }
+
+    /**
+     * Test: empty and invalid documents
+     * Given: No entries, a null document and a malformed document
+     * When: write/read are called
+     * Then: write returns null, read returns an empty list or throws UncheckedIOException
+     */
+    @Test
+    @DisplayName("write/read: empty and invalid input")
+    void emptyAndInvalid() {
+        assertThat(MetadataJson.write(List.of())).isNull();
+        assertThat(MetadataJson.read(null)).isEmpty();
+        assertThatThrownBy(() -> MetadataJson.read("{\"12\":")).isInstanceOf(UncheckedIOException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.shdev.omsdatabase.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PayloadCompression} verifying round trips, content hashing and the size
+ * effect on representative payloads. The latency measurement only runs with {@code -Doms.benchmark=true}:
+ * {@code mvn -pl oms-db-utilities test -Dtest=PayloadCompressionTest -Doms.benchmark=true}.
+ */
+@DisplayName("PayloadCompression unit tests")
+class PayloadCompressionTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadCompressionTest.class);
+    private static final int ROUNDS = 20;
+
+    /**
+     * Test: compress and decompress round trip
+     * Given: A payload with non-ASCII characters
+     * When: The payload is compressed and read back via decompress and reader
+     * Then: The original text is returned and the original length counts UTF-8 bytes
+     */
+    @Test
+    @DisplayName("compress/decompress: round trip preserves text")
+    void roundTrip() throws Exception {
+        String payload = "{\"city\":\"Zürich\",\"amount\":\"€ 10\"}";
+
+        PayloadCompression.Compressed compressed = PayloadCompression.compress(payload, 6);
+
+        assertThat(PayloadCompression.decompress(compressed.data())).isEqualTo(payload);
+        try (Reader reader = PayloadCompression.reader(new ByteArrayInputStream(compressed.data()))) {
+            assertThat(new String(readAll(reader))).isEqualTo(payload);
+        }
+        assertThat(compressed.originalLength()).isEqualTo(payload.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * Test: hash identifies the content independent of compression level and source
+     * Given: The same payload compressed from a String and a Reader at different levels
+     * When: compress is called
+     * Then: The hashes are equal, 64 hex characters, and differ for other content
+     */
+    @Test
+    @DisplayName("compress: hash depends on content only")
+    void hash_contentOnly() {
+        String hash = PayloadCompression.compress("<a>1</a>", 1).hash();
+
+        assertThat(PayloadCompression.compress(new StringReader("<a>1</a>"), 9).hash()).isEqualTo(hash);
+        assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+        assertThat(PayloadCompression.compress("<a>2</a>", 1).hash()).isNotEqualTo(hash);
+    }
+
+    /**
+     * Test: representative XML payloads shrink substantially
+     * Given: A 2 MB XML payload shaped like OMS requests
+     * When: It is compressed at the default level
+     * Then: The stored size is less than a fifth of the original and it decompresses to the same size
+     */
+    @Test
+    @DisplayName("compress: shrinks a representative XML payload to under a fifth")
+    void compress_xmlRatio() {
+        String xml = xmlPayload(2 * 1024 * 1024);
+
+        PayloadCompression.Compressed compressed = PayloadCompression.compress(xml, Deflater.DEFAULT_COMPRESSION);
+
+        assertThat(compressed.data().length).isLessThan((int) (compressed.originalLength() / 5));
+        assertThat(PayloadCompression.decompress(compressed.data())).hasSameSizeAs(xml);
+    }
+
+    /**
+     * Test: storage size and CPU cost on representative payloads
+     * Given: A 2 MB XML payload and a 1 KB JSON payload shaped like OMS requests
+     * When: They are compressed at the default level and decompressed 20 times each
+     * Then: Ratios and average timings are logged for the README. Wall-clock timing is machine
+     * dependent, so it only runs with {@code -Doms.benchmark=true}
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "oms.benchmark", matches = "true")
+    @DisplayName("compress: size and latency on representative payloads")
+    void sizeAndLatency() {
+        for (String[] sample : new String[][]{{"xml", xmlPayload(2 * 1024 * 1024)}, {"json", jsonPayload()}}) {
+            String payload = sample[1];
+            PayloadCompression.Compressed compressed = PayloadCompression.compress(payload, Deflater.DEFAULT_COMPRESSION);
+            long compressNanos = 0;
+            long decompressNanos = 0;
+            for (int i = 0; i < ROUNDS; i++) {
+                long start = System.nanoTime();
+                compressed = PayloadCompression.compress(payload, Deflater.DEFAULT_COMPRESSION);
+                compressNanos += System.nanoTime() - start;
+                start = System.nanoTime();
+                assertThat(PayloadCompression.decompress(compressed.data())).hasSameSizeAs(payload);
+                decompressNanos += System.nanoTime() - start;
+            }
+            log.info("{}: {} -> {} bytes (ratio {}), compress {} ms, decompress {} ms",
+                    sample[0], compressed.originalLength(), compressed.data().length,
+                    String.format("%.3f", (double) compressed.data().length / compressed.originalLength()),
+                    String.format("%.2f", compressNanos / ROUNDS / 1e6), String.format("%.2f", decompressNanos / ROUNDS / 1e6));
+        }
+    }
+
+    private static String xmlPayload(int size) {
+        StringBuilder xml = new StringBuilder(size + 256).append("<request><policies>");
+        for (int i = 0; xml.length() < size; i++) {
+            xml.append("<policy><number>P-").append(100000 + i * 7919 % 900000)
+                    .append("</number><holder>Customer ").append(i % 997)
+                    .append("</holder><country>").append(i % 3 == 0 ? "NL" : "DE")
+                    .append("</country><limit currency=\"EUR\">").append(i * 37 % 1_000_000)
+                    .append("</limit><status>ACTIVE</status></policy>");
+        }
+        return xml.append("</policies></request>").toString();
+    }
+
+    private static String jsonPayload() {
+        StringBuilder json = new StringBuilder("{\"source\":\"ATRADIUS_ONLINE\",\"type\":\"LETTER\",\"metadata\":[");
+        for (int i = 0; i < 30; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"key\":\"KEY_").append(i).append("\",\"value\":\"value-").append(i * 31).append("\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static char[] readAll(Reader reader) throws IOException {
+        CharArrayWriter writer = new CharArrayWriter();
+        reader.transferTo(writer);
+        return writer.toCharArray();
+    }
+}
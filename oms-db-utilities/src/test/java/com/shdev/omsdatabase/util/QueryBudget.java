@@ -0,0 +1,82 @@
+package com.shdev.omsdatabase.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Test-time assertion that a block of code stays within a maximum number of SQL statements,
+ * e.g. to catch N+1 selects when mapping lazy associations to DTOs.
+ * <p>
+ * Requires {@link QueryCountInspector} to be registered with Hibernate. Only statements prepared
+ * on the calling thread are counted; the block should run inside a transaction so lazy loads are
+ * part of it.
+ *
+ * <pre>
+ *     List&lt;DocumentRequestOutDto&gt; dtos = QueryBudget.assertAtMost(1, () -&gt;
+ *             repository.findWithReferencesByIdIn(ids).stream().map(mapper::toDto).toList());
+ * </pre>
+ *
+ * @author Shailesh Halor
+ */
+@UtilityClass
+public class QueryBudget {
+
+    /**
+     * Run the action and fail if it executes more than {@code maxStatements} SQL statements.
+     *
+     * @param maxStatements the statement budget, at least 0
+     * @param action        the code under test
+     * @param <T>           the result type
+     * @return the result of the action
+     * @throws AssertionError        if the budget is exceeded; the message lists the statements
+     * @throws IllegalStateException if {@link QueryCountInspector} is not registered
+     */
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        if (maxStatements < 0) {
+            throw new IllegalArgumentException("Query budget must not be negative: " + maxStatements);
+        }
+        if (!QueryCountInspector.isRegistered()) {
+            throw new IllegalStateException("QueryCountInspector is not registered, set "
+                    + "hibernate.session_factory.statement_inspector=" + QueryCountInspector.class.getName());
+        }
+        List<String> previous = QueryCountInspector.start();
+        T result;
+        List<String> statements;
+        try {
+            result = action.get();
+        } finally {
+            statements = QueryCountInspector.stop(previous);
+        }
+        if (statements.size() > maxStatements) {
+            throw new AssertionError(describe(maxStatements, statements));
+        }
+        return result;
+    }
+
+    /**
+     * Run the action and fail if it executes more than {@code maxStatements} SQL statements.
+     *
+     * @param maxStatements the statement budget, at least 0
+     * @param action        the code under test
+     * @throws AssertionError        if the budget is exceeded; the message lists the statements
+     * @throws IllegalStateException if {@link QueryCountInspector} is not registered
+     */
+    public static void assertAtMost(int maxStatements, Runnable action) {
+        assertAtMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static String describe(int maxStatements, List<String> statements) {
+        StringBuilder message = new StringBuilder("Query budget exceeded: expected at most ")
+                .append(maxStatements).append(" statement(s) but ").append(statements.size())
+                .append(" were executed");
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator()).append("  ").append(i + 1).append(". ").append(statements.get(i));
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.shdev.omsdatabase.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link QueryBudget} verifying statement counting through {@link QueryCountInspector}.
+ */
+@DisplayName("QueryBudget unit tests")
+class QueryBudgetTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    /**
+     * Test: statements within the budget pass
+     * Given: An action preparing two statements
+     * When: assertAtMost is called with a budget of 2
+     * Then: Returns the action result
+     */
+    @Test
+    @DisplayName("assertAtMost: returns the result within budget")
+    void assertAtMost_withinBudget() {
+        String result = QueryBudget.assertAtMost(2, () -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+    }
+
+    /**
+     * Test: exceeding the budget fails with the executed statements
+     * Given: An action preparing one select per row (N+1)
+     * When: assertAtMost is called with a budget of 1
+     * Then: AssertionError lists all statements
+     */
+    @Test
+    @DisplayName("assertAtMost: fails and lists statements when budget is exceeded")
+    void assertAtMost_exceeded() {
+        assertThatThrownBy(() -> QueryBudget.assertAtMost(1, () -> {
+            inspector.inspect("select r from request r");
+            inspector.inspect("select d from reference_data d where id=1");
+            inspector.inspect("select d from reference_data d where id=2");
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("at most 1 statement(s) but 3 were executed")
+                .hasMessageContaining("3. select d from reference_data d where id=2");
+    }
+
+    /**
+     * Test: nested budgets count towards the enclosing budget and statements outside are ignored
+     * Given: A statement outside any budget and a nested budget inside an outer one
+     * When: The outer budget is 2 and the nested block prepares 2 statements plus 1 outer statement
+     * Then: The outer budget fails with 3 statements
+     */
+    @Test
+    @DisplayName("assertAtMost: nested budgets roll up, statements outside are ignored")
+    void assertAtMost_nested() {
+        inspector.inspect("select outside");
+
+        assertThatThrownBy(() -> QueryBudget.assertAtMost(2, () -> {
+            inspector.inspect("select a");
+            QueryBudget.assertAtMost(2, () -> {
+                inspector.inspect("select b");
+                inspector.inspect("select c");
+            });
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("but 3 were executed")
+                .hasMessageNotContaining("outside");
+        assertThat(inspector.inspect("select after")).isEqualTo("select after");
+    }
+}
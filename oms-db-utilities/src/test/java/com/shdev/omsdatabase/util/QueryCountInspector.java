@@ -0,0 +1,78 @@
+package com.shdev.omsdatabase.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate {@link StatementInspector} recording the SQL prepared on the current thread while a
+ * {@link QueryBudget} is open. Outside a budget it only returns the statement unchanged.
+ * <p>
+ * Register it in test configuration of the host service:
+ * <pre>
+ *     spring.jpa.properties.hibernate.session_factory.statement_inspector=com.shdev.omsdatabase.util.QueryCountInspector
+ * </pre>
+ *
+ * @author Shailesh Halor
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    private static volatile boolean registered;
+
+    /**
+     * Created by Hibernate when the session factory is built.
+     */
+    public QueryCountInspector() {
+        registered = true;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Whether Hibernate has instantiated this inspector in the current JVM.
+     *
+     * @return true once an inspector instance exists
+     */
+    static boolean isRegistered() {
+        return registered;
+    }
+
+    /**
+     * Start recording statements on the current thread.
+     *
+     * @return the recorder that was active before, to be passed to {@link #stop(List)}
+     */
+    static List<String> start() {
+        List<String> previous = RECORDED.get();
+        RECORDED.set(new ArrayList<>());
+        return previous;
+    }
+
+    /**
+     * Stop recording on the current thread and restore the enclosing recorder, if any.
+     * Statements of the finished recording also count towards the enclosing one.
+     *
+     * @param previous the recorder returned by {@link #start()}
+     * @return the statements recorded since {@link #start()}, in execution order
+     */
+    static List<String> stop(List<String> previous) {
+        List<String> recorded = RECORDED.get();
+        if (previous == null) {
+            RECORDED.remove();
+        } else {
+            previous.addAll(recorded);
+            RECORDED.set(previous);
+        }
+        return List.copyOf(recorded);
+    }
+}
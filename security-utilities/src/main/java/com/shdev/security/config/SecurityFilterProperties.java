@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,6 +24,16 @@ public class SecurityFilterProperties {
      */
     private String tokenValidationUrl = "http://localhost:8090/oauth2/rest/token/info";
 
+    /**
+     * Connection timeout for token validation calls.
+     */
+    private Duration validationConnectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Response timeout for token validation calls.
+     */
+    private Duration validationReadTimeout = Duration.ofSeconds(10);
+
     /**
      * Paths to exclude from JWT and header validation.
      */
@@ -32,5 +43,16 @@ public class SecurityFilterProperties {
      * Whether to enforce strict header validation (require all Atradius headers).
      */
     private boolean strictHeaderMode = true;
+
+    /**
+     * Maximum accepted length for validated origin and identity-domain headers; 0 disables the check.
+     */
+    private int headerMaxLength = 0;
+
+    /**
+     * Regular expression that validated origin and identity-domain header values must match;
+     * empty disables the check.
+     */
+    private String headerPattern;
 }
 
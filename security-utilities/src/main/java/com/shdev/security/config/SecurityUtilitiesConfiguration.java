@@ -1,25 +1,31 @@
 package com.shdev.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shdev.common.constants.HeaderConstants;
+import com.shdev.common.util.HeaderSpec;
 import com.shdev.security.filter.JwtAuthenticationFilter;
 import com.shdev.security.filter.OriginHeadersFilter;
 import com.shdev.security.handler.CustomAccessDeniedHandler;
 import com.shdev.security.handler.CustomAuthenticationEntryPoint;
 import com.shdev.security.service.JwtValidationService;
+import com.shdev.security.util.ValidationHttpClientFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for security utilities.
  * Provides necessary beans for JWT authentication and header validation.
+ * Contributes {@link SecurityUtilitiesRuntimeHints} for GraalVM native images.
  *
  * @author Shailesh Halor
  */
 @Configuration
+@ImportRuntimeHints(SecurityUtilitiesRuntimeHints.class)
 @EnableConfigurationProperties(SecurityFilterProperties.class)
 @RequiredArgsConstructor
 public class SecurityUtilitiesConfiguration {
@@ -29,11 +35,15 @@ public class SecurityUtilitiesConfiguration {
     /**
      * Provides RestTemplate bean if not already present.
      * Used for calling security-service token validation endpoint.
+     * Backed by the JDK HttpClient so that validation calls do not pin carrier threads
+     * when the application runs with virtual threads enabled.
      */
     @Bean
     @ConditionalOnMissingBean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        return new RestTemplate(ValidationHttpClientFactory.create(
+                properties.getValidationConnectTimeout(),
+                properties.getValidationReadTimeout()));
     }
 
     /**
@@ -63,19 +73,27 @@ public class SecurityUtilitiesConfiguration {
         return new JwtAuthenticationFilter(
                 jwtValidationService,
                 properties.getTokenValidationUrl(),
-                properties.getExcludedPaths()
+                properties.getExcludedPaths(),
+                HeaderSpec.builder()
+                        .header(HeaderConstants.OAUTH_IDENTITY_DOMAIN_NAME, false,
+                                properties.getHeaderMaxLength(), properties.getHeaderPattern())
+                        .build()
         );
     }
 
     /**
      * Provides OriginHeadersFilter bean.
-     * This filter validates Atradius origin headers.
+     * This filter validates Atradius origin headers against a spec compiled once from
+     * strict mode, max length and pattern settings.
      */
     @Bean
     public OriginHeadersFilter originHeadersFilter() {
         return new OriginHeadersFilter(
                 properties.getExcludedPaths(),
-                properties.isStrictHeaderMode()
+                OriginHeadersFilter.originHeaderSpec(
+                        properties.isStrictHeaderMode(),
+                        properties.getHeaderMaxLength(),
+                        properties.getHeaderPattern())
         );
     }
 
@@ -0,0 +1,24 @@
+package com.shdev.security.config;
+
+import com.shdev.security.dto.TokenInfoDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * GraalVM native-image and Spring AOT runtime hints for security-utilities.
+ * <p>
+ * Registers Jackson binding hints for {@link TokenInfoDto}, which is deserialized from the
+ * security-service token info response.
+ *
+ * @author Shailesh Halor
+ */
+public class SecurityUtilitiesRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(), TokenInfoDto.class);
+    }
+}
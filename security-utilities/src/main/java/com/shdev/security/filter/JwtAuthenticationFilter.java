@@ -1,9 +1,12 @@
 package com.shdev.security.filter;
 
 import com.shdev.common.constants.HeaderConstants;
+import com.shdev.common.util.HeaderSpec;
+import com.shdev.common.util.HeaderValidator;
 import com.shdev.security.authentication.JwtAuthenticationToken;
 import com.shdev.security.constants.SecurityConstants;
 import com.shdev.security.dto.TokenInfoDto;
+import com.shdev.security.enums.SecurityErrorType;
 import com.shdev.security.exception.TokenValidationException;
 import com.shdev.security.service.JwtValidationService;
 import com.shdev.security.util.JwtTokenUtil;
@@ -38,6 +41,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtValidationService jwtValidationService;
     private final String tokenValidationUrl;
     private final List<String> excludedPaths;
+    private final HeaderSpec headerSpec;
 
     /**
      * Constructor for JwtAuthenticationFilter.
@@ -49,9 +53,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public JwtAuthenticationFilter(JwtValidationService jwtValidationService,
                                    String tokenValidationUrl,
                                    List<String> excludedPaths) {
+        this(jwtValidationService, tokenValidationUrl, excludedPaths,
+                HeaderSpec.builder().optional(HeaderConstants.OAUTH_IDENTITY_DOMAIN_NAME).build());
+    }
+
+    /**
+     * Constructor for JwtAuthenticationFilter with a precompiled spec for the non-token headers.
+     *
+     * @param jwtValidationService Service for validating JWT tokens
+     * @param tokenValidationUrl   security-service token validation endpoint URL
+     * @param excludedPaths        paths to exclude from JWT validation
+     * @param headerSpec           compiled spec for the identity domain header
+     */
+    public JwtAuthenticationFilter(JwtValidationService jwtValidationService,
+                                   String tokenValidationUrl,
+                                   List<String> excludedPaths,
+                                   HeaderSpec headerSpec) {
         this.jwtValidationService = jwtValidationService;
         this.tokenValidationUrl = tokenValidationUrl;
         this.excludedPaths = excludedPaths;
+        this.headerSpec = headerSpec;
     }
 
     @Override
@@ -99,6 +120,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         log.debug("JWT token format validated successfully");
 
+        HeaderSpec.Result headerResult = HeaderValidator.validate(request, headerSpec);
+        if (!headerResult.isValid()) {
+            log.warn("❌ HEADER VALIDATION FAILED - Invalid headers {} for path: {}", headerResult.invalid(), path);
+            SecurityErrorResponseUtil.sendBadRequestError(
+                    response,
+                    SecurityErrorType.INVALID_HEADER_FORMAT.getMessage(),
+                    path);
+            return;
+        }
+
         try {
             String identityDomain = request.getHeader(HeaderConstants.OAUTH_IDENTITY_DOMAIN_NAME);
             log.debug("Identity domain: {}", identityDomain);
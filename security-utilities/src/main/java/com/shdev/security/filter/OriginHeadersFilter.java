@@ -1,7 +1,10 @@
 package com.shdev.security.filter;
 
 import com.shdev.common.constants.HeaderConstants;
+import com.shdev.common.util.HeaderSpec;
+import com.shdev.common.util.HeaderValidator;
 import com.shdev.security.constants.SecurityConstants;
+import com.shdev.security.enums.SecurityErrorType;
 import com.shdev.security.util.SecurityErrorResponseUtil;
 import com.shdev.security.util.SecurityMdcUtil;
 import com.shdev.security.util.PathMatcher;
@@ -11,7 +14,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -27,11 +29,38 @@ public class OriginHeadersFilter extends OncePerRequestFilter {
 
 
     private final List<String> excludedPaths;
-    private final boolean strictMode;
+    private final HeaderSpec headerSpec;
 
     public OriginHeadersFilter(List<String> excludedPaths, boolean strictMode) {
+        this(excludedPaths, originHeaderSpec(strictMode, 0, null));
+    }
+
+    /**
+     * Constructor for OriginHeadersFilter with a precompiled header spec.
+     *
+     * @param excludedPaths paths to exclude from header validation
+     * @param headerSpec    compiled spec for the origin headers
+     */
+    public OriginHeadersFilter(List<String> excludedPaths, HeaderSpec headerSpec) {
         this.excludedPaths = excludedPaths;
-        this.strictMode = strictMode;
+        this.headerSpec = headerSpec;
+    }
+
+    /**
+     * Compile the origin header spec: the three Atradius origin headers, required in strict mode
+     * and optional otherwise, with the given max length and pattern applied to present values.
+     *
+     * @param strictMode whether all origin headers are required
+     * @param maxLength  the maximum accepted length, or 0 for no limit
+     * @param pattern    the allowed value pattern, or null for any value
+     * @return the compiled header spec
+     */
+    public static HeaderSpec originHeaderSpec(boolean strictMode, int maxLength, String pattern) {
+        return HeaderSpec.builder()
+                .header(HeaderConstants.ATRADIUS_ORIGIN_SERVICE, strictMode, maxLength, pattern)
+                .header(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION, strictMode, maxLength, pattern)
+                .header(HeaderConstants.ATRADIUS_ORIGIN_USER, strictMode, maxLength, pattern)
+                .build();
     }
 
     @Override
@@ -53,31 +82,31 @@ public class OriginHeadersFilter extends OncePerRequestFilter {
         log.debug("Path '{}' NOT excluded - Header validation REQUIRED", path);
 
         try {
-            String originService = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE);
-            String originApplication = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION);
-            String originUser = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_USER);
-
-            log.debug("Strict mode: {}", strictMode);
-            log.debug("Origin headers - Service: {}, Application: {}, User: {}",
-                     originService != null, originApplication != null, originUser != null);
-
-            if (strictMode) {
-                if (!StringUtils.hasText(originService) ||
-                    !StringUtils.hasText(originApplication) ||
-                    !StringUtils.hasText(originUser)) {
+            HeaderSpec.Result result = HeaderValidator.validate(request, headerSpec);
 
+            if (!result.isValid()) {
+                if (!result.missing().isEmpty()) {
                     log.warn("❌ HEADER VALIDATION FAILED - Missing required origin headers for path: {}", path);
-                    log.warn("Headers: Service={}, Application={}, User={}",
-                            originService != null, originApplication != null, originUser != null);
-
+                    log.warn("Missing headers: {}", result.missing());
                     SecurityErrorResponseUtil.sendBadRequestError(
                             response,
                             SecurityConstants.ERROR_MISSING_ORIGIN_HEADERS,
                             path);
-                    return;
+                } else {
+                    log.warn("❌ HEADER VALIDATION FAILED - Invalid origin headers for path: {}", path);
+                    log.warn("Invalid headers: {}", result.invalid());
+                    SecurityErrorResponseUtil.sendBadRequestError(
+                            response,
+                            SecurityErrorType.INVALID_HEADER_FORMAT.getMessage(),
+                            path);
                 }
+                return;
             }
 
+            String originService = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE);
+            String originApplication = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION);
+            String originUser = request.getHeader(HeaderConstants.ATRADIUS_ORIGIN_USER);
+
             // Add origin headers to MDC
             SecurityMdcUtil.addOriginHeadersToMdc(originService, originApplication, originUser);
 
@@ -0,0 +1,42 @@
+package com.shdev.security.util;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Factory for the HTTP request factory used by token validation calls.
+ * <p>
+ * Uses the JDK {@link HttpClient} instead of the {@code HttpURLConnection} based default of
+ * {@code RestTemplate}. The JDK client guards its internal state with {@code java.util.concurrent}
+ * locks rather than {@code synchronized} blocks, so a blocking {@code exchange} on a virtual
+ * thread unmounts from its carrier while waiting for the security-service instead of pinning it.
+ * Connections are pooled and reused across requests.
+ *
+ * @author Shailesh Halor
+ */
+public class ValidationHttpClientFactory {
+
+    private ValidationHttpClientFactory() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Create a pinning-free request factory for token validation.
+     *
+     * @param connectTimeout connection timeout
+     * @param readTimeout    response timeout
+     * @return request factory backed by the JDK HttpClient
+     */
+    public static ClientHttpRequestFactory create(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+}
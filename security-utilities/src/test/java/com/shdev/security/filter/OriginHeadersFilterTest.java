@@ -0,0 +1,133 @@
+package com.shdev.security.filter;
+
+import com.shdev.common.constants.HeaderConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OriginHeadersFilter} verifying origin header validation through the compiled header spec.
+ */
+@DisplayName("OriginHeadersFilter unit tests")
+class OriginHeadersFilterTest {
+
+    private static final List<String> EXCLUDED_PATHS = List.of("/actuator/**");
+
+    /**
+     * Test: a missing origin header is rejected in strict mode
+     * Given: A strict filter and a request without Atradius-Origin-User
+     * When: The filter runs
+     * Then: 400 is returned and the chain is not invoked
+     */
+    @Test
+    @DisplayName("doFilter: rejects a missing origin header in strict mode")
+    void doFilter_strictMissingHeader_badRequest() throws Exception {
+        MockHttpServletRequest request = request();
+        request.removeHeader(HeaderConstants.ATRADIUS_ORIGIN_USER);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(true).doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    /**
+     * Test: a blank origin header counts as missing in strict mode
+     * Given: A strict filter and a request with a blank Atradius-Origin-Service
+     * When: The filter runs
+     * Then: 400 is returned and the chain is not invoked
+     */
+    @Test
+    @DisplayName("doFilter: rejects a blank origin header in strict mode")
+    void doFilter_strictBlankHeader_badRequest() throws Exception {
+        MockHttpServletRequest request = request();
+        request.removeHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE);
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE, "  ");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(true).doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    /**
+     * Test: missing and blank origin headers pass in lenient mode
+     * Given: A lenient filter and a request with one blank and one missing origin header
+     * When: The filter runs
+     * Then: The chain is invoked
+     */
+    @Test
+    @DisplayName("doFilter: accepts missing or blank origin headers in lenient mode")
+    void doFilter_lenientMissingHeaders_passes() throws Exception {
+        MockHttpServletRequest request = request();
+        request.removeHeader(HeaderConstants.ATRADIUS_ORIGIN_USER);
+        request.removeHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE);
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE, "");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(false).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    /**
+     * Test: values violating the spec are rejected
+     * Given: A strict filter limited to 10 characters and an overlong origin application
+     * When: The filter runs
+     * Then: 400 is returned and the chain is not invoked
+     */
+    @Test
+    @DisplayName("doFilter: rejects origin headers violating max length")
+    void doFilter_invalidHeader_badRequest() throws Exception {
+        MockHttpServletRequest request = request();
+        request.removeHeader(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION);
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION, "application-name-too-long");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        new OriginHeadersFilter(EXCLUDED_PATHS, OriginHeadersFilter.originHeaderSpec(true, 10, null))
+                .doFilter(request, response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    /**
+     * Test: excluded paths skip validation
+     * Given: A strict filter and an actuator request without origin headers
+     * When: The filter runs
+     * Then: The chain is invoked
+     */
+    @Test
+    @DisplayName("doFilter: skips validation on excluded paths")
+    void doFilter_excludedPath_passes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter(true).doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private static OriginHeadersFilter filter(boolean strictMode) {
+        return new OriginHeadersFilter(EXCLUDED_PATHS, strictMode);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/documents");
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_SERVICE, "oms");
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_APPLICATION, "portal");
+        request.addHeader(HeaderConstants.ATRADIUS_ORIGIN_USER, "user1");
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package com.shdev.security.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shdev.security.dto.TokenInfoDto;
+import com.shdev.security.util.ValidationHttpClientFactory;
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrency tests for {@link JwtValidationService} running on virtual threads against a local
+ * security-service stub.
+ * <p>
+ * Pinning is detected through the JFR {@code jdk.VirtualThreadPinned} event (threshold 0); surefire
+ * runs this module with {@code -Djdk.tracePinnedThreads=short}, so the pinned frames of a failure
+ * appear in the test output. The throughput comparison is machine dependent, so it only runs with
+ * {@code -Doms.benchmark=true} and only logs the results:
+ * {@code mvn -pl security-utilities test -Dtest=JwtValidationServiceVirtualThreadTest -Doms.benchmark=true}.
+ */
+@DisplayName("JwtValidationService virtual thread tests")
+class JwtValidationServiceVirtualThreadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtValidationServiceVirtualThreadTest.class);
+    private static final int PINNING_REQUESTS = 500;
+    private static final int BENCHMARK_REQUESTS = 2000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long STUB_LATENCY_MILLIS = 20;
+    private static final String TOKEN_INFO = """
+            {"sub":"user1","userRole":"ADMIN:USER","domain":"ATRADIUS"}""";
+
+    private static HttpServer stub;
+    private static String validationUrl;
+    private static JwtValidationService service;
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        stub.createContext("/oauth2/rest/token/info", exchange -> {
+            try {
+                Thread.sleep(STUB_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = TOKEN_INFO.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        stub.start();
+        validationUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/oauth2/rest/token/info";
+
+        RestTemplate restTemplate = new RestTemplate(
+                ValidationHttpClientFactory.create(Duration.ofSeconds(5), Duration.ofSeconds(30)));
+        service = new JwtValidationService(restTemplate, new ObjectMapper());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    /**
+     * Test: concurrent validations on virtual threads do not pin carrier threads
+     * Given: A local stub with fixed latency and a JDK HttpClient backed RestTemplate
+     * When: Hundreds of validations run concurrently, one virtual thread each
+     * Then: All succeed and no VirtualThreadPinned event is recorded
+     */
+    @Test
+    @DisplayName("validateToken: concurrent virtual thread validations without pinning")
+    void validateToken_virtualThreads_noPinning() throws Exception {
+        AtomicInteger pinnedEvents = new AtomicInteger();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinnedEvents.incrementAndGet());
+            recording.startAsync();
+
+            run(Executors.newVirtualThreadPerTaskExecutor(), PINNING_REQUESTS);
+            recording.stop();
+        }
+
+        assertThat(pinnedEvents).hasValue(0);
+    }
+
+    /**
+     * Test: throughput comparison with a bounded platform thread pool
+     * Given: The same stub and client
+     * When: The same number of validations run on a fixed platform pool and on virtual threads
+     * Then: Both complete successfully; elapsed times are logged for the README figures
+     */
+    @Test
+    @DisplayName("validateToken: compares virtual thread and bounded platform pool throughput")
+    @EnabledIfSystemProperty(named = "oms.benchmark", matches = "true")
+    void validateToken_throughputComparison() throws Exception {
+        run(Executors.newVirtualThreadPerTaskExecutor(), 100);
+
+        long platformNanos = run(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE), BENCHMARK_REQUESTS);
+        long virtualNanos = run(Executors.newVirtualThreadPerTaskExecutor(), BENCHMARK_REQUESTS);
+
+        log.info("platform pool({}): {} ms, virtual threads: {} ms for {} validations",
+                PLATFORM_POOL_SIZE, TimeUnit.NANOSECONDS.toMillis(platformNanos),
+                TimeUnit.NANOSECONDS.toMillis(virtualNanos), BENCHMARK_REQUESTS);
+    }
+
+    private static long run(ExecutorService executor, int requests) throws Exception {
+        long start = System.nanoTime();
+        List<Future<TokenInfoDto>> results = new ArrayList<>(requests);
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> service.validateToken("token", "ATRADIUS", validationUrl)));
+            }
+            for (Future<TokenInfoDto> result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS).subject()).isEqualTo("user1");
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}